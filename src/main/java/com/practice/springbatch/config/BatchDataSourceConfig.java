@@ -0,0 +1,61 @@
+package com.practice.springbatch.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.batch.BatchDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * batch metadata 를 business 데이터와 다른 DataSource / connection pool 로 분리하는 설정
+ * <p>
+ * batch.datasource.jdbc-url 이 있을 때만 적용된다.
+ * 분리하면 chunk 쓰레드가 business connection 을 기다리는 동안 metadata 갱신이 같은 pool 을 점유하지 않는다.
+ * <ul>
+ *     <li>dataSource (@Primary) : spring.datasource.* 설정으로 만든 business DataSource (Spring Boot 기본과 같음)</li>
+ *     <li>batchDataSource (@BatchDataSource) : batch.datasource.* 설정으로 만든 metadata DataSource.
+ *     JobRepository, JobExplorer 와 spring.batch.jdbc.initialize-schema 가 사용한다.</li>
+ * </ul>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration
+@ConditionalOnProperty(prefix = "batch.datasource", name = "jdbc-url")
+public class BatchDataSourceConfig {
+
+    /**
+     * business 데이터용 DataSource
+     * <p>
+     * 다른 DataSource Bean 이 있으면 Spring Boot 가 기본 DataSource 를 만들지 않으므로 같은 방식으로 직접 만든다.
+     * pool 크기는 spring.datasource.hikari.* 로 지정한다.
+     * @param properties {@link DataSourceProperties}
+     * @return HikariDataSource {@link HikariDataSource}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Primary
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * batch metadata 용 DataSource
+     * <p>
+     * 접속 정보와 pool 크기는 batch.datasource.* (jdbc-url, username, password, driver-class-name, maximum-pool-size) 로 지정한다.
+     * @return HikariDataSource {@link HikariDataSource}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @BatchDataSource
+    @Bean
+    @ConfigurationProperties("batch.datasource")
+    public HikariDataSource batchDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+}
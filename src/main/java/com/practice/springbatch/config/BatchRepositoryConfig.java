@@ -0,0 +1,201 @@
+package com.practice.springbatch.config;
+
+import org.springframework.batch.core.configuration.annotation.BatchConfigurer;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.JobExplorerFactoryBean;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.batch.BatchDataSource;
+import org.springframework.boot.autoconfigure.batch.BatchProperties;
+import org.springframework.boot.autoconfigure.batch.JpaBatchConfigurer;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.transaction.ChainedTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * JobRepository, JobExplorer 설정
+ * <p>
+ * Spring Boot 가 만드는 JpaBatchConfigurer 와 같은 설정에 ExecutionContextSerializer 만 바꿔서 사용한다.
+ * batch.repository.serializer 로 고른다.
+ * <ul>
+ *     <li>binary (기본) : {@link BinaryExecutionContextSerializer}. 기존 JSON row 도 읽을 수 있다.
+ *     Java 직렬화로 저장할 클래스의 package 는 batch.repository.trusted-packages 에 추가한다.</li>
+ *     <li>jackson : Spring Batch 기본 JSON 형식</li>
+ * </ul>
+ * batch.repository.ephemeral-jobs 에 Job 이름을 지정하면 해당 Job 의 StepExecution 은 Job 이 끝날 때 한 번에 저장한다.
+ * ({@link EphemeralJobRepository})
+ * <p>
+ * {@link BatchDataSource} 가 붙은 DataSource 가 있으면({@link BatchDataSourceConfig}) JobRepository, JobExplorer 는 그 DataSource 와
+ * metadata 용 DataSourceTransactionManager 를 사용한다. 이때 Step 의 chunk transaction 은 metadata, business TransactionManager 를
+ * 묶은 {@link ChainedTransactionManager} 로 진행한다.
+ * <ul>
+ *     <li>chunk 안의 StepExecution / ExecutionContext 갱신은 metadata transaction 에 참여하므로 chunk 와 함께 commit / rollback 된다.</li>
+ *     <li>commit 은 business 데이터가 먼저, metadata 가 마지막이다. business commit 이 실패하면 metadata 도 rollback 되어
+ *     재시작할 때 그 chunk 를 다시 처리한다.</li>
+ *     <li>business commit 뒤에 metadata commit 만 실패하면 재시작할 때 이미 commit 된 chunk 를 한 번 더 처리한다. (at-least-once)
+ *     두 DB 를 하나의 transaction 으로 묶는 것이 아니므로 Writer 는 같은 chunk 를 다시 써도 되도록 만들어야 한다.</li>
+ * </ul>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration
+public class BatchRepositoryConfig {
+
+    /**
+     * ExecutionContext 저장 형식을 바꾼 BatchConfigurer
+     * @param properties {@link BatchProperties}
+     * @param dataSource business 데이터용 {@link DataSource}
+     * @param batchDataSource batch metadata 용 {@link DataSource} (없으면 dataSource 사용)
+     * @param transactionManagerCustomizers {@link TransactionManagerCustomizers}
+     * @param entityManagerFactory {@link EntityManagerFactory}
+     * @param serializer ExecutionContext 저장 형식 (binary, jackson)
+     * @param trustedPackages binary 형식에서 Java 직렬화를 허용할 package 목록 (java.lang, java.util, java.time, java.math 외)
+     * @param ephemeralJobs StepExecution 을 Job 이 끝날 때 한 번에 저장할 Job 이름 목록
+     * @return BatchConfigurer {@link BatchConfigurer}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public BatchConfigurer batchConfigurer(BatchProperties properties,
+                                           DataSource dataSource,
+                                           @BatchDataSource ObjectProvider<DataSource> batchDataSource,
+                                           ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers,
+                                           EntityManagerFactory entityManagerFactory,
+                                           @Value("${batch.repository.serializer:binary}") String serializer,
+                                           @Value("${batch.repository.trusted-packages:}") String[] trustedPackages,
+                                           @Value("${batch.repository.ephemeral-jobs:}") String[] ephemeralJobs) {
+        return new SerializerBatchConfigurer(properties, dataSource, batchDataSource.getIfAvailable(),
+                transactionManagerCustomizers.getIfAvailable(), entityManagerFactory, executionContextSerializer(serializer, trustedPackages),
+                new HashSet<>(Arrays.asList(ephemeralJobs)));
+    }
+
+    private ExecutionContextSerializer executionContextSerializer(String serializer, String[] trustedPackages) {
+        switch (serializer) {
+            case "binary":
+                return new BinaryExecutionContextSerializer(trustedPackages);
+            case "jackson":
+                return new Jackson2ExecutionContextStringSerializer();
+            default:
+                throw new IllegalArgumentException("지원하지 않는 batch.repository.serializer 입니다. serializer=" + serializer);
+        }
+    }
+
+    /**
+     * JobRepository, JobExplorer 를 만들 때 ExecutionContextSerializer 를 지정하는 JpaBatchConfigurer
+     * <p>
+     * ephemeralJobNames 가 있으면 JobRepository 를 {@link EphemeralJobRepository} 로 감싼다.
+     * metadataDataSource 가 있으면 JobRepository, JobExplorer 는 그 DataSource 를 사용하고,
+     * Step 의 TransactionManager 는 business 를 먼저, metadata 를 마지막에 commit 하는 ChainedTransactionManager 가 된다.
+     **/
+    static class SerializerBatchConfigurer extends JpaBatchConfigurer {
+
+        private final BatchProperties properties;
+        private final DataSource dataSource;
+        private final DataSource metadataDataSource;
+        private final TransactionManagerCustomizers transactionManagerCustomizers;
+        private final ExecutionContextSerializer serializer;
+        private final Set<String> ephemeralJobNames;
+
+        //JobRepository 와 Step 의 ChainedTransactionManager 가 함께 사용하는 metadata TransactionManager
+        private DataSourceTransactionManager metadataTransactionManager;
+
+        SerializerBatchConfigurer(BatchProperties properties, DataSource dataSource, DataSource metadataDataSource,
+                                  TransactionManagerCustomizers transactionManagerCustomizers,
+                                  EntityManagerFactory entityManagerFactory,
+                                  ExecutionContextSerializer serializer,
+                                  Set<String> ephemeralJobNames) {
+            super(properties, dataSource, transactionManagerCustomizers, entityManagerFactory);
+            this.properties = properties;
+            this.dataSource = dataSource;
+            this.metadataDataSource = metadataDataSource;
+            this.transactionManagerCustomizers = transactionManagerCustomizers;
+            this.serializer = serializer;
+            this.ephemeralJobNames = ephemeralJobNames;
+        }
+
+        /**
+         * createJobRepository 보다 먼저 호출된다.
+         **/
+        @Override
+        protected PlatformTransactionManager createTransactionManager() {
+            PlatformTransactionManager businessTransactionManager = super.createTransactionManager();
+            if (metadataDataSource == null) {
+                return businessTransactionManager;
+            }
+            //ChainedTransactionManager 에는 customizer 가 적용되지 않으므로 business TransactionManager 에 직접 적용한다.
+            if (transactionManagerCustomizers != null) {
+                transactionManagerCustomizers.customize(businessTransactionManager);
+            }
+            metadataTransactionManager = new DataSourceTransactionManager(metadataDataSource);
+            return chainedTransactionManager(metadataTransactionManager, businessTransactionManager);
+        }
+
+        @Override
+        protected JobRepository createJobRepository() throws Exception {
+            JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+            String tablePrefix = properties.getJdbc().getTablePrefix();
+            if (StringUtils.hasText(tablePrefix)) {
+                factory.setTablePrefix(tablePrefix);
+            }
+            if (metadataDataSource != null) {
+                //metadata 전용 DataSource 는 JPA 와 무관하므로 JobRepository 기본 isolation 을 그대로 사용한다.
+                factory.setDataSource(metadataDataSource);
+                //chunk transaction 안의 metadata 갱신이 ChainedTransactionManager 가 시작한 metadata transaction 에 참여하도록 같은 객체를 사용한다.
+                factory.setTransactionManager(metadataTransactionManager);
+            } else {
+                factory.setDataSource(dataSource);
+                String isolationLevel = determineIsolationLevel();
+                if (isolationLevel != null) {
+                    factory.setIsolationLevelForCreate(isolationLevel);
+                }
+                factory.setTransactionManager(getTransactionManager());
+            }
+            factory.setSerializer(serializer);
+            factory.afterPropertiesSet();
+            JobRepository jobRepository = factory.getObject();
+            if (ephemeralJobNames.isEmpty()) {
+                return jobRepository;
+            }
+            return new EphemeralJobRepository(jobRepository,
+                    metadataDataSource != null ? metadataTransactionManager : getTransactionManager(), ephemeralJobNames);
+        }
+
+        /**
+         * metadata, business 순서로 transaction 을 시작하고, 역순(business, metadata)으로 commit 하는 TransactionManager
+         * <p>
+         * 먼저 commit 하는 business 가 실패하면 metadata 는 rollback 된다.
+         * ChainedTransactionManager 는 spring-data 에서 deprecated 되었으므로 compile 경고가 남는다.
+         **/
+        static PlatformTransactionManager chainedTransactionManager(PlatformTransactionManager metadataTransactionManager,
+                                                                    PlatformTransactionManager businessTransactionManager) {
+            return new ChainedTransactionManager(metadataTransactionManager, businessTransactionManager);
+        }
+
+        @Override
+        protected JobExplorer createJobExplorer() throws Exception {
+            JobExplorerFactoryBean factory = new JobExplorerFactoryBean();
+            factory.setDataSource(metadataDataSource != null ? metadataDataSource : dataSource);
+            String tablePrefix = properties.getJdbc().getTablePrefix();
+            if (StringUtils.hasText(tablePrefix)) {
+                factory.setTablePrefix(tablePrefix);
+            }
+            factory.setSerializer(serializer);
+            factory.afterPropertiesSet();
+            return factory.getObject();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.practice.springbatch.config;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ExecutionContext 를 작은 binary 형식으로 저장하는 ExecutionContextSerializer
+ * <p>
+ * 기본 Jackson 형식은 값 마다 타입 정보를 담은 JSON 을 만들기 때문에 chunk commit 마다 encode/decode 비용이 크고 row 도 커진다.
+ * 이 Serializer 는 자주 쓰는 타입(String, int, long, double, boolean, Date, byte[])을 tag 한 byte 와 varint 로 저장한다.
+ * 그 외 타입은 Java 직렬화로 저장하므로 Serializable 이어야 한다.
+ * <p>
+ * metadata DB 의 값을 그대로 역직렬화하면 임의의 클래스를 만들 수 있으므로, Java 직렬화 값은
+ * java.lang, java.util, java.time, java.math 와 생성자로 지정한 package 의 클래스만 읽는다. (하위 package 는 따로 지정해야 한다.)
+ * 저장할 때도 값의 타입을 같은 기준으로 확인해, 재시작할 때가 아니라 저장하는 시점에 실패하게 한다.
+ * (컬렉션 안의 원소 타입은 읽을 때만 확인된다.)
+ * <p>
+ * JdbcExecutionContextDao 는 결과를 문자열 컬럼에 저장하므로 binary 는 Base64 로 인코딩한다.
+ * 이전에 저장된 JSON('{' 로 시작) 은 Jackson 으로 읽으므로 기존 row 도 그대로 읽을 수 있다.
+ * <pre>
+ * MAGIC(1) VERSION(1) 항목 수(varint) { key(varint 길이 + UTF-8) tag(1) 값 }*
+ * </pre>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class BinaryExecutionContextSerializer implements ExecutionContextSerializer {
+
+    private static final int MAGIC = 0xEC;
+    private static final int VERSION = 1;
+
+    private static final int NULL = 0;
+    private static final int STRING = 1;
+    private static final int INT = 2;
+    private static final int LONG = 3;
+    private static final int DOUBLE = 4;
+    private static final int TRUE = 5;
+    private static final int FALSE = 6;
+    private static final int DATE = 7;
+    private static final int BYTES = 8;
+    private static final int FLOAT = 9;
+    private static final int SERIALIZED = 10;
+
+    //Java 직렬화 값으로 항상 허용하는 package
+    private static final String[] DEFAULT_TRUSTED_PACKAGES = {"java.lang", "java.util", "java.time", "java.math"};
+
+    private final ExecutionContextSerializer legacySerializer;
+    private final Set<String> trustedPackages;
+    private final ObjectInputFilter inputFilter = this::checkClass;
+
+    public BinaryExecutionContextSerializer(String... trustedPackages) {
+        this(new Jackson2ExecutionContextStringSerializer(), trustedPackages);
+    }
+
+    /**
+     * @param legacySerializer JSON 으로 저장된 기존 row 를 읽을 Serializer
+     * @param trustedPackages 기본 package 외에 Java 직렬화로 저장 / 역직렬화를 허용할 package
+     **/
+    public BinaryExecutionContextSerializer(ExecutionContextSerializer legacySerializer, String... trustedPackages) {
+        Assert.notNull(legacySerializer, "legacySerializer 는 필수 값입니다.");
+        Assert.noNullElements(trustedPackages, "trustedPackages 에 null 이 있습니다.");
+        this.legacySerializer = legacySerializer;
+        this.trustedPackages = new HashSet<>(Arrays.asList(DEFAULT_TRUSTED_PACKAGES));
+        this.trustedPackages.addAll(Arrays.asList(trustedPackages));
+    }
+
+    @Override
+    public void serialize(Map<String, Object> context, OutputStream out) throws IOException {
+        Assert.notNull(context, "context 는 필수 값입니다.");
+        Assert.notNull(out, "out 은 필수 값입니다.");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + context.size() * 16);
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeByte(MAGIC);
+        data.writeByte(VERSION);
+        writeVarLong(data, context.size());
+        for (Map.Entry<String, Object> entry : context.entrySet()) {
+            writeString(data, entry.getKey());
+            writeValue(data, entry.getKey(), entry.getValue());
+        }
+        data.flush();
+
+        out.write(Base64.getEncoder().encode(bytes.toByteArray()));
+    }
+
+    @Override
+    public Map<String, Object> deserialize(InputStream in) throws IOException {
+        byte[] text = in.readAllBytes();
+        if (isJson(text)) {
+            return legacySerializer.deserialize(new ByteArrayInputStream(text));
+        }
+
+        byte[] bytes = Base64.getDecoder().decode(trim(text));
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+        int magic = data.readUnsignedByte();
+        int version = data.readUnsignedByte();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IOException(String.format("ExecutionContext 형식을 알 수 없습니다. magic=%x, version=%d", magic, version));
+        }
+
+        int size = (int) readVarLong(data);
+        Map<String, Object> context = new HashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            String key = readString(data);
+            context.put(key, readValue(data));
+        }
+        return context;
+    }
+
+    private static boolean isJson(byte[] text) {
+        for (byte b : text) {
+            if (!Character.isWhitespace(b)) {
+                return b == '{';
+            }
+        }
+        return false;
+    }
+
+    private static byte[] trim(byte[] text) {
+        int begin = 0;
+        int end = text.length;
+        while (begin < end && Character.isWhitespace(text[begin])) {
+            begin++;
+        }
+        while (end > begin && Character.isWhitespace(text[end - 1])) {
+            end--;
+        }
+        if (begin == 0 && end == text.length) {
+            return text;
+        }
+        byte[] trimmed = new byte[end - begin];
+        System.arraycopy(text, begin, trimmed, 0, trimmed.length);
+        return trimmed;
+    }
+
+    private void writeValue(DataOutputStream data, String key, Object value) throws IOException {
+        if (value == null) {
+            data.writeByte(NULL);
+        } else if (value instanceof String) {
+            data.writeByte(STRING);
+            writeString(data, (String) value);
+        } else if (value instanceof Integer) {
+            data.writeByte(INT);
+            writeVarLong(data, zigZag((Integer) value));
+        } else if (value instanceof Long) {
+            data.writeByte(LONG);
+            writeVarLong(data, zigZag((Long) value));
+        } else if (value instanceof Double) {
+            data.writeByte(DOUBLE);
+            data.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            data.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value.getClass() == Date.class) {
+            //java.sql.Timestamp 등 하위 클래스는 타입을 잃지 않도록 Java 직렬화로 저장한다.
+            data.writeByte(DATE);
+            writeVarLong(data, zigZag(((Date) value).getTime()));
+        } else if (value instanceof byte[]) {
+            data.writeByte(BYTES);
+            byte[] bytes = (byte[]) value;
+            writeVarLong(data, bytes.length);
+            data.write(bytes);
+        } else if (value instanceof Float) {
+            data.writeByte(FLOAT);
+            data.writeFloat((Float) value);
+        } else if (value instanceof Serializable) {
+            if (!isTrusted(value.getClass())) {
+                throw new IllegalArgumentException(String.format("Java 직렬화를 허용하지 않은 package 의 타입입니다. key=%s, type=%s",
+                        key, value.getClass().getName()));
+            }
+            data.writeByte(SERIALIZED);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream object = new ObjectOutputStream(bytes)) {
+                object.writeObject(value);
+            }
+            writeVarLong(data, bytes.size());
+            bytes.writeTo(data);
+        } else {
+            throw new IllegalArgumentException(String.format("ExecutionContext 에 저장할 수 없는 타입입니다. key=%s, type=%s",
+                    key, value.getClass().getName()));
+        }
+    }
+
+    private Object readValue(DataInputStream data) throws IOException {
+        int tag = data.readUnsignedByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(data);
+            case INT:
+                return (int) unZigZag(readVarLong(data));
+            case LONG:
+                return unZigZag(readVarLong(data));
+            case DOUBLE:
+                return data.readDouble();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case DATE:
+                return new Date(unZigZag(readVarLong(data)));
+            case BYTES:
+                return readBytes(data);
+            case FLOAT:
+                return data.readFloat();
+            case SERIALIZED:
+                try (ObjectInputStream object = new ObjectInputStream(new ByteArrayInputStream(readBytes(data)))) {
+                    object.setObjectInputFilter(inputFilter);
+                    return object.readObject();
+                } catch (InvalidClassException e) {
+                    throw new IOException("ExecutionContext 값에 허용하지 않은 클래스가 있습니다. " + e.getMessage(), e);
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("ExecutionContext 값의 클래스를 찾을 수 없습니다.", e);
+                }
+            default:
+                throw new IOException("ExecutionContext 값의 tag 를 알 수 없습니다. tag=" + tag);
+        }
+    }
+
+    /**
+     * 역직렬화할 클래스(배열이라면 원소 타입)가 허용한 package 에 있는지 확인한다.
+     **/
+    private ObjectInputFilter.Status checkClass(ObjectInputFilter.FilterInfo info) {
+        Class<?> type = info.serialClass();
+        if (type == null) {
+            return ObjectInputFilter.Status.UNDECIDED;
+        }
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        return type.isPrimitive() || isTrusted(type) ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+    }
+
+    private boolean isTrusted(Class<?> type) {
+        return trustedPackages.contains(type.getPackageName());
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        return new String(readBytes(data), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[(int) readVarLong(data)];
+        data.readFully(bytes);
+        return bytes;
+    }
+
+    //7 bit 씩 나누어 저장하고, 이어지는 byte 가 있으면 최상위 bit 를 1 로 지정한다.
+    private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            data.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("varint 형식이 올바르지 않습니다.");
+    }
+
+    //음수도 작은 varint 가 되도록 부호 bit 를 최하위로 옮긴다.
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,200 @@
+package com.practice.springbatch.config;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지정한 Job 의 StepExecution 을 실행 중에는 메모리에만 두었다가 Job 이 끝날 때 한 번에 저장하는 JobRepository
+ * <p>
+ * partitioning 처럼 StepExecution 이 많은 Job 은 chunk commit 마다 BATCH_STEP_EXECUTION 과 context row 를
+ * 갱신하는 비용이 실제 작업보다 커진다. ephemeralJobNames 에 포함된 Job 은 다음과 같이 동작한다.
+ * <ul>
+ *     <li>JobInstance, JobExecution 은 평소와 같이 저장한다.</li>
+ *     <li>StepExecution 은 임시 id(음수)를 붙여 메모리에만 두고, Step 의 update / ExecutionContext 갱신은 DB 에 쓰지 않는다.</li>
+ *     <li>Job 이 끝나는 update(JobExecution) 에서 모든 StepExecution 의 최종 상태와 ExecutionContext 를
+ *     addAll 로 batch insert 하고 JobExecution 을 갱신한다. 둘은 JobRepository 의 TransactionManager 로 한 transaction 에서 처리한다.</li>
+ * </ul>
+ * 실행 중인 StepExecution 은 DB 에 없으므로 JobExplorer 로는 찾을 수 없다.
+ * 같은 실행의 Step 을 봐야 하는 Step 은 StepExecution.getJobExecution().getStepExecutions() 를 함께 보아야 한다.
+ * ({@link com.practice.springbatch.job.tasklet.PartitionFileMergeTasklet} 참고)
+ * 재시작 : Job 이 정상적으로 끝나면(실패 포함) Step 의 마지막 상태가 저장되므로 평소와 같이 재시작할 수 있다.
+ * 실행 중 JVM 이 종료되면 해당 실행의 Step 기록은 남지 않으므로 재시작 시 모든 Step 을 처음부터 다시 실행한다.
+ * 또한 다른 JVM 에서 보낸 stop 요청은 Step 이 알 수 없으므로 같은 JVM 의 JobExecution 이 STOPPING 일 때만 멈춘다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class EphemeralJobRepository implements JobRepository {
+
+    private final JobRepository delegate;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> ephemeralJobNames;
+
+    //JobExecution id 별로 아직 저장하지 않은 StepExecution
+    private final Map<Long, Queue<StepExecution>> pending = new ConcurrentHashMap<>();
+    //StepScope 가 StepExecution id 로 Bean 을 구분하므로 저장 전에도 겹치지 않는 임시 id 를 붙인다.
+    private final AtomicLong temporaryIds = new AtomicLong();
+
+    /**
+     * @param delegate 실제로 저장하는 {@link JobRepository}
+     * @param transactionManager delegate 가 사용하는 {@link PlatformTransactionManager}
+     * @param ephemeralJobNames StepExecution 을 Job 이 끝날 때 한 번에 저장할 Job 이름
+     **/
+    public EphemeralJobRepository(JobRepository delegate, PlatformTransactionManager transactionManager,
+                                  Set<String> ephemeralJobNames) {
+        Assert.notNull(delegate, "delegate 는 필수 값입니다.");
+        Assert.notNull(transactionManager, "transactionManager 는 필수 값입니다.");
+        Assert.notNull(ephemeralJobNames, "ephemeralJobNames 는 필수 값입니다.");
+        this.delegate = delegate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ephemeralJobNames = ephemeralJobNames;
+    }
+
+    @Override
+    public boolean isJobInstanceExists(String jobName, JobParameters jobParameters) {
+        return delegate.isJobInstanceExists(jobName, jobParameters);
+    }
+
+    @Override
+    public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
+        return delegate.createJobInstance(jobName, jobParameters);
+    }
+
+    @Override
+    public JobExecution createJobExecution(JobInstance jobInstance, JobParameters jobParameters, String jobConfigurationLocation) {
+        return delegate.createJobExecution(jobInstance, jobParameters, jobConfigurationLocation);
+    }
+
+    @Override
+    public JobExecution createJobExecution(String jobName, JobParameters jobParameters)
+            throws JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+        return delegate.createJobExecution(jobName, jobParameters);
+    }
+
+    @Override
+    public void update(JobExecution jobExecution) {
+        if (jobExecution.isRunning() || !pending.containsKey(jobExecution.getId())) {
+            delegate.update(jobExecution);
+            return;
+        }
+        //Step 들의 최종 상태와 Job 의 최종 상태를 한 transaction 에서 저장한다. (delegate 의 transaction 은 여기에 참여한다.)
+        transactionTemplate.executeWithoutResult(status -> {
+            flush(jobExecution);
+            delegate.update(jobExecution);
+        });
+    }
+
+    @Override
+    public void add(StepExecution stepExecution) {
+        if (!isEphemeral(stepExecution)) {
+            delegate.add(stepExecution);
+            return;
+        }
+        hold(stepExecution);
+    }
+
+    @Override
+    public void addAll(Collection<StepExecution> stepExecutions) {
+        List<StepExecution> persistent = new ArrayList<>();
+        for (StepExecution stepExecution : stepExecutions) {
+            if (isEphemeral(stepExecution)) {
+                hold(stepExecution);
+            } else {
+                persistent.add(stepExecution);
+            }
+        }
+        if (!persistent.isEmpty()) {
+            delegate.addAll(persistent);
+        }
+    }
+
+    @Override
+    public void update(StepExecution stepExecution) {
+        if (!isHeld(stepExecution)) {
+            delegate.update(stepExecution);
+            return;
+        }
+        stepExecution.setLastUpdated(new Date());
+        if (stepExecution.getJobExecution().isStopping()) {
+            stepExecution.setTerminateOnly();
+        }
+    }
+
+    @Override
+    public void updateExecutionContext(StepExecution stepExecution) {
+        if (!isHeld(stepExecution)) {
+            delegate.updateExecutionContext(stepExecution);
+        }
+    }
+
+    @Override
+    public void updateExecutionContext(JobExecution jobExecution) {
+        delegate.updateExecutionContext(jobExecution);
+    }
+
+    @Override
+    public StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
+        return delegate.getLastStepExecution(jobInstance, stepName);
+    }
+
+    @Override
+    public int getStepExecutionCount(JobInstance jobInstance, String stepName) {
+        return delegate.getStepExecutionCount(jobInstance, stepName);
+    }
+
+    @Override
+    public JobExecution getLastJobExecution(String jobName, JobParameters jobParameters) {
+        return delegate.getLastJobExecution(jobName, jobParameters);
+    }
+
+    private boolean isEphemeral(StepExecution stepExecution) {
+        return ephemeralJobNames.contains(stepExecution.getJobExecution().getJobInstance().getJobName());
+    }
+
+    private boolean isHeld(StepExecution stepExecution) {
+        Long id = stepExecution.getId();
+        return id != null && id < 0 && isEphemeral(stepExecution);
+    }
+
+    private void hold(StepExecution stepExecution) {
+        Assert.isNull(stepExecution.getId(), "저장되지 않은 StepExecution 만 추가할 수 있습니다.");
+        stepExecution.setId(temporaryIds.decrementAndGet());
+        stepExecution.setVersion(0);
+        stepExecution.setLastUpdated(new Date());
+        pending.computeIfAbsent(stepExecution.getJobExecutionId(), id -> new ConcurrentLinkedQueue<>()).add(stepExecution);
+    }
+
+    private void flush(JobExecution jobExecution) {
+        Queue<StepExecution> held = pending.remove(jobExecution.getId());
+        if (held == null || held.isEmpty()) {
+            return;
+        }
+
+        List<StepExecution> stepExecutions = new ArrayList<>(held);
+        for (StepExecution stepExecution : stepExecutions) {
+            //실제 id 와 version 은 저장할 때 DAO 가 붙인다.
+            stepExecution.setId(null);
+            stepExecution.setVersion(null);
+        }
+        delegate.addAll(stepExecutions);
+    }
+}
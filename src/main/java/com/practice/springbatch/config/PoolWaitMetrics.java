@@ -0,0 +1,100 @@
+package com.practice.springbatch.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HikariCP pool 별로 connection 을 얻기 위해 기다린 시간을 모으는 MetricsTrackerFactory
+ * <p>
+ * business DataSource 와 batch metadata DataSource 의 pool 크기를 정할 수 있도록
+ * 대기 횟수, 누적 / 최대 대기 시간, timeout 횟수와 현재 pool 상태를 pool 이름 별로 제공한다.
+ * {@link PoolWaitMetricsConfig} 가 모든 HikariDataSource 에 등록한다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PoolWaitMetrics implements MetricsTrackerFactory {
+
+    private final Map<String, Stats> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        Stats stats = pools.computeIfAbsent(poolName, name -> new Stats(poolStats));
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                stats.acquireCount.increment();
+                stats.acquireNanos.add(elapsedAcquiredNanos);
+                stats.maxAcquireNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                stats.timeouts.increment();
+            }
+        };
+    }
+
+    /**
+     * 현재까지의 pool 별 대기 시간 (pool 이름 순)
+     * @return pool 이름 별 {@link Snapshot}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> snapshots = new TreeMap<>();
+        pools.forEach((name, stats) -> snapshots.put(name, new Snapshot(
+                stats.acquireCount.sum(),
+                stats.acquireNanos.sum(),
+                stats.maxAcquireNanos.get(),
+                stats.timeouts.sum(),
+                stats.poolStats.getActiveConnections(),
+                stats.poolStats.getTotalConnections(),
+                stats.poolStats.getPendingThreads())));
+        return snapshots;
+    }
+
+    private static final class Stats {
+        private final PoolStats poolStats;
+        private final LongAdder acquireCount = new LongAdder();
+        private final LongAdder acquireNanos = new LongAdder();
+        private final AtomicLong maxAcquireNanos = new AtomicLong();
+        private final LongAdder timeouts = new LongAdder();
+
+        private Stats(PoolStats poolStats) {
+            this.poolStats = poolStats;
+        }
+    }
+
+    /**
+     * 특정 시점의 pool 대기 시간과 상태
+     **/
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Snapshot {
+        private final long acquireCount;
+        private final long acquireNanos;
+        private final long maxAcquireNanos;
+        private final long timeouts;
+        private final int activeConnections;
+        private final int totalConnections;
+        private final int pendingThreads;
+
+        public long getAcquireMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(acquireNanos);
+        }
+
+        public long getMaxAcquireMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxAcquireNanos);
+        }
+    }
+}
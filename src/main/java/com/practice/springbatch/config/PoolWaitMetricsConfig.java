@@ -0,0 +1,45 @@
+package com.practice.springbatch.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모든 HikariDataSource 에 {@link PoolWaitMetrics} 를 등록하는 설정
+ * <p>
+ * pool 이름이 없으면 Bean 이름을 pool 이름으로 사용한다. (dataSource, batchDataSource)
+ * 이미 시작된 pool 이나 다른 metrics 가 등록된 pool 은 건드리지 않는다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration
+public class PoolWaitMetricsConfig {
+
+    @Bean
+    public PoolWaitMetrics poolWaitMetrics() {
+        return new PoolWaitMetrics();
+    }
+
+    @Bean
+    public static BeanPostProcessor poolWaitMetricsPostProcessor(ObjectProvider<PoolWaitMetrics> poolWaitMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    HikariDataSource dataSource = (HikariDataSource) bean;
+                    if (!dataSource.isRunning()
+                            && dataSource.getMetricsTrackerFactory() == null
+                            && dataSource.getMetricRegistry() == null) {
+                        if (dataSource.getPoolName() == null) {
+                            dataSource.setPoolName(beanName);
+                        }
+                        dataSource.setMetricsTrackerFactory(poolWaitMetrics.getObject());
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.practice.springbatch.core.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 포지션 별 Salary 배율을 저장하는 Entity
+ * <p>
+ * 배율이 등록되지 않은 포지션은 1 배로 계산한다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Entity
+@Getter
+@Setter
+@Table(name = "position_multiplier")
+@NoArgsConstructor
+@AllArgsConstructor
+public class PositionMultiplier {
+    @Id
+    private String position;
+
+    @Column(nullable = false)
+    private double multiplier;
+}
@@ -0,0 +1,15 @@
+package com.practice.springbatch.core.repository;
+
+import com.practice.springbatch.core.domain.PositionMultiplier;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 포지션 별 Salary 배율 조회 용도의 Repository
+ * <p>
+ * chunk 의 포지션들은 findAllById 로 한 번의 IN 쿼리로 조회한다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public interface PositionMultiplierRepository extends JpaRepository<PositionMultiplier, String> {
+
+}
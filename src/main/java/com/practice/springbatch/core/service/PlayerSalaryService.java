@@ -5,12 +5,70 @@ import com.practice.springbatch.dto.PlayerSalaryDto;
 import org.springframework.stereotype.Service;
 
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public class PlayerSalaryService {
 
     public PlayerSalaryDto calcSalary(PlayerDto playerDto) {
-        int salary = (Year.now().getValue() - playerDto.getBirthYear()) * 1000000;
+        return calcSalary(playerDto, Year.now().getValue());
+    }
+
+    /**
+     * 기준 연도를 받아 Salary 를 계산한다.
+     * @param playerDto {@link PlayerDto}
+     * @param referenceYear 기준 연도
+     * @return PlayerSalaryDto {@link PlayerSalaryDto}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public PlayerSalaryDto calcSalary(PlayerDto playerDto, int referenceYear) {
+        int salary = (referenceYear - playerDto.getBirthYear()) * 1000000;
         return PlayerSalaryDto.of(playerDto, salary);
     }
+
+    /**
+     * chunk 의 Player 들의 Salary 를 한 번에 계산한다.
+     * <p>
+     * 기준 연도는 호출하는 쪽에서 한 번만 구해서 넘겨주므로 item 마다 시스템 시계를 읽지 않는다.
+     * @param players {@link PlayerDto} 목록
+     * @param referenceYear 기준 연도
+     * @return PlayerSalaryDto 목록 (입력과 같은 순서)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public List<PlayerSalaryDto> calcSalaries(List<? extends PlayerDto> players, int referenceYear) {
+        List<PlayerSalaryDto> salaries = new ArrayList<>(players.size());
+        for (PlayerDto player : players) {
+            salaries.add(calcSalary(player, referenceYear));
+        }
+        return salaries;
+    }
+
+    /**
+     * chunk 의 Player 들의 Salary 를 포지션 별 배율을 적용해서 한 번에 계산한다.
+     * <p>
+     * 배율은 호출하는 쪽에서 chunk 의 포지션들을 한 번에 조회해서 넘겨준다. 배율이 없는 포지션은 1 배로 계산한다.
+     * @param players {@link PlayerDto} 목록
+     * @param referenceYear 기준 연도
+     * @param positionMultipliers 포지션 별 배율
+     * @return PlayerSalaryDto 목록 (입력과 같은 순서)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public List<PlayerSalaryDto> calcSalaries(List<? extends PlayerDto> players, int referenceYear,
+                                              Map<String, Double> positionMultipliers) {
+        List<PlayerSalaryDto> salaries = new ArrayList<>(players.size());
+        for (PlayerDto player : players) {
+            PlayerSalaryDto salary = calcSalary(player, referenceYear);
+            Double multiplier = positionMultipliers.get(player.getPosition());
+            if (multiplier != null) {
+                salary.setSalary((int) Math.round(salary.getSalary() * multiplier));
+            }
+            salaries.add(salary);
+        }
+        return salaries;
+    }
 }
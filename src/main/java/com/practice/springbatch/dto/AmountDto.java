@@ -1,10 +1,21 @@
 package com.practice.springbatch.dto;
 
+import com.practice.springbatch.job.mapper.FlatFileColumn;
+import com.practice.springbatch.job.mapper.FlatFileRecord;
 import lombok.Data;
 
+/**
+ * data/input.txt 의 한 줄(index, name, amount 를 tab 으로 구분)을 저장할 Amount Dto
+ * @author cyh68
+ * @since 2023-06-01
+ **/
 @Data
+@FlatFileRecord(delimiter = '\t')
 public class AmountDto {
+    @FlatFileColumn(index = 0)
     private int index;
+    @FlatFileColumn(index = 1)
     private String name;
+    @FlatFileColumn(index = 2)
     private int amount;
 }
@@ -1,18 +1,29 @@
 package com.practice.springbatch.dto;
 
+import com.practice.springbatch.job.mapper.FlatFileColumn;
+import com.practice.springbatch.job.mapper.FlatFileRecord;
 import lombok.Data;
 
 /**
  * 파일에서 텍스트를 읽어 데이터를 저장할 Player Dto
+ * <p>
+ * player-list.txt 의 콤마(,)로 구분된 컬럼 순서대로 매핑된다.
  * @author cyh68
  * @since 2023-06-01
  **/
 @Data
+@FlatFileRecord(delimiter = ',')
 public class PlayerDto {
+    @FlatFileColumn(index = 0)
     private String ID;
+    @FlatFileColumn(index = 1)
     private String lastName;
+    @FlatFileColumn(index = 2)
     private String firstName;
+    @FlatFileColumn(index = 3)
     private String position;
+    @FlatFileColumn(index = 4)
     private int birthYear;
+    @FlatFileColumn(index = 5)
     private int debutYear;
 }
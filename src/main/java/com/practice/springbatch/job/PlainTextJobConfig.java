@@ -1,9 +1,16 @@
 package com.practice.springbatch.job;
 
+import com.practice.springbatch.config.PoolWaitMetrics;
 import com.practice.springbatch.core.domain.PlainText;
-import com.practice.springbatch.core.domain.ResultText;
-import com.practice.springbatch.core.repository.PlainTextRepository;
-import com.practice.springbatch.core.repository.ResultTextRepository;
+import com.practice.springbatch.job.executor.TaskExecutorMetricsListener;
+import com.practice.springbatch.job.explore.LastCompletedExecutionFinder;
+import com.practice.springbatch.job.listener.PlainTextWatermarkListener;
+import com.practice.springbatch.job.listener.PoolWaitMetricsListener;
+import com.practice.springbatch.job.partitioner.ColumnRangePartitioner;
+import com.practice.springbatch.job.policy.AdaptiveChunkCompletionPolicy;
+import com.practice.springbatch.job.reader.PlainTextCursorItemReader;
+import com.practice.springbatch.job.reader.PlainTextKeysetItemReader;
+import com.practice.springbatch.job.tasklet.SqlPushdownTasklet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -11,18 +18,29 @@ import org.springframework.batch.core.configuration.annotation.JobBuilderFactory
 import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.step.builder.PartitionStepBuilder;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.core.step.builder.TaskletStepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.domain.Sort;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.support.MetaDataAccessException;
 
-import java.util.Collections;
-import java.util.List;
+import javax.sql.DataSource;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Configuration
 @RequiredArgsConstructor
@@ -30,42 +48,210 @@ public class PlainTextJobConfig {
 
     private final JobBuilderFactory jobBuilderFactory;
     private final StepBuilderFactory stepBuilderFactory;
-    private final PlainTextRepository plainTextRepository;
-    private final ResultTextRepository resultTextRepository;
+    private final DataSource dataSource;
+    private final JobExplorer jobExplorer;
+    //connection pool 대기 시간 (PoolWaitMetricsConfig 가 없는 환경에서는 기록하지 않는다.)
+    private final ObjectProvider<PoolWaitMetrics> poolWaitMetrics;
+
+    //plainTextReader 를 JDBC cursor 로 동작시키기 위한 readMode Job Parameter 값
+    private static final String READ_MODE_CURSOR = "cursor";
+
+    //AdaptiveChunkCompletionPolicy 가 조절하는 chunk 크기 범위
+    private static final int MIN_CHUNK_SIZE = 5;
+    private static final int MAX_CHUNK_SIZE = 1000;
+
+    //plainTextStep 을 id 구간 단위로 병렬 처리하기 위한 stepMode Job Parameter 값
+    private static final String STEP_MODE_PARTITIONED = "partitioned";
+
+    //plainTextStep 을 DB 안에서 INSERT ... SELECT 로 처리하기 위한 stepMode Job Parameter 값
+    private static final String STEP_MODE_PUSHDOWN = "pushdown";
+
+    //pushdown 모드에서 한 transaction 으로 처리할 id 구간 크기 (pushdownRangeSize Job Parameter 로 변경)
+    private static final int PUSHDOWN_RANGE_SIZE = 10_000;
+
+    //plainTextProcessor 와 plainTextWriter 를 합친 SQL. CONCAT 을 지원하는 DB 에서만 사용한다.
+    private static final String PUSHDOWN_SQL = "INSERT INTO result_text (text)"
+            + " SELECT CONCAT('processed ', text) FROM plain_text"
+            + " WHERE id BETWEEN ? AND ? ORDER BY id DESC";
+    private static final Set<DatabaseType> PUSHDOWN_DATABASES =
+            EnumSet.of(DatabaseType.MYSQL, DatabaseType.H2, DatabaseType.POSTGRES, DatabaseType.HSQL);
 
     @Bean("plainTextJob")
     public Job plainTextJob(Step plainTextStep) {
         return jobBuilderFactory.get("plainTextJob")
                 .incrementer(new RunIdIncrementer()) //job을 실행할 때 횟수를 일정하게 증가시켜줌
+                .listener(plainTextWatermarkListener()) //처리할 id 구간(watermark) 결정
                 .start(plainTextStep) //실행할 Step
                 .build();
     }
 
+    /**
+     * Job 시작 시점의 MAX(id) 까지만 처리하도록 상한을 정하고,
+     * incremental=true Job Parameter 가 주어지면 직전 성공 실행 이후에 추가된 행만 처리하도록 하한을 정한다.
+     * 동시에 INSERT 되는 행이 있다면 watermarkLag Job Parameter 만큼 상한을 낮춰 commit 되지 않은 id 를 건너뛰지 않게 한다.
+     * @return PlainTextWatermarkListener {@link PlainTextWatermarkListener}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public PlainTextWatermarkListener plainTextWatermarkListener() {
+        return new PlainTextWatermarkListener(dataSource, new LastCompletedExecutionFinder(jobExplorer));
+    }
+
 
     @JobScope //관련 job이 실행되는 동안에만 해당 Bean이 실행되도록 설정하는 어노테이션
     @Bean("plainTextStep")
-    public Step plainTextStep(ItemReader plainTextReader,
-                          ItemProcessor plainTextProcessor,
-                          ItemWriter plainTextWriter) {
-        return stepBuilderFactory.get("plainTextStep")
-                .<PlainText, String>chunk(5) //<읽어올 타입, Processing 할 타입>
+    public Step plainTextStep(@Value("#{jobParameters['stepMode']}") String stepMode,
+                              @Value("#{jobParameters['pushdownRangeSize']}") Long pushdownRangeSize,
+                              @Value("#{jobExecutionContext['plainText.watermark.from']}") Integer watermarkFrom,
+                              @Value("#{jobExecutionContext['plainText.watermark.to']}") Integer watermarkTo,
+                              Step plainTextWorkerStep,
+                              TaskExecutor taskExecutor,
+                              ItemReader plainTextReader,
+                              ItemProcessor plainTextProcessor,
+                              ItemWriter plainTextWriter) {
+        if (STEP_MODE_PARTITIONED.equals(stepMode)) {
+            return plainTextMasterStep(plainTextWorkerStep, taskExecutor, watermarkFrom, watermarkTo);
+        }
+        if (STEP_MODE_PUSHDOWN.equals(stepMode) && supportsPushdown()) {
+            return plainTextPushdownStep(pushdownRangeSize, watermarkFrom, watermarkTo);
+        }
+        //pushdown 을 지원하지 않는 DB 라면 일반 chunk Step 으로 처리한다.
+        return chunkStep("plainTextStep", plainTextReader, plainTextProcessor, plainTextWriter);
+    }
+
+    /**
+     * partitioned 모드에서 각 id 구간을 처리하는 Worker Step
+     * <p>
+     * plainTextStep 과 같은 Reader, Processor, Writer 를 사용하며
+     * Reader 는 stepExecutionContext 에 담긴 구간만 읽는다.
+     * <p>
+     * partition 쓰레드에는 Job context 가 없으므로 @JobScope 를 붙이지 않는다. (Reader, Writer 는 @StepScope 라 partition 마다 만들어진다.)
+     * @return Step {@link Step}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean("plainTextWorkerStep")
+    public Step plainTextWorkerStep(ItemReader plainTextReader,
+                                    ItemProcessor plainTextProcessor,
+                                    ItemWriter plainTextWriter) {
+        return chunkStep("plainTextWorkerStep", plainTextReader, plainTextProcessor, plainTextWriter);
+    }
+
+    /**
+     * plain_text 의 id MIN ~ MAX 를 CPU 코어 수 만큼의 구간으로 나누어 Worker Step 을 병렬 실행하는 Master Step
+     * @param plainTextWorkerStep {@link Step}
+     * @param taskExecutor {@link TaskExecutor}
+     * @param watermarkFrom 이전 실행까지 처리한 id (미포함)
+     * @param watermarkTo 이번 실행에서 처리할 마지막 id
+     * @return Step {@link Step}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private Step plainTextMasterStep(Step plainTextWorkerStep,
+                                     TaskExecutor taskExecutor,
+                                     Integer watermarkFrom,
+                                     Integer watermarkTo) {
+        int gridSize = Runtime.getRuntime().availableProcessors();
+
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(plainTextWorkerStep);
+        partitionHandler.setGridSize(gridSize);
+        partitionHandler.setTaskExecutor(taskExecutor);
+
+        //watermark 구간 안에서만 id 구간을 나눈다.
+        ColumnRangePartitioner partitioner = new ColumnRangePartitioner(dataSource, "plain_text", "id");
+        partitioner.setLowerBound(watermarkFrom == null ? null : watermarkFrom + 1);
+        partitioner.setUpperBound(watermarkTo);
+
+        PartitionStepBuilder builder = stepBuilderFactory.get("plainTextMasterStep")
+                .partitioner("plainTextWorkerStep", partitioner)
+                .partitionHandler(partitionHandler)
+                .listener(new TaskExecutorMetricsListener(taskExecutor));
+        poolWaitMetrics.ifAvailable(metrics -> builder.listener(new PoolWaitMetricsListener(metrics)));
+        return builder.build();
+    }
+
+    /**
+     * plain_text 를 애플리케이션으로 읽지 않고 id 구간 단위의 INSERT ... SELECT 로 result_text 에 저장하는 Step
+     * <p>
+     * 구간 하나가 한 transaction 이며 read / write / commit count 와 재시작 위치(lastId)는 chunk Step 과 같이 기록된다.
+     * @param pushdownRangeSize 한 transaction 으로 처리할 id 구간 크기 (없으면 10,000)
+     * @param watermarkFrom 이전 실행까지 처리한 id (미포함)
+     * @param watermarkTo 이번 실행에서 처리할 마지막 id
+     * @return Step {@link Step}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private Step plainTextPushdownStep(Long pushdownRangeSize,
+                                       Integer watermarkFrom,
+                                       Integer watermarkTo) {
+        SqlPushdownTasklet tasklet = new SqlPushdownTasklet(dataSource, "plain_text", "id", PUSHDOWN_SQL);
+        tasklet.setName("plainTextPushdown"); //ExecutionContext 에 lastId 를 저장할 때 사용할 이름
+        tasklet.setRangeSize(pushdownRangeSize == null ? PUSHDOWN_RANGE_SIZE : pushdownRangeSize.intValue());
+        tasklet.setMinId(watermarkFrom == null ? null : watermarkFrom + 1);
+        tasklet.setMaxId(watermarkTo);
+
+        TaskletStepBuilder builder = stepBuilderFactory.get("plainTextPushdownStep")
+                .tasklet(tasklet);
+        poolWaitMetrics.ifAvailable(metrics -> builder.listener(new PoolWaitMetricsListener(metrics)));
+        return builder.build();
+    }
+
+    private boolean supportsPushdown() {
+        try {
+            return PUSHDOWN_DATABASES.contains(DatabaseType.fromMetaData(dataSource));
+        } catch (MetaDataAccessException e) {
+            return false;
+        }
+    }
+
+    private Step chunkStep(String name,
+                           ItemReader plainTextReader,
+                           ItemProcessor plainTextProcessor,
+                           ItemWriter plainTextWriter) {
+        //chunk 처리 시간을 보고 5 ~ 1000 사이에서 chunk 크기를 조절한다.
+        AdaptiveChunkCompletionPolicy completionPolicy = new AdaptiveChunkCompletionPolicy(MIN_CHUNK_SIZE, MAX_CHUNK_SIZE);
+        SimpleStepBuilder<PlainText, String> builder = stepBuilderFactory.get(name)
+                .<PlainText, String>chunk(completionPolicy) //<읽어올 타입, Processing 할 타입>
                 .reader(plainTextReader)
                 .processor(plainTextProcessor)
                 .writer(plainTextWriter)
-                .build();
+                .listener(completionPolicy); //chunk 시간 및 item 크기 측정
+        //business / metadata connection pool 대기 시간 기록
+        poolWaitMetrics.ifAvailable(metrics -> builder.listener(new PoolWaitMetricsListener(metrics)));
+        return builder.build();
     }
 
     @StepScope
     @Bean
-    public RepositoryItemReader<PlainText> plainTextReader() {
-        return new RepositoryItemReaderBuilder<PlainText>()
-                .name("plainTextReader")
-                .repository(plainTextRepository)
-                .methodName("findBy") //Repository 에서 사용할 메소드 명 지정
-                .pageSize(5) //데이터를 읽게되는 Commit Interval
-                .arguments(List.of()) //데이터를 읽을 때 어떤 조건이나 파라미터가 있을 경우 넘겨줄 리스트
-                .sorts(Collections.singletonMap("id", Sort.Direction.DESC)) //데이터를 읽을 때 정렬 순서 지정
-                .build();
+    public ItemStreamReader<PlainText> plainTextReader(@Value("#{jobParameters['readMode']}") String readMode,
+                                                      @Value("#{jobParameters['pageSize']}") Long pageSize,
+                                                      @Value("#{jobExecutionContext['plainText.watermark.from']}") Integer watermarkFrom,
+                                                      @Value("#{jobExecutionContext['plainText.watermark.to']}") Integer watermarkTo,
+                                                      @Value("#{stepExecutionContext['minValue']}") Integer partitionMin,
+                                                      @Value("#{stepExecutionContext['maxValue']}") Integer partitionMax) {
+        //watermark 구간과 (partitioned 모드라면) ColumnRangePartitioner 가 나눠준 id 구간이 겹치는 부분만 읽는다.
+        Integer minId = watermarkFrom == null ? partitionMin : max(watermarkFrom + 1, partitionMin);
+        Integer maxId = min(watermarkTo, partitionMax);
+
+        if (READ_MODE_CURSOR.equals(readMode)) {
+            //Step 실행 당 한 번의 쿼리로 결과를 스트리밍하며 읽는다.
+            PlainTextCursorItemReader reader = new PlainTextCursorItemReader(dataSource);
+            reader.setName("plainTextReader");
+            reader.setMinId(minId);
+            reader.setMaxId(maxId);
+            return reader;
+        }
+
+        //OFFSET 페이징 대신 마지막으로 읽은 id 를 기준으로 다음 페이지를 읽는다. (id DESC)
+        //한 번에 조회할 행 수. 기본값은 가장 큰 chunk 도 한 번의 쿼리로 채우도록 chunk 크기의 최대값으로 한다.
+        int keysetPageSize = pageSize == null ? MAX_CHUNK_SIZE : pageSize.intValue();
+        PlainTextKeysetItemReader reader = new PlainTextKeysetItemReader(dataSource, keysetPageSize);
+        reader.setName("plainTextReader"); //ExecutionContext 에 lastId 를 저장할 때 사용할 이름
+        reader.setMinId(minId);
+        reader.setMaxId(maxId);
+        return reader;
     }
 
     @StepScope
@@ -84,11 +270,22 @@ public class PlainTextJobConfig {
 
     @StepScope
     @Bean
-    public ItemWriter<String> plainTextWriter() {
-        return items -> {
-            //결과 값을 result_text 테이블에 저장
-            items.forEach(item -> resultTextRepository.save(new ResultText(null, item)));
-            System.out.println("=== chunk is finished");
-        };
+    public JdbcBatchItemWriter<String> plainTextWriter() {
+        //결과 값을 result_text 테이블에 저장
+        //item 마다 JPA save 를 호출하는 대신 chunk 단위로 하나의 JDBC batch 로 insert 한다.
+        //id 는 DB 의 auto increment 에 맡기고 생성된 키를 돌려받지 않으므로 batch 가 깨지지 않는다.
+        return new JdbcBatchItemWriterBuilder<String>()
+                .dataSource(dataSource)
+                .sql("INSERT INTO result_text (text) VALUES (?)")
+                .itemPreparedStatementSetter((item, ps) -> ps.setString(1, item))
+                .build();
+    }
+
+    private static Integer max(Integer a, Integer b) {
+        return a == null ? b : b == null ? a : Integer.valueOf(Math.max(a, b));
+    }
+
+    private static Integer min(Integer a, Integer b) {
+        return a == null ? b : b == null ? a : Integer.valueOf(Math.min(a, b));
     }
 }
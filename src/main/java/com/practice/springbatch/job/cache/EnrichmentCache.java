@@ -0,0 +1,137 @@
+package com.practice.springbatch.job.cache;
+
+import org.springframework.util.Assert;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * chunk 의 key 들을 모아 없는 값만 한 번에 조회하는 read-through Cache
+ * <p>
+ * {@link #getAll(Collection)} 은 중복을 제거한 key 중 Cache 에 없거나 만료된 key 만 모아
+ * bulkLoader 를 한 번 호출한다. (예: findAllById 로 IN 쿼리 한 번)
+ * 조회 결과에 없는 key 도 "값 없음"으로 저장해서 같은 key 를 다시 조회하지 않는다.
+ * <p>
+ * 크기가 maxSize 를 넘으면 가장 오래 사용하지 않은 항목부터 제거하고(LRU), 저장한 지 ttl 이 지난 항목은 다시 조회한다.
+ * hit, miss, eviction, 조회 횟수는 {@link EnrichmentCacheMetricsListener} 로 StepExecution 에 기록할 수 있다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class EnrichmentCache<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> bulkLoader;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    //accessOrder=true 이므로 가장 오래 사용하지 않은 항목이 맨 앞에 온다.
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long loads;
+
+    public EnrichmentCache(Function<Collection<K>, Map<K, V>> bulkLoader, int maxSize, long ttl, TimeUnit unit) {
+        this(bulkLoader, maxSize, ttl, unit, System::nanoTime);
+    }
+
+    EnrichmentCache(Function<Collection<K>, Map<K, V>> bulkLoader, int maxSize, long ttl, TimeUnit unit, LongSupplier ticker) {
+        Assert.notNull(bulkLoader, "bulkLoader 는 필수 값입니다.");
+        Assert.isTrue(maxSize > 0, "maxSize 는 0보다 커야 합니다.");
+        Assert.isTrue(ttl > 0, "ttl 은 0보다 커야 합니다.");
+        this.bulkLoader = bulkLoader;
+        this.maxSize = maxSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * key 들의 값을 돌려준다. 값이 없는 key 는 결과에 포함되지 않는다.
+     * @param keys 조회할 key 목록 (중복 가능)
+     * @return key 별 값
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public synchronized Map<K, V> getAll(Collection<? extends K> keys) {
+        long now = ticker.getAsLong();
+        Map<K, V> result = new HashMap<>();
+        Set<K> missingKeys = new LinkedHashSet<>();
+
+        for (K key : new LinkedHashSet<>(keys)) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && now - entry.loadedAt < ttlNanos) {
+                hits++;
+                if (entry.value != null) {
+                    result.put(key, entry.value);
+                }
+            } else {
+                misses++;
+                missingKeys.add(key);
+            }
+        }
+
+        if (!missingKeys.isEmpty()) {
+            loads++;
+            Map<K, V> loaded = bulkLoader.apply(Collections.unmodifiableSet(missingKeys));
+            for (K key : missingKeys) {
+                V value = loaded.get(key);
+                entries.put(key, new Entry<>(value, now));
+                if (value != null) {
+                    result.put(key, value);
+                }
+            }
+            evictOverflow();
+        }
+        return result;
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    public synchronized long getLoadCount() {
+        return loads;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictOverflow() {
+        Iterator<K> iterator = entries.keySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.practice.springbatch.job.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.listener.StepExecutionListenerSupport;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Step 이 끝날 때 EnrichmentCache 의 hit, miss, eviction, 조회 횟수를 StepExecution 의 ExecutionContext 에 기록하는 Listener
+ * <p>
+ * Cache 를 한 번도 조회하지 않은 Step 이라면 기록하지 않는다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@RequiredArgsConstructor
+public class EnrichmentCacheMetricsListener extends StepExecutionListenerSupport {
+
+    public static final String HITS_KEY = "enrichmentCache.hits";
+    public static final String MISSES_KEY = "enrichmentCache.misses";
+    public static final String EVICTIONS_KEY = "enrichmentCache.evictions";
+    public static final String LOADS_KEY = "enrichmentCache.loads";
+    public static final String SIZE_KEY = "enrichmentCache.size";
+
+    private final EnrichmentCache<?, ?> cache;
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (cache.getHitCount() == 0 && cache.getMissCount() == 0) {
+            return null;
+        }
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        executionContext.putLong(HITS_KEY, cache.getHitCount());
+        executionContext.putLong(MISSES_KEY, cache.getMissCount());
+        executionContext.putLong(EVICTIONS_KEY, cache.getEvictionCount());
+        executionContext.putLong(LOADS_KEY, cache.getLoadCount());
+        executionContext.putInt(SIZE_KEY, cache.size());
+        return null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.practice.springbatch.job.executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * multi-thread Step, Partitioning, Split Flow 가 공유하는 TaskExecutor 설정
+ * <p>
+ * batch.executor.mode 로 실행 방식을 고른다.
+ * <ul>
+ *     <li>pooled (기본) : CPU 코어 수 만큼의 쓰레드를 재사용하고, 크기가 정해진 queue 가 차면 rejection-policy 를 따른다.</li>
+ *     <li>virtual : 작업마다 virtual thread 를 사용한다. 지원하지 않는 JVM 이라면 pooled 로 동작한다.</li>
+ *     <li>simple : 작업마다 새 쓰레드를 만든다. (이전 방식)</li>
+ * </ul>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration
+public class BatchTaskExecutorConfig {
+
+    private static final String THREAD_NAME_PREFIX = "spring-batch-task-executor";
+
+    /**
+     * multi-thread 를 Step 에 적용하기 위한 TaskExecutor
+     * @param mode 실행 방식 (simple, pooled, virtual)
+     * @param poolSize 쓰레드 수, virtual / simple 모드에서는 동시에 실행할 작업 수 (0 이하면 CPU 코어 수)
+     * @param queueCapacity pooled 모드에서 실행을 기다릴 수 있는 작업 수
+     * @param rejectionPolicy pooled 모드에서 queue 가 가득 찼을 때의 동작 (block, caller-runs, abort)
+     * @return MonitoredTaskExecutor {@link MonitoredTaskExecutor}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public MonitoredTaskExecutor taskExecutor(@Value("${batch.executor.mode:pooled}") String mode,
+                                              @Value("${batch.executor.pool-size:0}") int poolSize,
+                                              @Value("${batch.executor.queue-capacity:100}") int queueCapacity,
+                                              @Value("${batch.executor.rejection-policy:block}") String rejectionPolicy) {
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        switch (mode) {
+            case "simple":
+                SimpleAsyncTaskExecutor simple = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+                simple.setConcurrencyLimit(size); //동시에 실행할 쓰레드를 제한할 개수 설정
+                return new MonitoredTaskExecutor(simple);
+            case "virtual":
+                ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+                if (virtual != null) {
+                    //virtual thread 는 생성 비용이 낮으므로 queue 대신 동시 실행 수로 backpressure 를 준다.
+                    return new MonitoredTaskExecutor(virtual, size);
+                }
+                return new MonitoredTaskExecutor(pooled(size, queueCapacity, rejectionPolicy));
+            case "pooled":
+                return new MonitoredTaskExecutor(pooled(size, queueCapacity, rejectionPolicy));
+            default:
+                throw new IllegalArgumentException("지원하지 않는 batch.executor.mode 입니다. mode=" + mode);
+        }
+    }
+
+    private Executor pooled(int size, int queueCapacity, String rejectionPolicy) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setThreadNamePrefix(THREAD_NAME_PREFIX + "-");
+        pool.setCorePoolSize(size);
+        pool.setMaxPoolSize(size);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setRejectedExecutionHandler(rejectedExecutionHandler(rejectionPolicy));
+        pool.setWaitForTasksToCompleteOnShutdown(true);
+        pool.initialize();
+        return pool;
+    }
+
+    private RejectedExecutionHandler rejectedExecutionHandler(String rejectionPolicy) {
+        switch (rejectionPolicy) {
+            case "block":
+                //queue 에 자리가 날 때까지 작업을 넣는 쪽을 기다리게 한다.
+                return (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("executor 가 종료되었습니다.");
+                    }
+                    try {
+                        executor.getQueue().put(task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("queue 에 넣기 위해 기다리는 중 interrupt 되었습니다.", e);
+                    }
+                };
+            case "caller-runs":
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            case "abort":
+                return new ThreadPoolExecutor.AbortPolicy();
+            default:
+                throw new IllegalArgumentException("지원하지 않는 batch.executor.rejection-policy 입니다. policy=" + rejectionPolicy);
+        }
+    }
+
+    /**
+     * Java 21 이상에서만 제공되는 Executors.newVirtualThreadPerTaskExecutor() 를 찾아 호출한다.
+     **/
+    private ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.practice.springbatch.job.executor;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중(active), 대기 중(queued), 완료(completed), 거절(rejected)된 작업 수를 집계하는 TaskExecutor
+ * <p>
+ * 실제 실행은 delegate Executor 에 맡긴다.
+ * maxConcurrency 를 지정하면 그 수 만큼의 작업이 끝나지 않은 상태에서 새 작업을 넣는 쪽이 기다린다. (backpressure)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class MonitoredTaskExecutor implements TaskExecutor, DisposableBean {
+
+    private final Executor delegate;
+    private final Semaphore permits;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicInteger active = new AtomicInteger();
+
+    public MonitoredTaskExecutor(Executor delegate) {
+        this(delegate, 0);
+    }
+
+    /**
+     * @param delegate 실제로 작업을 실행할 Executor
+     * @param maxConcurrency 동시에 처리 중일 수 있는 작업 수 (0 이하면 제한 없음)
+     **/
+    public MonitoredTaskExecutor(Executor delegate, int maxConcurrency) {
+        Assert.notNull(delegate, "delegate 는 필수 값입니다.");
+        this.delegate = delegate;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        acquire();
+        submitted.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.incrementAndGet();
+                    release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            submitted.decrementAndGet();
+            rejected.incrementAndGet();
+            release();
+            throw new TaskRejectedException("작업이 거절되었습니다. executor=" + delegate, e);
+        }
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public long getQueuedCount() {
+        return Math.max(submitted.get() - completed.get() - active.get(), 0);
+    }
+
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof DisposableBean) {
+            ((DisposableBean) delegate).destroy();
+        } else if (delegate instanceof ExecutorService) {
+            ((ExecutorService) delegate).shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MonitoredTaskExecutor[active=" + getActiveCount() + ", queued=" + getQueuedCount()
+                + ", completed=" + getCompletedCount() + ", rejected=" + getRejectedCount() + "]";
+    }
+
+    private void acquire() {
+        if (permits == null) {
+            return;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("작업을 넣기 위해 기다리는 중 interrupt 되었습니다.", e);
+        }
+    }
+
+    private void release() {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+}
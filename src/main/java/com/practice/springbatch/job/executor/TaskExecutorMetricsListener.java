@@ -0,0 +1,55 @@
+package com.practice.springbatch.job.executor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.listener.StepExecutionListenerSupport;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Step 이 실행되는 동안 TaskExecutor 가 처리한 작업 수를 StepExecution 의 ExecutionContext 에 기록하는 Listener
+ * <p>
+ * TaskExecutor 는 여러 Step 과 Job 이 함께 쓰므로 완료(completed), 거절(rejected) 수는 Step 시작 이후 늘어난 값을,
+ * 실행 중(active), 대기 중(queued) 수는 Step 이 끝난 시점의 값을 기록한다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@RequiredArgsConstructor
+public class TaskExecutorMetricsListener extends StepExecutionListenerSupport {
+
+    public static final String ACTIVE_KEY = "taskExecutor.active";
+    public static final String QUEUED_KEY = "taskExecutor.queued";
+    public static final String COMPLETED_KEY = "taskExecutor.completed";
+    public static final String REJECTED_KEY = "taskExecutor.rejected";
+
+    private final TaskExecutor taskExecutor;
+
+    //StepExecution id 별 Step 시작 시점의 { completed, rejected }
+    private final ConcurrentMap<Long, long[]> snapshots = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        if (taskExecutor instanceof MonitoredTaskExecutor) {
+            MonitoredTaskExecutor monitored = (MonitoredTaskExecutor) taskExecutor;
+            snapshots.put(stepExecution.getId(), new long[]{monitored.getCompletedCount(), monitored.getRejectedCount()});
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        long[] before = snapshots.remove(stepExecution.getId());
+        if (taskExecutor instanceof MonitoredTaskExecutor) {
+            MonitoredTaskExecutor monitored = (MonitoredTaskExecutor) taskExecutor;
+            ExecutionContext executionContext = stepExecution.getExecutionContext();
+            executionContext.putInt(ACTIVE_KEY, monitored.getActiveCount());
+            executionContext.putLong(QUEUED_KEY, monitored.getQueuedCount());
+            executionContext.putLong(COMPLETED_KEY, monitored.getCompletedCount() - (before == null ? 0 : before[0]));
+            executionContext.putLong(REJECTED_KEY, monitored.getRejectedCount() - (before == null ? 0 : before[1]));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,69 @@
+package com.practice.springbatch.job.explore;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 이전에 성공(COMPLETED)한 Job 실행의 ExecutionContext 를 찾아주는 클래스
+ * <p>
+ * RunIdIncrementer 로 매번 새 JobInstance 가 만들어지더라도
+ * 직전 성공 실행에서 남긴 값(watermark, 파일 offset 등)을 이어 받을 때 사용한다.
+ * 실패한 실행의 값은 사용하지 않는다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@RequiredArgsConstructor
+public class LastCompletedExecutionFinder {
+
+    //한 번에 조회할 JobInstance 개수
+    private static final int PAGE_SIZE = 100;
+
+    private final JobExplorer jobExplorer;
+
+    /**
+     * 가장 최근의 JobInstance 부터 거슬러 올라가며 key 를 가진 COMPLETED 실행의 ExecutionContext 를 찾는다.
+     * @param jobName Job 이름
+     * @param key 반드시 포함하고 있어야 하는 ExecutionContext key
+     * @return Optional {@link Optional}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Optional<ExecutionContext> find(String jobName, String key) {
+        return find(jobName, executionContext -> executionContext.containsKey(key));
+    }
+
+    /**
+     * 가장 최근의 JobInstance 부터 거슬러 올라가며 condition 을 만족하는 COMPLETED 실행의 ExecutionContext 를 찾는다.
+     * @param jobName Job 이름
+     * @param condition Job ExecutionContext 가 만족해야 하는 조건
+     * @return Optional {@link Optional}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Optional<ExecutionContext> find(String jobName, Predicate<ExecutionContext> condition) {
+        for (int start = 0; ; start += PAGE_SIZE) {
+            List<JobInstance> instances = jobExplorer.getJobInstances(jobName, start, PAGE_SIZE);
+
+            for (JobInstance instance : instances) {
+                for (JobExecution execution : jobExplorer.getJobExecutions(instance)) {
+                    if (execution.getStatus() == BatchStatus.COMPLETED
+                            && condition.test(execution.getExecutionContext())) {
+                        return Optional.of(execution.getExecutionContext());
+                    }
+                }
+            }
+
+            if (instances.size() < PAGE_SIZE) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.practice.springbatch.job.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * BGZF(block gzip) 형식의 압축 / 해제
+ * <p>
+ * 파일은 독립된 gzip member(block) 들을 이어 붙인 것이므로 일반 gzip 도구로도 풀 수 있다. (bgzip 과 같은 형식)
+ * 각 block header 의 extra field(BC) 에 block 의 압축 크기가 있어 압축을 풀지 않고도 block 경계를 찾을 수 있다.
+ * <p>
+ * 파일 안의 위치는 virtual offset (block 시작 offset &lt;&lt; 16 | block 안의 offset) 으로 나타낸다.
+ * virtual offset 은 파일 순서와 크기 순서가 같으므로 구간 비교에 그대로 사용할 수 있다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public final class BlockGzip {
+
+    //gzip header(10) + XLEN(2) + BC subfield(6)
+    static final int HEADER_SIZE = 18;
+    //CRC32(4) + ISIZE(4)
+    private static final int FOOTER_SIZE = 8;
+
+    //block 하나의 최대 크기 (압축 전, 압축 후 모두)
+    public static final int MAX_BLOCK_SIZE = 64 * 1024;
+    //압축되지 않는 데이터도 압축 후 block 이 MAX_BLOCK_SIZE 를 넘지 않도록 block 에 담을 최대 크기
+    private static final int MAX_INPUT_SIZE = 0xFF00;
+
+    private BlockGzip() {
+    }
+
+    /**
+     * gzip member header 가 BGZF block header 인지 확인한다.
+     **/
+    static boolean isBlockHeader(ByteBuffer header) {
+        return header.remaining() >= HEADER_SIZE
+                && (header.get(0) & 0xFF) == 0x1F && (header.get(1) & 0xFF) == 0x8B
+                && header.get(2) == 8 && (header.get(3) & 0x04) != 0 //deflate, FEXTRA
+                && header.get(12) == 'B' && header.get(13) == 'C';
+    }
+
+    /**
+     * data 를 BGZF block 들로 압축한다.
+     * @param data 압축할 데이터
+     * @param level Deflater 압축 level
+     * @return ByteBuffer[] block 마다 하나
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static ByteBuffer[] compress(byte[] data, int level) {
+        List<ByteBuffer> blocks = new ArrayList<>(data.length / MAX_INPUT_SIZE + 1);
+        Deflater deflater = new Deflater(level, true);
+        CRC32 crc = new CRC32();
+        byte[] output = new byte[MAX_BLOCK_SIZE];
+        try {
+            for (int offset = 0; offset < data.length; offset += MAX_INPUT_SIZE) {
+                int length = Math.min(MAX_INPUT_SIZE, data.length - offset);
+                deflater.reset();
+                deflater.setInput(data, offset, length);
+                deflater.finish();
+                int compressed = 0;
+                while (!deflater.finished()) {
+                    compressed += deflater.deflate(output, compressed, output.length - compressed);
+                    if (compressed == output.length && !deflater.finished()) {
+                        throw new IllegalStateException("압축된 block 이 최대 크기를 넘습니다.");
+                    }
+                }
+                crc.reset();
+                crc.update(data, offset, length);
+                blocks.add(block(output, compressed, crc.getValue(), length));
+            }
+        } finally {
+            deflater.end();
+        }
+        return blocks.toArray(new ByteBuffer[0]);
+    }
+
+    private static ByteBuffer block(byte[] compressed, int compressedLength, long crc, int inputLength) {
+        int blockSize = HEADER_SIZE + compressedLength + FOOTER_SIZE;
+        ByteBuffer block = ByteBuffer.allocate(blockSize).order(ByteOrder.LITTLE_ENDIAN);
+        block.put((byte) 0x1F).put((byte) 0x8B).put((byte) 8).put((byte) 0x04) //magic, deflate, FEXTRA
+                .putInt(0).put((byte) 0).put((byte) 0xFF) //MTIME, XFL, OS
+                .putShort((short) 6) //XLEN
+                .put((byte) 'B').put((byte) 'C').putShort((short) 2).putShort((short) (blockSize - 1))
+                .put(compressed, 0, compressedLength)
+                .putInt((int) crc).putInt(inputLength);
+        block.flip();
+        return block;
+    }
+
+    /**
+     * 파일을 count 개로 나누는 줄 경계 virtual offset 목록(0 과 끝 포함)을 구한다.
+     * <p>
+     * block header 만 따라가며 block 시작 위치를 찾고, 나눌 위치의 block 에서 첫 개행 문자 다음을 경계로 정한다.
+     * 끝은 (파일 크기 &lt;&lt; 16) 이다.
+     * @param path 나눌 파일
+     * @param count 나눌 개수
+     * @return List {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static List<Long> boundaries(Path path, int count) throws IOException {
+        try (Reader reader = new Reader(path)) {
+            long size = reader.size();
+            List<Long> blockStarts = new ArrayList<>();
+            for (long start = 0; start < size; start = reader.nextBlockStart(start)) {
+                blockStarts.add(start);
+            }
+
+            List<Long> boundaries = new ArrayList<>();
+            boundaries.add(0L);
+            int blockIndex = 0;
+            ByteBuffer buffer = ByteBuffer.allocate(MAX_BLOCK_SIZE);
+            for (int i = 1; i < Math.max(count, 1); i++) {
+                long target = size * i / count;
+                while (blockIndex < blockStarts.size() && blockStarts.get(blockIndex) < target) {
+                    blockIndex++;
+                }
+                long boundary = nextLineStart(reader, blockStarts, blockIndex, buffer);
+                if (boundary > boundaries.get(boundaries.size() - 1) && boundary < (size << 16)) {
+                    boundaries.add(boundary);
+                }
+            }
+            if (size > 0) {
+                boundaries.add(size << 16);
+            }
+            return boundaries;
+        }
+    }
+
+    //blockIndex 번째 block 부터 첫 개행 문자 다음의 virtual offset
+    private static long nextLineStart(Reader reader, List<Long> blockStarts, int blockIndex, ByteBuffer buffer) throws IOException {
+        for (int i = blockIndex; i < blockStarts.size(); i++) {
+            long start = blockStarts.get(i);
+            reader.inflate(start, buffer);
+            for (int j = 0; j < buffer.limit(); j++) {
+                if (buffer.get(j) == '\n') {
+                    //block 의 마지막 byte 가 개행이면 다음 block 의 시작이 줄의 시작
+                    return j + 1 < buffer.limit() ? start << 16 | (j + 1)
+                            : (i + 1 < blockStarts.size() ? blockStarts.get(i + 1) << 16 : reader.size() << 16);
+                }
+            }
+        }
+        return reader.size() << 16;
+    }
+
+    /**
+     * BGZF 파일에서 block 단위로 압축을 푸는 Reader
+     **/
+    static final class Reader implements AutoCloseable {
+        private final Path path;
+        private final FileChannel channel;
+        private final Inflater inflater = new Inflater(true);
+        private final CRC32 crc = new CRC32();
+        private final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final ByteBuffer block = ByteBuffer.allocate(MAX_BLOCK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        Reader(Path path) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        }
+
+        long size() throws IOException {
+            return channel.size();
+        }
+
+        /**
+         * start 의 block header 를 읽어 다음 block 의 시작 offset 을 반환한다.
+         **/
+        long nextBlockStart(long start) throws IOException {
+            return start + blockSize(start);
+        }
+
+        private int blockSize(long start) throws IOException {
+            header.clear();
+            readFully(header, start);
+            header.flip();
+            if (!isBlockHeader(header)) {
+                throw new IOException(String.format("BGZF block header 가 아닙니다. path=%s, offset=%d", path, start));
+            }
+            return (header.getShort(16) & 0xFFFF) + 1;
+        }
+
+        /**
+         * start 의 block 을 풀어서 buffer 의 [0, limit) 에 담는다.
+         **/
+        void inflate(long start, ByteBuffer buffer) throws IOException {
+            int blockSize = blockSize(start);
+            block.clear().limit(blockSize);
+            readFully(block, start);
+
+            int compressedLength = blockSize - HEADER_SIZE - FOOTER_SIZE;
+            long expectedCrc = block.getInt(blockSize - FOOTER_SIZE) & 0xFFFFFFFFL;
+            int inputLength = block.getInt(blockSize - 4);
+            if (inputLength < 0 || inputLength > buffer.capacity()) {
+                throw new IOException(String.format("BGZF block 의 크기가 올바르지 않습니다. path=%s, offset=%d", path, start));
+            }
+
+            inflater.reset();
+            inflater.setInput(block.array(), HEADER_SIZE, compressedLength);
+            int inflated = 0;
+            try {
+                while (inflated < inputLength && !inflater.finished()) {
+                    int n = inflater.inflate(buffer.array(), inflated, inputLength - inflated);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    inflated += n;
+                }
+            } catch (DataFormatException e) {
+                throw new IOException(String.format("BGZF block 의 압축을 풀 수 없습니다. path=%s, offset=%d", path, start), e);
+            }
+
+            crc.reset();
+            crc.update(buffer.array(), 0, inflated);
+            if (inflated != inputLength || crc.getValue() != expectedCrc) {
+                throw new IOException(String.format("BGZF block 이 손상되었습니다. path=%s, offset=%d", path, start));
+            }
+            buffer.clear().limit(inflated);
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException(String.format("BGZF block 이 잘렸습니다. path=%s, offset=%d", path, position));
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.end();
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.practice.springbatch.job.file;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컬럼 chunk 의 인코딩 / 디코딩
+ * <ul>
+ *     <li>PLAIN : 값 마다 (UTF-8 길이 + 1) varint 와 byte. null 은 0</li>
+ *     <li>DICTIONARY : 서로 다른 값의 사전을 앞에 쓰고, 값 마다 (사전 번호 + 1) varint. null 은 0</li>
+ *     <li>DELTA : 첫 값과 이전 값과의 차이를 zigzag varint 로 쓴다.</li>
+ * </ul>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+final class ColumnCodec {
+
+    private ColumnCodec() {
+    }
+
+    static byte[] encodePlain(String[] values, int count) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(count * 8);
+        for (int i = 0; i < count; i++) {
+            writeString(out, values[i]);
+        }
+        return out.toByteArray();
+    }
+
+    static String[] decodePlain(ByteBuffer in, int count) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = readString(in);
+        }
+        return values;
+    }
+
+    static byte[] encodeDictionary(String[] values, int count) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> entries = new ArrayList<>();
+        int[] codes = new int[count];
+        for (int i = 0; i < count; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            Integer code = dictionary.get(values[i]);
+            if (code == null) {
+                code = entries.size();
+                dictionary.put(values[i], code);
+                entries.add(values[i]);
+            }
+            codes[i] = code + 1;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(count * 2);
+        writeVarint(out, entries.size());
+        for (String entry : entries) {
+            writeString(out, entry);
+        }
+        for (int i = 0; i < count; i++) {
+            writeVarint(out, codes[i]);
+        }
+        return out.toByteArray();
+    }
+
+    static String[] decodeDictionary(ByteBuffer in, int count) {
+        String[] entries = new String[(int) readVarint(in)];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = readString(in);
+        }
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            int code = (int) readVarint(in);
+            values[i] = code == 0 ? null : entries[code - 1];
+        }
+        return values;
+    }
+
+    static byte[] encodeDelta(int[] values, int count) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(count * 2);
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            long delta = values[i] - previous;
+            writeVarint(out, (delta << 1) ^ (delta >> 63)); //zigzag
+            previous = values[i];
+        }
+        return out.toByteArray();
+    }
+
+    static int[] decodeDelta(ByteBuffer in, int count) {
+        int[] values = new int[count];
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            long zigzag = readVarint(in);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            values[i] = (int) previous;
+        }
+        return values;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarint(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length + 1L);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readVarint(in);
+        if (length == 0) {
+            return null;
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length - 1, StandardCharsets.UTF_8);
+        in.position(in.position() + length - 1);
+        return value;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
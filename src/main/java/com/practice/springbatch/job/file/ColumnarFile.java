@@ -0,0 +1,272 @@
+package com.practice.springbatch.job.file;
+
+import com.practice.springbatch.dto.PlayerSalaryDto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PlayerSalaryDto 를 컬럼 단위로 저장하는 columnar 결과 파일의 형식
+ * <pre>
+ * MAGIC
+ * row group 0 : header (row 수, 컬럼 chunk 크기, 컬럼 별 min / max) + 컬럼 chunk ({@link PlayerSalaryColumn} 순서)
+ * row group 1 ...
+ * footer : row group 수 + (row group offset + header) 목록
+ * footer 크기(4) + MAGIC
+ * </pre>
+ * Reader 는 파일 끝의 footer 만 읽고 필요한 row group 의 필요한 컬럼 chunk 만 읽는다.
+ * row group header 가 footer 에도 있으므로, footer 가 없는 파일(쓰는 중 실패)도 header 를 따라가며 목록을 다시 만들 수 있다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public final class ColumnarFile {
+
+    public static final String EXTENSION = ".psc";
+
+    static final byte[] MAGIC = {'P', 'S', 'C', '1'};
+
+    private static final PlayerSalaryColumn[] COLUMNS = PlayerSalaryColumn.values();
+
+    private ColumnarFile() {
+    }
+
+    /**
+     * 파일 끝의 footer 에서 row group 목록을 읽는다.
+     * @param channel 읽을 파일
+     * @param path 오류 메시지에 사용할 경로
+     * @return List {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static List<RowGroup> readFooter(FileChannel channel, Path path) throws IOException {
+        long size = channel.size();
+        if (size < MAGIC.length + 4 + MAGIC.length) {
+            throw new IOException("columnar 파일이 아니거나 footer 가 없습니다. path=" + path);
+        }
+        ByteBuffer tail = readFully(channel, size - 4 - MAGIC.length, 4 + MAGIC.length, path);
+        int footerSize = tail.getInt();
+        checkMagic(tail, path);
+
+        ByteBuffer footer = readFully(channel, size - 4 - MAGIC.length - footerSize, footerSize, path);
+        int count = footer.getInt();
+        List<RowGroup> rowGroups = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rowGroups.add(RowGroup.read(footer.getLong(), footer));
+        }
+        return rowGroups;
+    }
+
+    /**
+     * 파일 처음부터 end 까지 row group header 를 따라가며 row group 목록을 만든다. (footer 를 쓰기 전에 실패한 파일의 재시작용)
+     * @param channel 읽을 파일
+     * @param end 마지막 row group 의 끝
+     * @param path 오류 메시지에 사용할 경로
+     * @return List {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static List<RowGroup> scan(FileChannel channel, long end, Path path) throws IOException {
+        checkMagic(readFully(channel, 0, MAGIC.length, path), path);
+        return scan(channel, MAGIC.length, end, path);
+    }
+
+    /**
+     * start 부터 end 까지 row group header 를 따라가며 row group 목록을 만든다. (MAGIC 을 확인하지 않는다.)
+     * @param channel 읽을 파일
+     * @param start 첫 row group 의 시작
+     * @param end 마지막 row group 의 끝
+     * @param path 오류 메시지에 사용할 경로
+     * @return List {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static List<RowGroup> scan(FileChannel channel, long start, long end, Path path) throws IOException {
+        List<RowGroup> rowGroups = new ArrayList<>();
+        for (long offset = start; offset < end; ) {
+            RowGroup rowGroup = readRowGroup(channel, offset, path);
+            rowGroups.add(rowGroup);
+            offset = rowGroup.end();
+        }
+        return rowGroups;
+    }
+
+    /**
+     * offset 에서 시작하는 row group 의 header 를 읽는다.
+     **/
+    public static RowGroup readRowGroup(FileChannel channel, long offset, Path path) throws IOException {
+        return RowGroup.read(offset, readFully(channel, offset, RowGroup.HEADER_SIZE, path));
+    }
+
+    /**
+     * row group 목록을 footer 로 만든다. (footer 크기와 MAGIC 포함)
+     **/
+    public static ByteBuffer footer(List<RowGroup> rowGroups) {
+        int footerSize = 4 + rowGroups.size() * (8 + RowGroup.HEADER_SIZE);
+        ByteBuffer footer = ByteBuffer.allocate(footerSize + 4 + MAGIC.length);
+        footer.putInt(rowGroups.size());
+        for (RowGroup rowGroup : rowGroups) {
+            footer.putLong(rowGroup.offset);
+            rowGroup.writeHeader(footer);
+        }
+        footer.putInt(footerSize).put(MAGIC);
+        footer.flip();
+        return footer;
+    }
+
+    public static ByteBuffer magic() {
+        return ByteBuffer.wrap(MAGIC.clone());
+    }
+
+    private static void checkMagic(ByteBuffer buffer, Path path) throws IOException {
+        for (byte b : MAGIC) {
+            if (buffer.get() != b) {
+                throw new IOException("columnar 파일이 아닙니다. path=" + path);
+            }
+        }
+    }
+
+    static ByteBuffer readFully(FileChannel channel, long position, int length, Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException(String.format("columnar 파일이 잘렸습니다. path=%s, offset=%d", path, position));
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * row group 하나의 위치, row 수, 컬럼 chunk 크기와 숫자 컬럼의 min / max
+     **/
+    public static final class RowGroup {
+        //row 수(4) + 컬럼 마다 chunk 크기(4), min(4), max(4)
+        static final int HEADER_SIZE = 4 + COLUMNS.length * 12;
+
+        private final long offset;
+        private final int rowCount;
+        private final int[] lengths;
+        private final int[] min;
+        private final int[] max;
+
+        RowGroup(long offset, int rowCount, int[] lengths, int[] min, int[] max) {
+            this.offset = offset;
+            this.rowCount = rowCount;
+            this.lengths = lengths;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * offset 에 쓸 row group header 와 컬럼 chunk 들을 만든다.
+         * @param offset row group 이 시작할 파일 offset
+         * @param rows row group 에 담을 item 들
+         * @param chunks 컬럼 마다 인코딩된 chunk 를 담아 반환할 배열
+         * @return RowGroup {@link RowGroup}
+         * @author cyh68
+         * @since 2026-10-18
+         **/
+        public static RowGroup of(long offset, List<? extends PlayerSalaryDto> rows, byte[][] chunks) {
+            int[] lengths = new int[COLUMNS.length];
+            int[] min = new int[COLUMNS.length];
+            int[] max = new int[COLUMNS.length];
+            for (PlayerSalaryColumn column : COLUMNS) {
+                int i = column.ordinal();
+                chunks[i] = column.encode(rows);
+                lengths[i] = chunks[i].length;
+                if (column.isNumeric() && !rows.isEmpty()) {
+                    min[i] = Integer.MAX_VALUE;
+                    max[i] = Integer.MIN_VALUE;
+                    for (PlayerSalaryDto row : rows) {
+                        int value = column.intValue(row);
+                        min[i] = Math.min(min[i], value);
+                        max[i] = Math.max(max[i], value);
+                    }
+                }
+            }
+            return new RowGroup(offset, rows.size(), lengths, min, max);
+        }
+
+        static RowGroup read(long offset, ByteBuffer header) {
+            int rowCount = header.getInt();
+            int[] lengths = new int[COLUMNS.length];
+            int[] min = new int[COLUMNS.length];
+            int[] max = new int[COLUMNS.length];
+            for (int i = 0; i < COLUMNS.length; i++) {
+                lengths[i] = header.getInt();
+                min[i] = header.getInt();
+                max[i] = header.getInt();
+            }
+            return new RowGroup(offset, rowCount, lengths, min, max);
+        }
+
+        public void writeHeader(ByteBuffer header) {
+            header.putInt(rowCount);
+            for (int i = 0; i < COLUMNS.length; i++) {
+                header.putInt(lengths[i]).putInt(min[i]).putInt(max[i]);
+            }
+        }
+
+        public ByteBuffer header() {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            writeHeader(header);
+            header.flip();
+            return header;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * 컬럼 chunk 를 읽는다.
+         **/
+        public ByteBuffer readColumn(FileChannel channel, PlayerSalaryColumn column, Path path) throws IOException {
+            long position = offset + HEADER_SIZE;
+            for (int i = 0; i < column.ordinal(); i++) {
+                position += lengths[i];
+            }
+            return readFully(channel, position, lengths[column.ordinal()], path);
+        }
+
+        /**
+         * 모든 컬럼 chunk 를 읽어 row 들을 다시 만든다.
+         **/
+        public List<PlayerSalaryDto> readRows(FileChannel channel, Path path) throws IOException {
+            List<PlayerSalaryDto> rows = new ArrayList<>(rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                rows.add(new PlayerSalaryDto());
+            }
+            for (PlayerSalaryColumn column : COLUMNS) {
+                PlayerSalaryColumn.Values values = column.decode(readColumn(channel, column, path), rowCount);
+                for (int row = 0; row < rowCount; row++) {
+                    values.set(rows.get(row), row);
+                }
+            }
+            return rows;
+        }
+
+        /**
+         * 숫자 컬럼의 [from, to] 범위에 속하는 row 가 있을 수 있는지 여부
+         **/
+        public boolean overlaps(PlayerSalaryColumn column, int from, int to) {
+            int i = column.ordinal();
+            return rowCount > 0 && min[i] <= to && max[i] >= from;
+        }
+
+        /**
+         * row group 의 끝 (다음 row group 의 시작) offset
+         **/
+        public long end() {
+            long end = offset + HEADER_SIZE;
+            for (int length : lengths) {
+                end += length;
+            }
+            return end;
+        }
+    }
+}
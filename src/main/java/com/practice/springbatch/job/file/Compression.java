@@ -0,0 +1,70 @@
+package com.practice.springbatch.job.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * flat file 의 압축 형식
+ * <ul>
+ *     <li>NONE : 압축하지 않은 파일</li>
+ *     <li>GZIP : 일반 gzip. 처음부터 차례로만 풀 수 있으므로 나누어 읽을 수 없다.</li>
+ *     <li>BLOCK_GZIP : 64KB 이하의 독립된 gzip member 를 이어 붙인 BGZF 형식 ({@link BlockGzip}). block 단위로 나누어 읽을 수 있다.</li>
+ * </ul>
+ * 형식은 확장자가 아니라 파일 앞부분의 magic byte 로 판단한다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public enum Compression {
+    NONE,
+    GZIP,
+    BLOCK_GZIP;
+
+    //압축 파일의 확장자
+    public static final String GZIP_EXTENSION = ".gz";
+
+    /**
+     * 파일 앞부분의 magic byte 로 압축 형식을 판단한다. 파일이 없거나 비어 있으면 NONE 이다.
+     * @param path 확인할 파일
+     * @return Compression {@link Compression}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static Compression detect(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return NONE;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer head = ByteBuffer.allocate(BlockGzip.HEADER_SIZE);
+            while (head.hasRemaining() && channel.read(head) > 0) {
+                //header 크기만큼 읽는다.
+            }
+            head.flip();
+            if (head.remaining() < 2 || (head.get(0) & 0xFF) != 0x1F || (head.get(1) & 0xFF) != 0x8B) {
+                return NONE;
+            }
+            return BlockGzip.isBlockHeader(head) ? BLOCK_GZIP : GZIP;
+        } catch (IOException e) {
+            throw new IllegalStateException("파일의 압축 형식을 확인할 수 없습니다. path=" + path, e);
+        }
+    }
+
+    /**
+     * path 가 없고 path.gz 가 있으면 path.gz 를 반환한다. (확장자로 압축 파일 선택)
+     * @param path 읽을 파일
+     * @return Path {@link Path}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static Path resolve(Path path) {
+        if (Files.exists(path)) {
+            return path;
+        }
+        Path compressed = Paths.get(path + GZIP_EXTENSION);
+        return Files.exists(compressed) ? compressed : path;
+    }
+}
@@ -0,0 +1,143 @@
+package com.practice.springbatch.job.file;
+
+import com.practice.springbatch.dto.PlayerSalaryDto;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * columnar 결과 파일({@link ColumnarFile})에 저장하는 PlayerSalaryDto 의 컬럼과 인코딩
+ * <p>
+ * 컬럼 chunk 는 파일에 이 enum 의 순서대로 저장된다. (순서를 바꾸면 기존 파일을 읽을 수 없다.)
+ * 숫자 컬럼은 row group 마다 min / max 통계를 남겨서 Reader 가 범위에 맞지 않는 row group 을 건너뛸 수 있다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public enum PlayerSalaryColumn {
+    ID(Encoding.PLAIN, PlayerSalaryDto::getID, PlayerSalaryDto::setID),
+    LAST_NAME(Encoding.DICTIONARY, PlayerSalaryDto::getLastName, PlayerSalaryDto::setLastName),
+    FIRST_NAME(Encoding.PLAIN, PlayerSalaryDto::getFirstName, PlayerSalaryDto::setFirstName),
+    POSITION(Encoding.DICTIONARY, PlayerSalaryDto::getPosition, PlayerSalaryDto::setPosition),
+    BIRTH_YEAR(PlayerSalaryDto::getBirthYear, PlayerSalaryDto::setBirthYear),
+    DEBUT_YEAR(PlayerSalaryDto::getDebutYear, PlayerSalaryDto::setDebutYear),
+    SALARY(PlayerSalaryDto::getSalary, PlayerSalaryDto::setSalary);
+
+    /**
+     * 컬럼 chunk 의 인코딩
+     **/
+    public enum Encoding {
+        PLAIN,
+        DICTIONARY,
+        DELTA
+    }
+
+    private final Encoding encoding;
+    private final Function<PlayerSalaryDto, String> stringGetter;
+    private final BiConsumer<PlayerSalaryDto, String> stringSetter;
+    private final ToIntFunction<PlayerSalaryDto> intGetter;
+    private final ObjIntConsumer<PlayerSalaryDto> intSetter;
+
+    PlayerSalaryColumn(Encoding encoding, Function<PlayerSalaryDto, String> getter, BiConsumer<PlayerSalaryDto, String> setter) {
+        this.encoding = encoding;
+        this.stringGetter = getter;
+        this.stringSetter = setter;
+        this.intGetter = null;
+        this.intSetter = null;
+    }
+
+    PlayerSalaryColumn(ToIntFunction<PlayerSalaryDto> getter, ObjIntConsumer<PlayerSalaryDto> setter) {
+        this.encoding = Encoding.DELTA;
+        this.stringGetter = null;
+        this.stringSetter = null;
+        this.intGetter = getter;
+        this.intSetter = setter;
+    }
+
+    public Encoding getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * min / max 통계가 있는 숫자 컬럼인지 여부
+     **/
+    public boolean isNumeric() {
+        return encoding == Encoding.DELTA;
+    }
+
+    /**
+     * 숫자 컬럼의 값 (문자 컬럼은 사용하지 않는다.)
+     **/
+    int intValue(PlayerSalaryDto item) {
+        return intGetter.applyAsInt(item);
+    }
+
+    /**
+     * rows 의 이 컬럼 값들을 인코딩한다.
+     **/
+    byte[] encode(List<? extends PlayerSalaryDto> rows) {
+        int count = rows.size();
+        if (isNumeric()) {
+            int[] values = new int[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = intGetter.applyAsInt(rows.get(i));
+            }
+            return ColumnCodec.encodeDelta(values, count);
+        }
+
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = stringGetter.apply(rows.get(i));
+        }
+        return encoding == Encoding.DICTIONARY
+                ? ColumnCodec.encodeDictionary(values, count)
+                : ColumnCodec.encodePlain(values, count);
+    }
+
+    /**
+     * 인코딩된 컬럼 chunk 를 풀어 row 번호로 값을 꺼낼 수 있게 한다.
+     **/
+    public Values decode(ByteBuffer in, int count) {
+        if (isNumeric()) {
+            int[] values = ColumnCodec.decodeDelta(in, count);
+            return new Values() {
+                @Override
+                public void set(PlayerSalaryDto item, int row) {
+                    intSetter.accept(item, values[row]);
+                }
+
+                @Override
+                public int intValue(int row) {
+                    return values[row];
+                }
+            };
+        }
+
+        String[] values = encoding == Encoding.DICTIONARY
+                ? ColumnCodec.decodeDictionary(in, count)
+                : ColumnCodec.decodePlain(in, count);
+        return new Values() {
+            @Override
+            public void set(PlayerSalaryDto item, int row) {
+                stringSetter.accept(item, values[row]);
+            }
+
+            @Override
+            public int intValue(int row) {
+                throw new UnsupportedOperationException(name() + " 은 숫자 컬럼이 아닙니다.");
+            }
+        };
+    }
+
+    /**
+     * 하나의 row group 에서 풀어낸 컬럼 값들
+     **/
+    public interface Values {
+        void set(PlayerSalaryDto item, int row);
+
+        int intValue(int row);
+    }
+}
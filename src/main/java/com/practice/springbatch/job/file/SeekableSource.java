@@ -0,0 +1,194 @@
+package com.practice.springbatch.job.file;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 압축 형식과 관계없이 offset 으로 이동하고 데이터를 덩어리(block) 단위로 읽는 입력
+ * <p>
+ * offset 은 형식 마다 다르다. 어느 형식이든 한 번에 채운 덩어리 안에서는 시작 offset + index 가 그 byte 의 offset 이다.
+ * <ul>
+ *     <li>NONE : 파일 offset</li>
+ *     <li>GZIP : 압축을 푼 데이터의 offset. 이동하려면 처음부터 다시 풀어야 한다.</li>
+ *     <li>BLOCK_GZIP : virtual offset ({@link BlockGzip}). block 으로 바로 이동한다.</li>
+ * </ul>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public interface SeekableSource extends Closeable {
+
+    /**
+     * 다음 {@link #next} 가 offset 부터 채우도록 이동한다.
+     **/
+    void seek(long offset) throws IOException;
+
+    /**
+     * buffer 를 비우고 다음 덩어리를 채운다. (읽을 수 있는 상태로 flip)
+     * @return 채운 덩어리 첫 byte 의 offset. 더 읽을 데이터가 없으면 -1
+     **/
+    long next(ByteBuffer buffer) throws IOException;
+
+    /**
+     * 파일의 압축 형식에 맞는 SeekableSource 를 연다.
+     * @param path 읽을 파일
+     * @return SeekableSource {@link SeekableSource}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    static SeekableSource open(Path path) throws IOException {
+        switch (Compression.detect(path)) {
+            case GZIP:
+                return new GzipSource(path);
+            case BLOCK_GZIP:
+                return new BlockGzipSource(path);
+            default:
+                return new FileSource(path);
+        }
+    }
+
+    /**
+     * 압축하지 않은 파일
+     **/
+    final class FileSource implements SeekableSource {
+        private final Path path;
+        private final FileChannel channel;
+
+        FileSource(Path path) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        }
+
+        @Override
+        public void seek(long offset) throws IOException {
+            if (offset > channel.size()) {
+                throw new IOException(String.format("offset 이 파일 크기보다 큽니다. offset=%d, size=%d, path=%s",
+                        offset, channel.size(), path));
+            }
+            channel.position(offset);
+        }
+
+        @Override
+        public long next(ByteBuffer buffer) throws IOException {
+            long offset = channel.position();
+            buffer.clear();
+            int read = channel.read(buffer);
+            buffer.flip();
+            return read < 0 ? -1 : offset;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * 일반 gzip 파일. 뒤로 이동하면 처음부터 다시 푼다.
+     **/
+    final class GzipSource implements SeekableSource {
+        private final Path path;
+        private InputStream in;
+        private long position;
+
+        GzipSource(Path path) throws IOException {
+            this.path = path;
+            reopen();
+        }
+
+        @Override
+        public void seek(long offset) throws IOException {
+            if (offset < position) {
+                reopen();
+            }
+            //압축을 푼 데이터를 offset 까지 버린다.
+            byte[] skip = new byte[8 * 1024];
+            while (position < offset) {
+                int read = in.read(skip, 0, (int) Math.min(skip.length, offset - position));
+                if (read < 0) {
+                    throw new IOException(String.format("offset 이 압축을 푼 크기보다 큽니다. offset=%d, path=%s", offset, path));
+                }
+                position += read;
+            }
+        }
+
+        @Override
+        public long next(ByteBuffer buffer) throws IOException {
+            long offset = position;
+            int read = in.read(buffer.array(), 0, buffer.capacity());
+            buffer.clear().limit(Math.max(read, 0));
+            if (read < 0) {
+                return -1;
+            }
+            position += read;
+            return offset;
+        }
+
+        private void reopen() throws IOException {
+            close();
+            //연속된 gzip member 도 이어서 푼다.
+            in = new GZIPInputStream(new BufferedInputStream(
+                    Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ)), 64 * 1024), 64 * 1024);
+            position = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (in != null) {
+                in.close();
+                in = null;
+            }
+        }
+    }
+
+    /**
+     * BGZF 파일. virtual offset 의 block 으로 바로 이동한다.
+     **/
+    final class BlockGzipSource implements SeekableSource {
+        private final BlockGzip.Reader reader;
+        private final long size;
+        private long nextBlock;
+        private int skip;
+
+        BlockGzipSource(Path path) throws IOException {
+            this.reader = new BlockGzip.Reader(path);
+            this.size = reader.size();
+        }
+
+        @Override
+        public void seek(long offset) throws IOException {
+            nextBlock = offset >>> 16;
+            skip = (int) (offset & 0xFFFF);
+        }
+
+        @Override
+        public long next(ByteBuffer buffer) throws IOException {
+            while (nextBlock < size) {
+                long start = nextBlock;
+                reader.inflate(start, buffer);
+                nextBlock = reader.nextBlockStart(start);
+
+                int from = Math.min(skip, buffer.limit());
+                skip = 0;
+                buffer.position(from);
+                if (buffer.hasRemaining()) {
+                    return start << 16 | from;
+                }
+            }
+            buffer.clear().limit(0);
+            return -1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.practice.springbatch.job.listener;
+
+import com.practice.springbatch.job.explore.LastCompletedExecutionFinder;
+import com.practice.springbatch.job.file.Compression;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.listener.JobExecutionListenerSupport;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * 뒤에 줄이 추가되기만 하는 입력 파일에서 이번 실행이 처리할 byte 구간을 정하는 Listener
+ * <p>
+ * 모든 실행은 처리한 구간의 끝(to)과 파일 식별 정보(fileKey, 앞부분 checksum)를 Job ExecutionContext 에 남긴다.
+ * tail=true Job Parameter 가 주어지면 직전 성공 실행의 to 부터 이어서 처리(from)하고, 결과 파일도 이어서 쓰도록(append) 한다.
+ * 다음과 같은 경우에는 파일이 잘렸거나 교체(rotation)된 것으로 보고 처음부터 다시 처리한다.
+ * <ul>
+ *     <li>파일 크기가 직전 실행의 to 보다 작다.</li>
+ *     <li>fileKey(inode 등)가 달라졌다. (fileKey 를 지원하지 않는 파일 시스템이면 비교하지 않는다.)</li>
+ *     <li>직전 실행이 처리한 구간의 처음과 마지막 CHECKSUM_BLOCK_SIZE byte 의 CRC32 가 달라졌다.</li>
+ * </ul>
+ * checksum 은 파일 전체가 아니라 양 끝 block 만 계산하므로 실행 시간은 추가된 구간의 크기에 비례한다.
+ * tail 모드의 to 는 마지막 개행 문자 다음으로 정해서, 아직 쓰는 중인 마지막 줄은 다음 실행에서 처리한다.
+ * <p>
+ * 결과 파일 이름과 stepMode 로 만든 target 도 함께 남기고, 이어서 처리할 때는 target 이 같은 직전 성공 실행만 사용한다.
+ * (다른 결과 파일에 쓴 실행의 to 부터 이어 쓰면 이 결과 파일에는 그 사이의 줄이 빠진다.) 같은 target 의 실행이 없으면 처음부터 처리한다.
+ * target 이 null 인 실행(이 입력 파일을 읽지 않는 실행)은 구간을 정하지도, 남기지도 않는다.
+ * 값은 Job ExecutionContext 에 저장되므로 재시작해도 같은 구간을 처리한다.
+ * <p>
+ * path 가 없으면 path.gz 를 읽는다. 압축 파일은 byte 구간을 이어서 처리할 수 없으므로 tail 이어도 항상 전체를 처리한다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class FileTailListener extends JobExecutionListenerSupport {
+
+    public static final String FROM_KEY = "fileTail.from";
+    public static final String TO_KEY = "fileTail.to";
+    public static final String APPEND_KEY = "fileTail.append";
+    public static final String FILE_KEY_KEY = "fileTail.fileKey";
+    public static final String CHECKSUM_KEY = "fileTail.checksum";
+    public static final String TARGET_KEY = "fileTail.target";
+
+    //처리한 구간의 처음과 마지막에서 checksum 을 계산할 크기
+    static final int CHECKSUM_BLOCK_SIZE = 64 * 1024;
+
+    //마지막 개행 문자를 찾을 때 한 번에 읽을 크기
+    private static final int SCAN_BLOCK_SIZE = 8 * 1024;
+
+    private final Path path;
+    private final LastCompletedExecutionFinder lastCompletedExecutionFinder;
+    private final Function<JobParameters, String> outputTarget;
+
+    /**
+     * @param path 입력 파일
+     * @param lastCompletedExecutionFinder {@link LastCompletedExecutionFinder}
+     * @param outputTarget Job Parameter 로 결과를 쓸 대상(결과 파일, stepMode)을 정하는 함수. 입력 파일을 읽지 않는 실행이면 null
+     **/
+    public FileTailListener(Path path, LastCompletedExecutionFinder lastCompletedExecutionFinder,
+                            Function<JobParameters, String> outputTarget) {
+        Assert.notNull(path, "path 는 필수 값입니다.");
+        Assert.notNull(lastCompletedExecutionFinder, "lastCompletedExecutionFinder 는 필수 값입니다.");
+        Assert.notNull(outputTarget, "outputTarget 은 필수 값입니다.");
+        this.path = path;
+        this.lastCompletedExecutionFinder = lastCompletedExecutionFinder;
+        this.outputTarget = outputTarget;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        ExecutionContext executionContext = jobExecution.getExecutionContext();
+
+        //재시작이라면 이전 실행에서 정한 구간을 그대로 사용
+        if (executionContext.containsKey(TO_KEY)) {
+            return;
+        }
+
+        //입력 파일을 읽지 않는 실행(multiFile 등)의 to 가 다음 tail 실행의 from 이 되지 않도록 아무것도 남기지 않는다.
+        String target = outputTarget.apply(jobExecution.getJobParameters());
+        if (target == null) {
+            return;
+        }
+
+        Path input = Compression.resolve(path);
+        if (Compression.detect(input) != Compression.NONE) {
+            executionContext.putString(TARGET_KEY, target);
+            executionContext.putLong(FROM_KEY, 0);
+            executionContext.putLong(TO_KEY, Long.MAX_VALUE);
+            executionContext.put(APPEND_KEY, false);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            boolean tail = Boolean.parseBoolean(jobExecution.getJobParameters().getString("tail"));
+            long size = channel.size();
+            long to = tail ? lastLineEnd(channel, size) : size;
+            String fileKey = fileKey(input);
+
+            long from = 0;
+            if (tail) {
+                String jobName = jobExecution.getJobInstance().getJobName();
+                Optional<ExecutionContext> last = lastCompletedExecutionFinder.find(jobName,
+                        context -> context.containsKey(TO_KEY) && target.equals(context.getString(TARGET_KEY, null)));
+                if (last.isPresent() && isSameFile(channel, to, fileKey, last.get())) {
+                    from = last.get().getLong(TO_KEY);
+                }
+            }
+
+            executionContext.putString(TARGET_KEY, target);
+            executionContext.putLong(FROM_KEY, from);
+            executionContext.putLong(TO_KEY, to);
+            executionContext.put(APPEND_KEY, from > 0);
+            if (fileKey != null) {
+                executionContext.putString(FILE_KEY_KEY, fileKey);
+            }
+            executionContext.putLong(CHECKSUM_KEY, checksum(channel, to));
+        } catch (NoSuchFileException e) {
+            //파일이 없으면 구간을 정하지 않는다. (Reader 가 파일을 열 때 실패한다.)
+        } catch (IOException e) {
+            throw new UncheckedIOException("입력 파일의 처리 구간을 정할 수 없습니다. path=" + path, e);
+        }
+    }
+
+    /**
+     * 직전 실행이 처리한 구간이 지금 파일의 앞부분과 같은지 확인한다.
+     **/
+    private boolean isSameFile(FileChannel channel, long to, String fileKey, ExecutionContext last) throws IOException {
+        long lastTo = last.getLong(TO_KEY);
+        if (lastTo > to) {
+            return false;
+        }
+        String lastFileKey = last.containsKey(FILE_KEY_KEY) ? last.getString(FILE_KEY_KEY) : null;
+        if (fileKey != null && lastFileKey != null && !Objects.equals(fileKey, lastFileKey)) {
+            return false;
+        }
+        return last.containsKey(CHECKSUM_KEY) && checksum(channel, lastTo) == last.getLong(CHECKSUM_KEY);
+    }
+
+    private static String fileKey(Path input) throws IOException {
+        Object fileKey = Files.readAttributes(input, BasicFileAttributes.class).fileKey();
+        return fileKey == null ? null : fileKey.toString();
+    }
+
+    /**
+     * [0, to) 구간의 처음과 마지막 CHECKSUM_BLOCK_SIZE byte 로 CRC32 를 계산한다.
+     **/
+    static long checksum(FileChannel channel, long to) throws IOException {
+        CRC32 crc = new CRC32();
+        long headEnd = Math.min(to, CHECKSUM_BLOCK_SIZE);
+        update(crc, channel, 0, headEnd);
+        update(crc, channel, Math.max(headEnd, to - CHECKSUM_BLOCK_SIZE), to);
+        return crc.getValue();
+    }
+
+    private static void update(CRC32 crc, FileChannel channel, long from, long to) throws IOException {
+        if (from >= to) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, from + buffer.position()) < 0) {
+                throw new IOException("파일이 예상보다 짧습니다. expected=" + to);
+            }
+        }
+        buffer.flip();
+        crc.update(buffer);
+    }
+
+    /**
+     * 파일 끝에서부터 거슬러 올라가며 마지막 개행 문자를 찾아 그 다음 offset 을 반환한다. 개행 문자가 없으면 0 을 반환한다.
+     **/
+    private static long lastLineEnd(FileChannel channel, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BLOCK_SIZE);
+        long end = size;
+        while (end > 0) {
+            long start = Math.max(0, end - SCAN_BLOCK_SIZE);
+            buffer.clear().limit((int) (end - start));
+            while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) > 0) {
+                //block 크기만큼 읽는다.
+            }
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.practice.springbatch.job.listener;
+
+import com.practice.springbatch.job.explore.LastCompletedExecutionFinder;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.listener.JobExecutionListenerSupport;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * plainTextJob 이 처리할 plain_text 의 id 구간(watermark)을 정하는 Listener
+ * <p>
+ * Job 시작 시점의 MAX(id) 를 상한(to)으로 고정하고, incremental 모드라면
+ * 직전에 성공한 실행의 상한을 하한(from, 미포함)으로 사용해 그 이후에 추가된 행만 처리하게 한다.
+ * 두 값은 Job ExecutionContext 에 저장되므로 재시작해도 같은 구간을 처리하며,
+ * 실패한 실행의 상한은 다음 실행의 하한으로 사용되지 않는다.
+ * <p>
+ * MAX(id) 를 watermark 로 쓰려면 상한 이하의 id 를 가진 행이 Job 시작 이후에 새로 보이지 않아야 한다.
+ * IDENTITY id 는 INSERT 시점에 발급되고 commit 순서는 그와 다를 수 있으므로, 동시에 INSERT 하는 transaction 이 있다면
+ * 더 작은 id 의 행이 상한을 정한 뒤에 commit 되어 어느 실행에서도 처리되지 않을 수 있다.
+ * (이미 처리한 행의 UPDATE / DELETE 도 반영되지 않는다.)
+ * 그런 경우 watermarkLag Job Parameter 로 MAX(id) 에서 그 만큼 뺀 값을 상한으로 사용해,
+ * 최근에 발급된 id 들은 commit 이 끝난 뒤 다음 실행에서 처리하게 한다. 상한은 하한보다 작아지지 않는다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PlainTextWatermarkListener extends JobExecutionListenerSupport {
+
+    public static final String FROM_KEY = "plainText.watermark.from";
+    public static final String TO_KEY = "plainText.watermark.to";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LastCompletedExecutionFinder lastCompletedExecutionFinder;
+
+    public PlainTextWatermarkListener(DataSource dataSource,
+                                      LastCompletedExecutionFinder lastCompletedExecutionFinder) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.lastCompletedExecutionFinder = lastCompletedExecutionFinder;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        ExecutionContext executionContext = jobExecution.getExecutionContext();
+
+        //재시작이라면 이전 실행에서 정한 구간을 그대로 사용
+        if (executionContext.containsKey(TO_KEY)) {
+            return;
+        }
+
+        JobParameters jobParameters = jobExecution.getJobParameters();
+        int from = 0;
+        if (Boolean.parseBoolean(jobParameters.getString("incremental"))) {
+            String jobName = jobExecution.getJobInstance().getJobName();
+            Optional<ExecutionContext> last = lastCompletedExecutionFinder.find(jobName, TO_KEY);
+            if (last.isPresent()) {
+                from = last.get().getInt(TO_KEY);
+                executionContext.putInt(FROM_KEY, from);
+            }
+        }
+
+        Integer maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM plain_text", Integer.class);
+        Long lag = jobParameters.getLong("watermarkLag", 0L);
+        long to = (maxId == null ? 0 : maxId) - lag;
+        //아직 commit 되지 않았을 수 있는 최근 id 는 다음 실행으로 미룬다.
+        executionContext.putInt(TO_KEY, (int) Math.max(to, from));
+    }
+}
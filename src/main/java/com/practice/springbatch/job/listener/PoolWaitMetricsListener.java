@@ -0,0 +1,60 @@
+package com.practice.springbatch.job.listener;
+
+import com.practice.springbatch.config.PoolWaitMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.listener.StepExecutionListenerSupport;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Step 이 실행되는 동안 connection pool 별로 connection 을 기다린 횟수와 시간을 StepExecution 의 ExecutionContext 에 기록하는 Listener
+ * <p>
+ * dataSourcePool.{pool 이름}.* 형식의 key 로 Step 시작 이후의 대기 횟수, 누적 대기 시간, timeout 횟수와
+ * 종료 시점의 최대 대기 시간, 대기 중인 쓰레드 수를 기록한다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@RequiredArgsConstructor
+public class PoolWaitMetricsListener extends StepExecutionListenerSupport {
+
+    public static final String KEY_PREFIX = "dataSourcePool.";
+
+    private final PoolWaitMetrics poolWaitMetrics;
+
+    //StepExecution id 별 Step 시작 시점의 값 (partition Worker Step 처럼 여러 StepExecution 이 Listener 하나를 함께 쓸 수 있다.)
+    private final ConcurrentMap<Long, Map<String, PoolWaitMetrics.Snapshot>> snapshots = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        snapshots.put(stepExecution.getId(), poolWaitMetrics.snapshot());
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        Map<String, PoolWaitMetrics.Snapshot> before = snapshots.getOrDefault(stepExecution.getId(), Collections.emptyMap());
+        snapshots.remove(stepExecution.getId());
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        poolWaitMetrics.snapshot().forEach((pool, after) -> {
+            PoolWaitMetrics.Snapshot start = before.get(pool);
+            long acquireCount = after.getAcquireCount() - (start == null ? 0 : start.getAcquireCount());
+            long acquireNanos = after.getAcquireNanos() - (start == null ? 0 : start.getAcquireNanos());
+            long timeouts = after.getTimeouts() - (start == null ? 0 : start.getTimeouts());
+
+            String prefix = KEY_PREFIX + pool + ".";
+            executionContext.putLong(prefix + "acquireCount", acquireCount);
+            executionContext.putLong(prefix + "acquireWaitMillis", TimeUnit.NANOSECONDS.toMillis(acquireNanos));
+            executionContext.putLong(prefix + "timeouts", timeouts);
+            executionContext.putLong(prefix + "maxAcquireWaitMillis", after.getMaxAcquireMillis());
+            executionContext.putInt(prefix + "pendingThreads", after.getPendingThreads());
+            executionContext.putInt(prefix + "totalConnections", after.getTotalConnections());
+        });
+        return null;
+    }
+}
@@ -0,0 +1,229 @@
+package com.practice.springbatch.job.mapper;
+
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link FlatFileRecord}, {@link FlatFileColumn} 이 붙은 Dto 로 한 줄을 바로 매핑하는 LineMapper
+ * <p>
+ * DelimitedLineTokenizer + FieldSetMapper 는 줄 마다 모든 컬럼을 String[] 로 자르고 DefaultFieldSet 을 만든 뒤
+ * 다시 readInt / readString 으로 변환한다.
+ * 이 LineMapper 는 생성 시점에 Dto 의 생성자와 setter 를 LambdaMetafactory 로 묶어두고,
+ * 줄을 한 번만 훑으면서 매핑할 컬럼만 필드 타입에 맞게 변환해 바로 넣는다. (숫자는 substring 없이 변환)
+ * <p>
+ * 따옴표로 감싼 컬럼은 지원하지 않는다.
+ * 변환에 실패하거나 컬럼이 부족하면 줄 번호와 내용을 담은 {@link FlatFileParseException} 을 던진다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class AnnotatedLineMapper<T> implements LineMapper<T> {
+
+    private final Class<T> type;
+    private final char delimiter;
+    private final Supplier<T> factory;
+    //컬럼 번호 별 setter (매핑하지 않는 컬럼은 null)
+    private final Column<T>[] columns;
+
+    @SuppressWarnings("unchecked")
+    public AnnotatedLineMapper(Class<T> type) {
+        Assert.notNull(type, "type 은 필수 값입니다.");
+        FlatFileRecord record = type.getAnnotation(FlatFileRecord.class);
+        Assert.notNull(record, type.getName() + " 에 @FlatFileRecord 가 없습니다.");
+
+        this.type = type;
+        this.delimiter = record.delimiter();
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        this.factory = factory(lookup, type);
+
+        int lastIndex = -1;
+        for (Field field : fields(type)) {
+            lastIndex = Math.max(lastIndex, field.getAnnotation(FlatFileColumn.class).index());
+        }
+        Assert.state(lastIndex >= 0, type.getName() + " 에 @FlatFileColumn 이 붙은 필드가 없습니다.");
+
+        this.columns = new Column[lastIndex + 1];
+        for (Field field : fields(type)) {
+            int index = field.getAnnotation(FlatFileColumn.class).index();
+            Assert.state(index >= 0, field + " 의 컬럼 번호는 0 이상이어야 합니다.");
+            Assert.state(columns[index] == null, "컬럼 번호가 중복됩니다. index=" + index + ", field=" + field);
+            columns[index] = column(lookup, type, field);
+        }
+    }
+
+    @Override
+    public T mapLine(String line, int lineNumber) throws Exception {
+        T item = factory.get();
+        int length = line.length();
+        int lastIndex = columns.length - 1;
+
+        int index = 0;
+        int start = 0;
+        while (index <= lastIndex) {
+            int end = line.indexOf(delimiter, start);
+            if (end < 0) {
+                end = length;
+            }
+
+            Column<T> column = columns[index];
+            if (column != null) {
+                //앞뒤 공백 제거 (FieldSet.readXxx 와 같은 동작)
+                int begin = start;
+                int finish = end;
+                while (begin < finish && line.charAt(begin) <= ' ') {
+                    begin++;
+                }
+                while (finish > begin && line.charAt(finish - 1) <= ' ') {
+                    finish--;
+                }
+                try {
+                    column.setter.set(item, line, begin, finish);
+                } catch (RuntimeException e) {
+                    throw new FlatFileParseException(String.format("%d 번째 줄의 %d 번째 컬럼(%s)을 변환할 수 없습니다. value='%s'",
+                            lineNumber, index, column.name, line.substring(begin, finish)), e, line, lineNumber);
+                }
+            }
+
+            index++;
+            if (end == length) {
+                break;
+            }
+            start = end + 1;
+        }
+
+        if (index <= lastIndex) {
+            throw new FlatFileParseException(String.format("%d 번째 줄의 컬럼 수가 부족합니다. expected=%d, actual=%d",
+                    lineNumber, lastIndex + 1, index), line, lineNumber);
+        }
+        return item;
+    }
+
+    @Override
+    public String toString() {
+        return "AnnotatedLineMapper[" + type.getName() + "]";
+    }
+
+    private static List<Field> fields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        ReflectionUtils.doWithFields(type, fields::add, field -> field.isAnnotationPresent(FlatFileColumn.class));
+        return fields;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> factory(MethodHandles.Lookup lookup, Class<T> type) {
+        try {
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+            return (Supplier<T>) LambdaMetafactory.metafactory(
+                    lookup,
+                    "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    constructor,
+                    MethodType.methodType(type)).getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException(type.getName() + " 에 public 기본 생성자가 없습니다.", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Column<T> column(MethodHandles.Lookup lookup, Class<T> type, Field field) {
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, field.getName());
+        if (descriptor == null || descriptor.getWriteMethod() == null) {
+            throw new IllegalStateException(field + " 의 setter 가 없습니다.");
+        }
+
+        Class<?> fieldType = descriptor.getPropertyType();
+        try {
+            MethodHandle setter = lookup.unreflect(descriptor.getWriteMethod());
+            ColumnSetter<T> columnSetter;
+            if (fieldType == int.class) {
+                ObjIntConsumer<T> consumer = (ObjIntConsumer<T>) bind(lookup, setter, type,
+                        ObjIntConsumer.class, int.class);
+                columnSetter = (item, line, begin, end) -> consumer.accept(item, Integer.parseInt(line, begin, end, 10));
+            } else if (fieldType == long.class) {
+                ObjLongConsumer<T> consumer = (ObjLongConsumer<T>) bind(lookup, setter, type,
+                        ObjLongConsumer.class, long.class);
+                columnSetter = (item, line, begin, end) -> consumer.accept(item, Long.parseLong(line, begin, end, 10));
+            } else if (fieldType == double.class) {
+                ObjDoubleConsumer<T> consumer = (ObjDoubleConsumer<T>) bind(lookup, setter, type,
+                        ObjDoubleConsumer.class, double.class);
+                columnSetter = (item, line, begin, end) -> consumer.accept(item, Double.parseDouble(line.substring(begin, end)));
+            } else {
+                BiConsumer<T, Object> consumer = (BiConsumer<T, Object>) bind(lookup, setter, type,
+                        BiConsumer.class, Object.class);
+                columnSetter = objectSetter(field, fieldType, consumer);
+            }
+            return new Column<>(field.getName(), columnSetter);
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(field + " 의 setter 를 함수로 만들 수 없습니다.", e);
+        }
+    }
+
+    private static <T> ColumnSetter<T> objectSetter(Field field, Class<?> fieldType, BiConsumer<T, Object> consumer) {
+        if (fieldType == String.class) {
+            return (item, line, begin, end) -> consumer.accept(item, line.substring(begin, end));
+        }
+        //wrapper 타입은 빈 값이면 null 을 넣는다.
+        if (fieldType == Integer.class) {
+            return (item, line, begin, end) -> consumer.accept(item, begin == end ? null : Integer.parseInt(line, begin, end, 10));
+        }
+        if (fieldType == Long.class) {
+            return (item, line, begin, end) -> consumer.accept(item, begin == end ? null : Long.parseLong(line, begin, end, 10));
+        }
+        if (fieldType == Double.class) {
+            return (item, line, begin, end) -> consumer.accept(item, begin == end ? null : Double.valueOf(line.substring(begin, end)));
+        }
+        if (fieldType == boolean.class || fieldType == Boolean.class) {
+            boolean primitive = fieldType == boolean.class;
+            return (item, line, begin, end) -> consumer.accept(item,
+                    begin == end && !primitive ? null : Boolean.valueOf(line.substring(begin, end)));
+        }
+        throw new IllegalStateException(field + " 의 타입(" + fieldType.getName() + ")은 지원하지 않습니다.");
+    }
+
+    private static Object bind(MethodHandles.Lookup lookup, MethodHandle setter, Class<?> type,
+                               Class<?> functionType, Class<?> valueType) throws Throwable {
+        MethodType instantiatedType = MethodType.methodType(void.class, type, setter.type().parameterType(1));
+        return LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                MethodType.methodType(functionType),
+                MethodType.methodType(void.class, Object.class, valueType),
+                setter,
+                valueType == Object.class ? instantiatedType.wrap().changeReturnType(void.class) : instantiatedType).getTarget().invoke();
+    }
+
+    @FunctionalInterface
+    private interface ColumnSetter<T> {
+        void set(T item, String line, int begin, int end);
+    }
+
+    private static final class Column<T> {
+        private final String name;
+        private final ColumnSetter<T> setter;
+
+        private Column(String name, ColumnSetter<T> setter) {
+            this.name = name;
+            this.setter = setter;
+        }
+    }
+}
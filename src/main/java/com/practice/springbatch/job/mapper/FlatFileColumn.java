@@ -0,0 +1,26 @@
+package com.practice.springbatch.job.mapper;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 한 줄에서 몇 번째 컬럼을 이 필드에 넣을지 지정하는 어노테이션
+ * <p>
+ * 필드 타입에 맞게 변환되며 String, int, long, double, boolean 과 각 wrapper 타입을 지원한다.
+ * 값은 앞뒤 공백을 제거한 뒤 변환한다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface FlatFileColumn {
+
+    /**
+     * 0 부터 시작하는 컬럼 번호
+     **/
+    int index();
+}
@@ -0,0 +1,25 @@
+package com.practice.springbatch.job.mapper;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 구분자로 나뉜 한 줄을 매핑할 Dto 에 붙이는 어노테이션
+ * <p>
+ * {@link AnnotatedLineMapper} 가 이 어노테이션의 구분자와 {@link FlatFileColumn} 이 붙은 필드를 보고 한 줄을 Dto 로 만든다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface FlatFileRecord {
+
+    /**
+     * 컬럼 구분자 (한 글자, 기본 콤마)
+     **/
+    char delimiter() default ',';
+}
@@ -0,0 +1,238 @@
+package com.practice.springbatch.job.parallel;
+
+import com.practice.springbatch.dto.AmountDto;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ParseException;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * index\tname\tamount 형식의 파일을 memory-map 해서 AmountDto 로 읽는 ItemReader
+ * <p>
+ * 줄 단위 String, FieldSet, 토큰 배열을 만들지 않고 매핑된 byte 에서 숫자를 바로 파싱한다.
+ * 문자열이 필요한 name 컬럼만 String 으로 만든다.
+ * 다음에 읽을 줄의 byte offset 을 ExecutionContext 에 저장하므로 재시작 시 그 위치로 바로 이동한다.
+ * <p>
+ * startOffset ~ endOffset 을 지정하면 그 구간에서 시작하는 줄만 읽는다. (파티션 처리용)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class MappedAmountItemReader extends ItemStreamSupport implements ItemStreamReader<AmountDto> {
+
+    private static final String OFFSET_KEY = "offset";
+
+    //한 번에 매핑할 파일 영역의 크기. 이보다 긴 줄은 읽을 수 없다.
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private static final byte TAB = '\t';
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final Path path;
+
+    private long startOffset = 0;
+    private long endOffset = Long.MAX_VALUE;
+    private boolean saveState = true;
+
+    private FileChannel channel;
+    private long fileSize;
+    private long limit;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long windowEnd;
+
+    //다음에 읽을 줄의 시작 offset
+    private long position;
+    private byte[] nameBuffer = new byte[64];
+
+    public MappedAmountItemReader(Path path) {
+        Assert.notNull(path, "path 는 필수 값입니다.");
+        this.path = path;
+    }
+
+    public void setStartOffset(long startOffset) {
+        this.startOffset = startOffset;
+    }
+
+    public void setEndOffset(long endOffset) {
+        this.endOffset = endOffset;
+    }
+
+    /**
+     * 여러 쓰레드가 같은 Reader 를 공유할 때는 읽은 위치와 commit 된 위치가 다를 수 있으므로 false 로 지정한다.
+     **/
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            fileSize = channel.size();
+        } catch (IOException e) {
+            throw new ItemStreamException("파일을 열 수 없습니다. path=" + path, e);
+        }
+
+        String key = getExecutionContextKey(OFFSET_KEY);
+        position = saveState && executionContext.containsKey(key) ? executionContext.getLong(key) : startOffset;
+        limit = Math.min(endOffset, fileSize);
+        window = null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (saveState) {
+            executionContext.putLong(getExecutionContextKey(OFFSET_KEY), position);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        window = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new ItemStreamException("파일을 닫을 수 없습니다. path=" + path, e);
+            } finally {
+                channel = null;
+            }
+        }
+    }
+
+    @Override
+    public synchronized AmountDto read() throws IOException {
+        while (position < limit) {
+            long lineStart = position;
+            long lineEnd = findLineEnd(lineStart);
+            position = Math.min(lineEnd + 1, fileSize);
+
+            //줄 끝의 \r 제외
+            long contentEnd = lineEnd;
+            if (contentEnd > lineStart && byteAt(contentEnd - 1) == CR) {
+                contentEnd--;
+            }
+            if (contentEnd > lineStart) {
+                return parse(lineStart, contentEnd);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * lineStart 부터 다음 개행 문자의 위치를 찾는다. 개행 없이 파일이 끝나면 파일 크기를 반환한다.
+     **/
+    private long findLineEnd(long lineStart) throws IOException {
+        mapWindow(lineStart);
+        for (long offset = lineStart; ; offset++) {
+            if (offset == windowEnd) {
+                if (windowEnd == fileSize) {
+                    return fileSize;
+                }
+                if (lineStart == windowStart) {
+                    throw new ParseException("한 줄의 길이가 너무 깁니다. offset=" + lineStart);
+                }
+                //줄이 매핑 영역 경계에 걸쳐 있으면 줄의 시작부터 다시 매핑
+                remap(lineStart);
+            }
+            if (byteAt(offset) == LF) {
+                return offset;
+            }
+        }
+    }
+
+    private AmountDto parse(long lineStart, long lineEnd) {
+        long firstTab = indexOf(TAB, lineStart, lineEnd);
+        long secondTab = firstTab < 0 ? -1 : indexOf(TAB, firstTab + 1, lineEnd);
+        if (secondTab < 0) {
+            throw new ParseException("index, name, amount 3개의 컬럼이 필요합니다. offset=" + lineStart);
+        }
+
+        AmountDto amount = new AmountDto();
+        amount.setIndex(parseInt(lineStart, firstTab));
+        amount.setName(decode(firstTab + 1, secondTab));
+        amount.setAmount(parseInt(secondTab + 1, lineEnd));
+        return amount;
+    }
+
+    private int parseInt(long from, long to) {
+        //앞 뒤 공백 무시
+        while (from < to && byteAt(from) == ' ') {
+            from++;
+        }
+        while (to > from && byteAt(to - 1) == ' ') {
+            to--;
+        }
+
+        boolean negative = from < to && byteAt(from) == '-';
+        long offset = negative ? from + 1 : from;
+        if (offset == to) {
+            throw new ParseException("숫자 컬럼이 비어 있습니다. offset=" + from);
+        }
+
+        long value = 0;
+        for (; offset < to; offset++) {
+            int digit = byteAt(offset) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new ParseException("숫자가 아닌 값이 포함되어 있습니다. offset=" + offset);
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new ParseException("int 범위를 넘는 값입니다. offset=" + from);
+            }
+        }
+
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new ParseException("int 범위를 넘는 값입니다. offset=" + from);
+        }
+        return (int) value;
+    }
+
+    private String decode(long from, long to) {
+        int length = (int) (to - from);
+        if (nameBuffer.length < length) {
+            nameBuffer = new byte[Math.max(length, nameBuffer.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            nameBuffer[i] = byteAt(from + i);
+        }
+        return new String(nameBuffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private long indexOf(byte target, long from, long to) {
+        for (long offset = from; offset < to; offset++) {
+            if (byteAt(offset) == target) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    private byte byteAt(long offset) {
+        return window.get((int) (offset - windowStart));
+    }
+
+    private void mapWindow(long offset) throws IOException {
+        if (window == null || offset < windowStart || offset >= windowEnd) {
+            remap(offset);
+        }
+    }
+
+    private void remap(long offset) throws IOException {
+        long size = Math.min(WINDOW_SIZE, fileSize - offset);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        windowStart = offset;
+        windowEnd = offset + size;
+    }
+}
@@ -1,6 +1,20 @@
 package com.practice.springbatch.job.parallel;
 
 import com.practice.springbatch.dto.AmountDto;
+import com.practice.springbatch.job.executor.TaskExecutorMetricsListener;
+import com.practice.springbatch.job.file.Compression;
+import com.practice.springbatch.job.mapper.AnnotatedLineMapper;
+import com.practice.springbatch.job.partitioner.FileByteRangePartitioner;
+import com.practice.springbatch.job.partitioner.FileSegment;
+import com.practice.springbatch.job.partitioner.MultiFilePartitioner;
+import com.practice.springbatch.job.policy.AdaptiveChunkCompletionPolicy;
+import com.practice.springbatch.job.processor.FutureResultItemProcessor;
+import com.practice.springbatch.job.reader.AsyncProcessingItemReader;
+import com.practice.springbatch.job.reader.MultiSegmentItemReader;
+import com.practice.springbatch.job.reader.SeekableFlatFileItemReader;
+import com.practice.springbatch.job.tasklet.PartitionFileMergeTasklet;
+import com.practice.springbatch.job.writer.AsyncFileItemWriter;
+import com.practice.springbatch.job.writer.TypedDelimitedLineAggregator;
 import lombok.AllArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -8,23 +22,24 @@ import org.springframework.batch.core.configuration.annotation.JobBuilderFactory
 import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.file.FlatFileItemReader;
-import org.springframework.batch.item.file.FlatFileItemWriter;
-import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamWriter;
 import org.springframework.batch.item.file.builder.FlatFileItemWriterBuilder;
-import org.springframework.batch.item.file.transform.BeanWrapperFieldExtractor;
-import org.springframework.batch.item.file.transform.DelimitedLineAggregator;
 import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
 
-import java.io.File;
-import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Future;
 
 /**
  * 싱글 프로세스에서 chunk 단위로 병렬 처리한다.
@@ -36,20 +51,72 @@ import java.io.IOException;
 public class MultiThreadStepJobConfig {
     private final JobBuilderFactory jobBuilderFactory;
     private final StepBuilderFactory stepBuilderFactory;
+    private final JobExplorer jobExplorer;
 
+    //inputPath Job Parameter 가 없을 때 읽을 파일 (없으면 data/input.txt.gz 를 읽는다.)
+    private static final String DEFAULT_INPUT_PATH = "data/input.txt";
+
+    //outputPath Job Parameter 가 없을 때 결과 파일 (compress=true Job Parameter 가 주어지면 뒤에 .gz 를 붙인다.)
+    //partitioned, multiFile 모드에서는 확장자 앞에 -partition{N} 을 붙인 파티션 별 파일에 쓰고 합친 뒤 지운다.
+    private static final String DEFAULT_OUTPUT_PATH = "data/output.txt";
+
+    //multiThreadStep 을 파일 byte 구간 단위로 병렬 처리하기 위한 stepMode Job Parameter 값
+    private static final String STEP_MODE_PARTITIONED = "partitioned";
+
+    //읽기는 순서대로, 처리는 병렬로, 쓰기는 읽은 순서대로 진행하기 위한 stepMode Job Parameter 값
+    private static final String STEP_MODE_PIPELINED = "pipelined";
+
+    //inputDir 디렉토리의 여러 파일을 크기 기준으로 나누어 병렬 처리하기 위한 stepMode Job Parameter 값
+    private static final String STEP_MODE_MULTI_FILE = "multiFile";
+
+    //multiFile 모드에서 inputGlob Job Parameter 가 없을 때 읽을 파일
+    private static final String DEFAULT_INPUT_GLOB = "*.txt";
+
+    //pipelined 모드에서 동시에 처리 중일 수 있는 item 수
+    private static final int MAX_IN_FLIGHT = 1000;
+
+    /**
+     * multiThreadStep 으로 data/output.txt 를 만드는 Job
+     * <p>
+     * 읽을 파일과 결과 파일은 inputPath, outputPath Job Parameter 로 바꿀 수 있다. (기본 data/input.txt, data/output.txt)
+     * partitioned, multiFile 모드는 Worker Step 마다 파티션 별 파일에 쓰고,
+     * 이어서 실행되는 amountPartitionMergeStep 이 파티션 번호 순서대로 data/output.txt 하나로 합친다.
+     * 따라서 모드와 관계없이 결과는 data/output.txt (compress=true 라면 data/output.txt.gz) 하나이다.
+     * @param multiThreadStep {@link Step}
+     * @param amountPartitionMergeStep {@link Step}
+     * @return Job {@link Job}
+     * @author cyh68
+     * @since 2023-06-01
+     **/
     @Bean
-    public Job multiThreadStepJob(Step multiThreadStep) {
+    public Job multiThreadStepJob(Step multiThreadStep, Step amountPartitionMergeStep) {
         return jobBuilderFactory.get("multiThreadStepJob")
                 .incrementer(new RunIdIncrementer())
                 .start(multiThreadStep)
+                .next(amountPartitionMergeStep)
                 .build();
     }
 
     /**
      * multi-thread 를 적용한 Step
-     * @param amountFileItemReader {@link FlatFileItemWriter}
+     * <p>
+     * stepMode=partitioned Job Parameter 가 주어지면 하나의 Reader 를 쓰레드끼리 공유하는 대신
+     * 파일을 byte 구간으로 나누어 구간 마다 자신의 Reader 를 가진 Worker Step 을 병렬로 실행한다.
+     * stepMode=pipelined 라면 하나의 쓰레드에서 순서대로 읽으면서, 읽은 item 의 처리를 TaskExecutor 에서 동시에 진행한다.
+     * stepMode=multiFile 이라면 inputDir 디렉토리에서 inputGlob 에 맞는 파일들을 크기 기준으로 나누어 병렬로 처리한다.
+     * <p>
+     * 입력 파일이 BGZF 로 압축되어 있으면 block 단위로 나누어 파티션 마다 압축을 풀며 읽고 (일반 gzip 은 나누지 않는다.)
+     * compress=true Job Parameter 가 주어지면 결과 파일을 chunk 쓰레드에서 BGZF 로 압축해서 쓴다.
+     * @param stepMode {@link String}
+     * @param inputPath 읽을 파일 (기본 data/input.txt)
+     * @param gridSize 나눌 파티션 개수 (기본 CPU 코어 수)
+     * @param inputDir multiFile 모드에서 읽을 디렉토리
+     * @param inputGlob multiFile 모드에서 읽을 파일 glob (기본 *.txt)
+     * @param amountFileItemReader {@link ItemStreamReader}
      * @param amountFileItemProcessor {@link ItemProcessor}
-     * @param amountFileItemWriter {@link FlatFileItemWriter}
+     * @param amountFileItemWriter {@link AsyncFileItemWriter}
+     * @param amountPartitionWorkerStep {@link Step}
+     * @param amountMultiFileWorkerStep {@link Step}
      * @param taskExecutor {@link TaskExecutor}
      * @return Step {@link Step}
      * @author cyh68
@@ -57,49 +124,270 @@ public class MultiThreadStepJobConfig {
      **/
     @JobScope
     @Bean
-    public Step multiThreadStep(FlatFileItemReader<AmountDto> amountFileItemReader,
+    public Step multiThreadStep(@Value("#{jobParameters['stepMode']}") String stepMode,
+                                @Value("#{jobParameters['inputPath']}") String inputPath,
+                                @Value("#{jobParameters['gridSize']}") Long gridSize,
+                                @Value("#{jobParameters['inputDir']}") String inputDir,
+                                @Value("#{jobParameters['inputGlob']}") String inputGlob,
+                                ItemStreamReader<AmountDto> amountFileItemReader,
                                 ItemProcessor<AmountDto, AmountDto> amountFileItemProcessor,
-                                FlatFileItemWriter<AmountDto> amountFileItemWriter,
+                                AsyncFileItemWriter<AmountDto> amountFileItemWriter,
+                                Step amountPartitionWorkerStep,
+                                Step amountMultiFileWorkerStep,
                                 TaskExecutor taskExecutor) {
+        int partitionCount = gridSize == null ? Runtime.getRuntime().availableProcessors() : gridSize.intValue();
+        if (STEP_MODE_PARTITIONED.equals(stepMode)) {
+            return amountPartitionStep(amountPartitionWorkerStep, inputPath(inputPath), taskExecutor, partitionCount);
+        }
+        if (STEP_MODE_MULTI_FILE.equals(stepMode)) {
+            Assert.hasText(inputDir, "multiFile 모드는 inputDir Job Parameter 가 필요합니다.");
+            MultiFilePartitioner partitioner =
+                    new MultiFilePartitioner(Paths.get(inputDir), inputGlob == null ? DEFAULT_INPUT_GLOB : inputGlob);
+            return amountMultiFileStep(amountMultiFileWorkerStep, partitioner, taskExecutor, partitionCount);
+        }
+        if (STEP_MODE_PIPELINED.equals(stepMode)) {
+            return amountPipelineStep(amountFileItemReader, amountFileItemProcessor, amountFileItemWriter, taskExecutor);
+        }
+
+        //chunk 처리 시간을 보고 10 ~ 1000 사이에서 chunk 크기를 조절한다.
+        AdaptiveChunkCompletionPolicy completionPolicy = new AdaptiveChunkCompletionPolicy(10, 1000);
         return stepBuilderFactory.get("multiThreadStep")
-                .<AmountDto, AmountDto>chunk(10)
+                .<AmountDto, AmountDto>chunk(completionPolicy)
                 .reader(amountFileItemReader)
                 .processor(amountFileItemProcessor)
                 .writer(amountFileItemWriter)
+                .listener(completionPolicy)
+                .listener(new TaskExecutorMetricsListener(taskExecutor)) //active, queued, completed 작업 수 기록
                 //Multi-threaded로 동작하기 위해 taskExecutor 를 추가해준다.
                 .taskExecutor(taskExecutor)
                 .build();
     }
 
     /**
-     * multi-thread 를 Step 에 적용하기 위한 TaskExecutor
-     * @return TaskExecutor {@link TaskExecutor}
+     * 읽기, 처리, 쓰기를 겹쳐서 진행하는 Step
+     * <p>
+     * Reader 는 chunk 쓰레드 하나에서 순서대로 읽으므로 byte offset 을 저장해 재시작할 수 있고,
+     * {@link AsyncProcessingItemReader} 가 item 을 읽는 시점에 TaskExecutor 에서 처리를 시작하므로
+     * chunk 의 나머지 item 을 읽는 동안 앞의 item 들이 처리된다. (동시에 처리 중인 item 은 MAX_IN_FLIGHT 개 까지)
+     * 처리 단계에서 읽은 순서대로 결과를 기다려 꺼내므로 쓰기 순서가 유지되고, null 결과는 filter 로 집계된다.
+     * @param amountFileItemReader {@link ItemStreamReader}
+     * @param amountFileItemProcessor {@link ItemProcessor}
+     * @param amountFileItemWriter {@link AsyncFileItemWriter}
+     * @param taskExecutor {@link TaskExecutor}
+     * @return Step {@link Step}
      * @author cyh68
-     * @since 2023-06-01
+     * @since 2026-10-18
+     **/
+    private Step amountPipelineStep(ItemStreamReader<AmountDto> amountFileItemReader,
+                                    ItemProcessor<AmountDto, AmountDto> amountFileItemProcessor,
+                                    AsyncFileItemWriter<AmountDto> amountFileItemWriter,
+                                    TaskExecutor taskExecutor) {
+        AdaptiveChunkCompletionPolicy completionPolicy = new AdaptiveChunkCompletionPolicy(10, 1000);
+        return stepBuilderFactory.get("amountPipelineStep")
+                .<Future<AmountDto>, AmountDto>chunk(completionPolicy)
+                .reader(new AsyncProcessingItemReader<>(amountFileItemReader, amountFileItemProcessor, taskExecutor, MAX_IN_FLIGHT))
+                .processor(new FutureResultItemProcessor<>())
+                .writer(amountFileItemWriter)
+                .listener(completionPolicy)
+                .listener(new TaskExecutorMetricsListener(taskExecutor))
+                .build();
+    }
+
+    /**
+     * 파일을 줄 경계에 맞춘 byte 구간으로 나누어 Worker Step 을 병렬 실행하는 Master Step
+     * @param amountPartitionWorkerStep {@link Step}
+     * @param inputPath 읽을 파일
+     * @param taskExecutor {@link TaskExecutor}
+     * @param gridSize 나눌 파티션 개수
+     * @return Step {@link Step}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private Step amountPartitionStep(Step amountPartitionWorkerStep, String inputPath, TaskExecutor taskExecutor, int gridSize) {
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(amountPartitionWorkerStep);
+        partitionHandler.setGridSize(gridSize);
+        partitionHandler.setTaskExecutor(taskExecutor);
+
+        return stepBuilderFactory.get("amountPartitionStep")
+                .partitioner("amountPartitionWorkerStep", new FileByteRangePartitioner(Compression.resolve(Paths.get(inputPath))))
+                .partitionHandler(partitionHandler)
+                .listener(new TaskExecutorMetricsListener(taskExecutor))
+                .build();
+    }
+
+    /**
+     * partitioned, multiFile 모드에서 파티션 별 파일들을 파티션 번호 순서대로 결과 파일 하나로 합치는 Step
+     * <p>
+     * 파티션 모드가 아니었다면 (Worker Step 이 실행되지 않았다면) 아무것도 하지 않는다.
+     * @param outputPath 결과 파일 (기본 data/output.txt)
+     * @param compress 결과 파일 압축 여부
+     * @return Step {@link Step}
+     * @author cyh68
+     * @since 2026-10-18
      **/
+    @JobScope
     @Bean
-    public TaskExecutor taskExecutor() {
-        SimpleAsyncTaskExecutor taskExecutor =
-                new SimpleAsyncTaskExecutor("spring-batch-task-executor");
-        taskExecutor.setConcurrencyLimit(4); //동시에 실행할 쓰레드를 제한할 개수 설정
-        return taskExecutor;
+    public Step amountPartitionMergeStep(@Value("#{jobParameters['outputPath']}") String outputPath,
+                                         @Value("#{jobParameters['compress']}") String compress) {
+        boolean compressed = Boolean.parseBoolean(compress);
+        String target = outputPath(outputPath);
+        PartitionFileMergeTasklet tasklet = new PartitionFileMergeTasklet(jobExplorer,
+                Paths.get(compressedPath(target, compressed)),
+                partitionIndex -> Paths.get(compressedPath(partitionOutputPath(target, partitionIndex), compressed)),
+                "amountPartitionWorkerStep", "amountMultiFileWorkerStep");
+        return stepBuilderFactory.get("amountPartitionMergeStep")
+                .tasklet(tasklet)
+                .build();
+    }
+
+    /**
+     * 여러 파일의 구간들을 크기 기준으로 나눈 파티션 마다 Worker Step 을 병렬 실행하는 Master Step
+     * @param amountMultiFileWorkerStep {@link Step}
+     * @param partitioner {@link MultiFilePartitioner}
+     * @param taskExecutor {@link TaskExecutor}
+     * @param gridSize 나눌 파티션 개수
+     * @return Step {@link Step}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private Step amountMultiFileStep(Step amountMultiFileWorkerStep, MultiFilePartitioner partitioner,
+                                     TaskExecutor taskExecutor, int gridSize) {
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(amountMultiFileWorkerStep);
+        partitionHandler.setGridSize(gridSize);
+        partitionHandler.setTaskExecutor(taskExecutor);
+
+        return stepBuilderFactory.get("amountMultiFileStep")
+                .partitioner("amountMultiFileWorkerStep", partitioner)
+                .partitionHandler(partitionHandler)
+                .listener(new TaskExecutorMetricsListener(taskExecutor))
+                .build();
+    }
+
+    /**
+     * 자신에게 주어진 파일 구간들을 차례로 읽고, 파티션 별 파일에 쓰는 Worker Step
+     * <p>
+     * partition 쓰레드에는 Job context 가 없으므로 @JobScope 를 붙이지 않는다. (Reader, Writer 는 @StepScope)
+     * @param amountMultiFileItemReader {@link MultiSegmentItemReader}
+     * @param amountFileItemProcessor {@link ItemProcessor}
+     * @param amountPartitionFileItemWriter {@link ItemStreamWriter}
+     * @return Step {@link Step}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public Step amountMultiFileWorkerStep(MultiSegmentItemReader<AmountDto> amountMultiFileItemReader,
+                                          ItemProcessor<AmountDto, AmountDto> amountFileItemProcessor,
+                                          ItemStreamWriter<AmountDto> amountPartitionFileItemWriter) {
+        AdaptiveChunkCompletionPolicy completionPolicy = new AdaptiveChunkCompletionPolicy(10, 1000);
+        return stepBuilderFactory.get("amountMultiFileWorkerStep")
+                .<AmountDto, AmountDto>chunk(completionPolicy)
+                .reader(amountMultiFileItemReader)
+                .processor(amountFileItemProcessor)
+                .writer(amountPartitionFileItemWriter)
+                .listener(completionPolicy)
+                .build();
+    }
+
+    /**
+     * 자신에게 주어진 byte 구간만 읽고, 파티션 별 파일에 쓰는 Worker Step
+     * <p>
+     * 파티션 마다 Reader 가 따로 있으므로 구간 별로 byte offset 을 저장하고 재시작할 수 있다.
+     * partition 쓰레드에는 Job context 가 없으므로 @JobScope 를 붙이지 않는다. (Reader, Writer 는 @StepScope)
+     * @param amountFileItemReader {@link ItemStreamReader}
+     * @param amountFileItemProcessor {@link ItemProcessor}
+     * @param amountPartitionFileItemWriter {@link ItemStreamWriter}
+     * @return Step {@link Step}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public Step amountPartitionWorkerStep(ItemStreamReader<AmountDto> amountFileItemReader,
+                                          ItemProcessor<AmountDto, AmountDto> amountFileItemProcessor,
+                                          ItemStreamWriter<AmountDto> amountPartitionFileItemWriter) {
+        AdaptiveChunkCompletionPolicy completionPolicy = new AdaptiveChunkCompletionPolicy(10, 1000);
+        return stepBuilderFactory.get("amountPartitionWorkerStep")
+                .<AmountDto, AmountDto>chunk(completionPolicy)
+                .reader(amountFileItemReader)
+                .processor(amountFileItemProcessor)
+                .writer(amountPartitionFileItemWriter)
+                .listener(completionPolicy)
+                .build();
     }
 
     /**
      * 파일을 읽기 위한 Reader
-     * @return FlatFileItemReader {@link FlatFileItemReader}
+     * <p>
+     * 파일을 memory-map 해서 줄 마다 String, FieldSet 을 만들지 않고 byte 에서 바로 AmountDto 를 만든다.
+     * 압축 파일이라면 memory-map 할 수 없으므로 압축을 풀면서 읽는 SeekableFlatFileItemReader 를 사용한다.
+     * <p>
+     * chunk 모드의 multiThreadStep 은 하나의 Reader 를 여러 쓰레드가 공유하므로, 저장된 byte offset 이
+     * commit 된 item 들의 위치와 맞지 않는다. 그래서 partitioned, pipelined 모드에서만 offset 을 저장한다.
+     * @param stepMode {@link String}
+     * @param inputPath 읽을 파일 (기본 data/input.txt)
+     * @param startOffset 파티션 구간의 시작 offset
+     * @param endOffset 파티션 구간의 끝 offset
+     * @return ItemStreamReader {@link ItemStreamReader}
      * @author cyh68
      * @since 2023-06-01
      **/
     @StepScope
     @Bean
-    public FlatFileItemReader<AmountDto> amountFileItemReader() {
-        return new FlatFileItemReaderBuilder<AmountDto>()
-                .name("amountFileItemReader")
-                .fieldSetMapper(new AmountFieldSetMapper())
-                .lineTokenizer(new DelimitedLineTokenizer(DelimitedLineTokenizer.DELIMITER_TAB))
-                .resource(new FileSystemResource("data/input.txt"))
-                .build();
+    public ItemStreamReader<AmountDto> amountFileItemReader(@Value("#{jobParameters['stepMode']}") String stepMode,
+                                                           @Value("#{jobParameters['inputPath']}") String inputPath,
+                                                           @Value("#{stepExecutionContext['startOffset']}") Long startOffset,
+                                                           @Value("#{stepExecutionContext['endOffset']}") Long endOffset) {
+        //partitioned 모드의 Worker Step 이라면 FileByteRangePartitioner 가 나눠준 구간만 읽는다.
+        boolean saveState = STEP_MODE_PARTITIONED.equals(stepMode) || STEP_MODE_PIPELINED.equals(stepMode);
+        return amountReader(Compression.resolve(Paths.get(inputPath(inputPath))), startOffset, endOffset, saveState);
+    }
+
+    /**
+     * multiFile 모드에서 MultiFilePartitioner 가 나눠준 파일 구간들을 차례로 읽기 위한 Reader
+     * <p>
+     * 구간 마다 Reader 를 만들어 읽으며, 구간 번호와 byte offset 을 저장하므로 파티션 별로 재시작할 수 있다.
+     * @param segments 파티션이 담당할 파일 구간 목록
+     * @return MultiSegmentItemReader {@link MultiSegmentItemReader}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @StepScope
+    @Bean
+    public MultiSegmentItemReader<AmountDto> amountMultiFileItemReader(@Value("#{stepExecutionContext['segments']}") String segments) {
+        MultiSegmentItemReader<AmountDto> reader = new MultiSegmentItemReader<>(FileSegment.parse(segments),
+                segment -> amountReader(segment.getPath(), segment.getStart(), segment.getEnd(), true));
+        reader.setName("amountMultiFileItemReader");
+        return reader;
+    }
+
+    /**
+     * 파일의 [startOffset, endOffset) 구간을 읽는 Reader 를 만든다. (offset 이 null 이면 파일 전체)
+     * <p>
+     * 압축하지 않은 파일은 MappedAmountItemReader, 압축 파일은 SeekableFlatFileItemReader 로 읽는다.
+     * saveState 가 false 라면 byte offset 을 저장하지도, 이전 실행의 offset 에서 시작하지도 않는다.
+     **/
+    private static ItemStreamReader<AmountDto> amountReader(Path path, Long startOffset, Long endOffset, boolean saveState) {
+        if (Compression.detect(path) == Compression.NONE) {
+            MappedAmountItemReader reader = new MappedAmountItemReader(path);
+            reader.setName("amountFileItemReader"); //ExecutionContext 에 byte offset 을 저장할 때 사용할 이름
+            reader.setSaveState(saveState);
+            if (startOffset != null && endOffset != null) {
+                reader.setStartOffset(startOffset);
+                reader.setEndOffset(endOffset);
+            }
+            return reader;
+        }
+
+        SeekableFlatFileItemReader<AmountDto> reader =
+                new SeekableFlatFileItemReader<>(path, new AnnotatedLineMapper<>(AmountDto.class));
+        reader.setName("amountFileItemReader");
+        reader.setSaveState(saveState);
+        if (startOffset != null && endOffset != null) {
+            reader.setStartOffset(startOffset);
+            reader.setEndOffset(endOffset);
+        }
+        return reader;
     }
 
     /**
@@ -122,29 +410,96 @@ public class MultiThreadStepJobConfig {
 
     /**
      * 읽어서 가공된 데이터를 파일에 쓰기위한 ItemWriter
-     * @return FlatFileItemWriter {@link FlatFileItemWriter}
+     * <p>
+     * 여러 쓰레드가 하나의 FlatFileItemWriter 를 동시에 호출하지 않도록
+     * 각 쓰레드는 commit 직전에 chunk 를 queue 에 넘기고, 전용 쓰레드 하나가 파일에 쓴다.
+     * compress=true 라면 각 쓰레드가 chunk 를 BGZF block 으로 압축해서 넘기므로 압축도 병렬로 진행된다.
+     * @param stepMode {@link String}
+     * @param outputPath 결과 파일 (기본 data/output.txt)
+     * @param compress 결과 파일 압축 여부
+     * @return AsyncFileItemWriter {@link AsyncFileItemWriter}
      * @author cyh68
      * @since 2023-06-01
-     * @throws IOException
      **/
     @StepScope
     @Bean
-    public FlatFileItemWriter<AmountDto> amountFileItemWriter() throws IOException {
+    public AsyncFileItemWriter<AmountDto> amountFileItemWriter(@Value("#{jobParameters['stepMode']}") String stepMode,
+                                                               @Value("#{jobParameters['outputPath']}") String outputPath,
+                                                               @Value("#{jobParameters['compress']}") String compress) {
 
-        BeanWrapperFieldExtractor<AmountDto> fieldExtractor = new BeanWrapperFieldExtractor<>();
-        fieldExtractor.setNames(new String[]{"index", "name", "amount"});
-        fieldExtractor.afterPropertiesSet();
+        //getter 를 미리 묶어두어 item 마다 BeanWrapper 조회와 boxing 없이 한 줄을 만든다.
+        TypedDelimitedLineAggregator<AmountDto> lineAggregator =
+                TypedDelimitedLineAggregator.of(AmountDto.class, DelimitedLineTokenizer.DELIMITER_COMMA, "index", "name", "amount");
 
-        DelimitedLineAggregator lineAggregator = new DelimitedLineAggregator();
-        lineAggregator.setFieldExtractor(fieldExtractor);
+        boolean compressed = Boolean.parseBoolean(compress);
+        AsyncFileItemWriter<AmountDto> writer = new AsyncFileItemWriter<>(Paths.get(compressedPath(outputPath(outputPath), compressed)), lineAggregator);
+        writer.setName("amountFileItemWriter");
+        writer.setCompressed(compressed);
+        //multi-thread 로 공유되면 쓰기 순서와 commit 순서가 달라 위치를 저장하지 않는다.
+        //pipelined 모드는 chunk 쓰레드가 하나이므로 위치를 저장해 재시작할 수 있다.
+        writer.setSaveState(STEP_MODE_PIPELINED.equals(stepMode));
+        return writer;
+    }
 
-        String filePath = "data/output.txt";
-        new File(filePath).createNewFile();
+    /**
+     * partitioned 모드에서 파티션 별 파일(data/output-partition{N}.txt)에 쓰기 위한 ItemWriter
+     * <p>
+     * Worker Step 들이 하나의 파일을 동시에 쓰지 않도록 파티션 마다 다른 파일을 사용한다. (amountPartitionMergeStep 이 합친다.)
+     * compress=true 라면 BGZF 로 압축해서 data/output-partition{N}.txt.gz 에 쓴다.
+     * @param partitionIndex 파티션 번호
+     * @param outputPath 결과 파일 (기본 data/output.txt)
+     * @param compress 결과 파일 압축 여부
+     * @return ItemStreamWriter {@link ItemStreamWriter}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @StepScope
+    @Bean
+    public ItemStreamWriter<AmountDto> amountPartitionFileItemWriter(
+            @Value("#{stepExecutionContext['partitionIndex']}") Integer partitionIndex,
+            @Value("#{jobParameters['outputPath']}") String outputPath,
+            @Value("#{jobParameters['compress']}") String compress) {
+        //getter 를 미리 묶어두어 item 마다 BeanWrapper 조회와 boxing 없이 한 줄을 만든다.
+        TypedDelimitedLineAggregator<AmountDto> lineAggregator =
+                TypedDelimitedLineAggregator.of(AmountDto.class, DelimitedLineTokenizer.DELIMITER_COMMA, "index", "name", "amount");
 
+        String partitionPath = partitionOutputPath(outputPath(outputPath), partitionIndex);
+        if (Boolean.parseBoolean(compress)) {
+            AsyncFileItemWriter<AmountDto> writer =
+                    new AsyncFileItemWriter<>(Paths.get(compressedPath(partitionPath, true)), lineAggregator);
+            writer.setName("amountPartitionFileItemWriter");
+            writer.setCompressed(true);
+            return writer;
+        }
         return new FlatFileItemWriterBuilder<AmountDto>()
-                .name("amountFileItemWriter")
-                .resource(new FileSystemResource(filePath))
+                .name("amountPartitionFileItemWriter")
+                .resource(new FileSystemResource(partitionPath))
                 .lineAggregator(lineAggregator)
                 .build();
     }
+
+    private static String inputPath(String inputPath) {
+        return inputPath == null ? DEFAULT_INPUT_PATH : inputPath;
+    }
+
+    private static String outputPath(String outputPath) {
+        return outputPath == null ? DEFAULT_OUTPUT_PATH : outputPath;
+    }
+
+    /**
+     * 결과 파일의 확장자 앞에 -partition{N} 을 붙인 파티션 별 파일 (data/output.txt 라면 data/output-partition{N}.txt)
+     **/
+    private static String partitionOutputPath(String outputPath, int partitionIndex) {
+        Path path = Paths.get(outputPath);
+        String fileName = path.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        String partitionFileName = extension > 0
+                ? fileName.substring(0, extension) + "-partition" + partitionIndex + fileName.substring(extension)
+                : fileName + "-partition" + partitionIndex;
+        return path.resolveSibling(partitionFileName).toString();
+    }
+
+    private static String compressedPath(String path, boolean compressed) {
+        return compressed ? path + Compression.GZIP_EXTENSION : path;
+    }
 }
@@ -1,6 +1,7 @@
 package com.practice.springbatch.job.parallel;
 
 import com.practice.springbatch.dto.AmountDto;
+import com.practice.springbatch.job.writer.AsyncFileItemWriter;
 import lombok.AllArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -11,8 +12,7 @@ import org.springframework.batch.core.job.flow.Flow;
 import org.springframework.batch.core.job.flow.support.SimpleFlow;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.file.FlatFileItemReader;
-import org.springframework.batch.item.file.FlatFileItemWriter;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -89,17 +89,17 @@ public class ParallelStepJobConfig {
      * <p>
      *     대신, Multi-Threaded Step으로 설정하지 않음
      * </p>
-     * @param amountFileItemReader {@link FlatFileItemReader}
+     * @param amountFileItemReader {@link ItemStreamReader}
      * @param amountFileItemProcessor {@link ItemProcessor}
-     * @param amountFileItemWriter {@link FlatFileItemWriter}
+     * @param amountFileItemWriter {@link AsyncFileItemWriter}
      * @return Step {@link Step}
      * @author cyh68
      * @since 2023-06-01
      **/
     @Bean
-    public Step amountFileStep(FlatFileItemReader<AmountDto> amountFileItemReader,
+    public Step amountFileStep(ItemStreamReader<AmountDto> amountFileItemReader,
                                ItemProcessor<AmountDto, AmountDto> amountFileItemProcessor,
-                               FlatFileItemWriter<AmountDto> amountFileItemWriter) {
+                               AsyncFileItemWriter<AmountDto> amountFileItemWriter) {
         return stepBuilderFactory.get("multiThreadStep")
                 .<AmountDto, AmountDto>chunk(10)
                 .reader(amountFileItemReader)
@@ -1,5 +1,8 @@
 package com.practice.springbatch.job.parallel;
 
+import com.practice.springbatch.config.PoolWaitMetrics;
+import com.practice.springbatch.job.executor.TaskExecutorMetricsListener;
+import com.practice.springbatch.job.listener.PoolWaitMetricsListener;
 import lombok.AllArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -11,6 +14,8 @@ import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.partition.support.SimplePartitioner;
 import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.step.builder.PartitionStepBuilder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
@@ -55,6 +60,8 @@ public class PartitioningJobConfig {
      * </p>
      * @param partitioner {@link Partitioner}
      * @param partitionHandler {@link TaskExecutorPartitionHandler}
+     * @param taskExecutor {@link TaskExecutor}
+     * @param poolWaitMetrics {@link PoolWaitMetrics}
      * @return Step {@link Step}
      * @author cyh68
      * @since 2023-06-02
@@ -62,11 +69,16 @@ public class PartitioningJobConfig {
     @JobScope
     @Bean
     public Step masterStep(Partitioner partitioner,
-                           TaskExecutorPartitionHandler partitionHandler) {
-        return stepBuilderFactory.get("masterStep")
+                           TaskExecutorPartitionHandler partitionHandler,
+                           TaskExecutor taskExecutor,
+                           ObjectProvider<PoolWaitMetrics> poolWaitMetrics) {
+        PartitionStepBuilder builder = stepBuilderFactory.get("masterStep")
                 .partitioner("anotherStep", partitioner)
                 .partitionHandler(partitionHandler)
-                .build();
+                .listener(new TaskExecutorMetricsListener(taskExecutor)); //active, queued, completed 작업 수 기록
+        //partition 마다 metadata 를 갱신하므로 connection pool 대기 시간을 함께 기록한다.
+        poolWaitMetrics.ifAvailable(metrics -> builder.listener(new PoolWaitMetricsListener(metrics)));
+        return builder.build();
     }
 
     /**
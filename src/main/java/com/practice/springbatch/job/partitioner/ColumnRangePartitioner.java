@@ -0,0 +1,92 @@
+package com.practice.springbatch.job.partitioner;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테이블의 숫자 컬럼 MIN/MAX 값을 구해 gridSize 개의 구간으로 나누는 Partitioner
+ * <p>
+ * 각 파티션의 ExecutionContext 에 구간의 시작(minValue)과 끝(maxValue)을 담아주며 양 끝 값을 포함한다.
+ * Worker Step 의 Reader 는 stepExecutionContext 에서 이 값을 받아 자신의 구간만 읽는다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class ColumnRangePartitioner implements Partitioner {
+
+    public static final String MIN_VALUE_KEY = "minValue";
+    public static final String MAX_VALUE_KEY = "maxValue";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String column;
+
+    //MIN/MAX 와 별개로 나눌 구간을 제한할 값 (null 이면 제한 없음, 양 끝 포함)
+    private Integer lowerBound;
+    private Integer upperBound;
+
+    public ColumnRangePartitioner(DataSource dataSource, String table, String column) {
+        Assert.notNull(dataSource, "DataSource 는 필수 값입니다.");
+        Assert.hasText(table, "table 은 필수 값입니다.");
+        Assert.hasText(column, "column 은 필수 값입니다.");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.table = table;
+        this.column = column;
+    }
+
+    public void setLowerBound(Integer lowerBound) {
+        this.lowerBound = lowerBound;
+    }
+
+    public void setUpperBound(Integer upperBound) {
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * MIN ~ MAX 구간을 gridSize 개의 연속된 구간으로 나눈다.
+     * <p>
+     * 테이블이 비어 있거나 제한된 구간에 해당하는 값이 없으면 파티션을 만들지 않는다.
+     * @param gridSize 나눌 구간의 개수
+     * @return Map {@link Map}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Integer min = jdbcTemplate.queryForObject("SELECT MIN(" + column + ") FROM " + table, Integer.class);
+        Integer max = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM " + table, Integer.class);
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (min == null || max == null) {
+            return partitions;
+        }
+        if (lowerBound != null) {
+            min = Math.max(min, lowerBound);
+        }
+        if (upperBound != null) {
+            max = Math.min(max, upperBound);
+        }
+
+        //overflow 를 피하기 위해 long 으로 계산
+        long targetSize = ((long) max - min) / Math.max(gridSize, 1) + 1;
+        long start = min;
+        int number = 0;
+
+        while (start <= max) {
+            long end = Math.min(start + targetSize - 1, max);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(MIN_VALUE_KEY, (int) start);
+            context.putInt(MAX_VALUE_KEY, (int) end);
+            partitions.put("partition" + number++, context);
+
+            start = end + 1;
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,138 @@
+package com.practice.springbatch.job.partitioner;
+
+import com.practice.springbatch.job.file.BlockGzip;
+import com.practice.springbatch.job.file.Compression;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일을 줄 경계에 맞춘 gridSize 개의 byte 구간으로 나누는 Partitioner
+ * <p>
+ * 각 파티션의 ExecutionContext 에 구간의 시작(startOffset, 포함)과 끝(endOffset, 미포함),
+ * 파티션 번호(partitionIndex)를 담아준다. 구간의 경계는 항상 줄의 시작이므로 한 줄이 두 파티션에 나뉘지 않는다.
+ * <p>
+ * BGZF 파일은 block 경계를 기준으로 나누고 offset 은 virtual offset 이다. ({@link BlockGzip})
+ * 일반 gzip 파일은 나눌 수 없으므로 전체를 하나의 구간(0 ~ Long.MAX_VALUE)으로 만든다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class FileByteRangePartitioner implements Partitioner {
+
+    public static final String START_OFFSET_KEY = "startOffset";
+    public static final String END_OFFSET_KEY = "endOffset";
+    public static final String PARTITION_INDEX_KEY = "partitionIndex";
+
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private final Path path;
+
+    public FileByteRangePartitioner(Path path) {
+        Assert.notNull(path, "path 는 필수 값입니다.");
+        this.path = path;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        List<Long> boundaries = boundaries(path, gridSize);
+
+        for (int i = 0; i < boundaries.size() - 1; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(START_OFFSET_KEY, boundaries.get(i));
+            context.putLong(END_OFFSET_KEY, boundaries.get(i + 1));
+            context.putInt(PARTITION_INDEX_KEY, i);
+            partitions.put("partition" + i, context);
+        }
+        return partitions;
+    }
+
+    /**
+     * 파일을 count 개로 나누는 줄 경계 offset 목록(0 과 파일 크기 포함)을 구한다.
+     * <p>
+     * 파일이 작거나 줄이 길어 경계가 겹치면 빈 구간은 만들지 않는다.
+     * 압축 파일이라면 형식에 맞는 offset 을 사용한다. (BGZF 는 virtual offset, gzip 은 나누지 않는다.)
+     * @param path 나눌 파일
+     * @param count 나눌 개수
+     * @return List {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static List<Long> boundaries(Path path, int count) {
+        switch (Compression.detect(path)) {
+            case GZIP:
+                List<Long> whole = new ArrayList<>();
+                whole.add(0L);
+                whole.add(Long.MAX_VALUE);
+                return whole;
+            case BLOCK_GZIP:
+                try {
+                    return BlockGzip.boundaries(path, count);
+                } catch (IOException e) {
+                    throw new ItemStreamException("파일을 나눌 수 없습니다. path=" + path, e);
+                }
+            default:
+                return plainBoundaries(path, count);
+        }
+    }
+
+    private static List<Long> plainBoundaries(Path path, int count) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Long> boundaries = new ArrayList<>();
+            boundaries.add(0L);
+
+            for (int i = 1; i < Math.max(count, 1); i++) {
+                long boundary = nextLineStart(channel, size * i / count, size);
+                if (boundary > boundaries.get(boundaries.size() - 1) && boundary < size) {
+                    boundaries.add(boundary);
+                }
+            }
+
+            if (size > 0) {
+                boundaries.add(size);
+            }
+            return boundaries;
+        } catch (IOException e) {
+            throw new ItemStreamException("파일을 나눌 수 없습니다. path=" + path, e);
+        }
+    }
+
+    /**
+     * offset 이 줄의 시작이 아니라면 다음 줄의 시작 offset 을 찾는다.
+     **/
+    private static long nextLineStart(FileChannel channel, long offset, long size) throws IOException {
+        if (offset == 0) {
+            return 0;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        //바로 앞 byte 가 개행이라면 offset 자체가 줄의 시작
+        long position = offset - 1;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,60 @@
+package com.practice.springbatch.job.partitioner;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파일의 byte 구간 (start 포함, end 미포함)
+ * <p>
+ * 파티션의 ExecutionContext 에는 한 줄에 하나씩 "path\tstart\tend" 형식의 문자열로 저장한다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@RequiredArgsConstructor
+public class FileSegment {
+
+    private final Path path;
+    private final long start;
+    private final long end;
+
+    public long length() {
+        return end - start;
+    }
+
+    public static String format(List<FileSegment> segments) {
+        StringBuilder out = new StringBuilder();
+        for (FileSegment segment : segments) {
+            if (out.length() > 0) {
+                out.append('\n');
+            }
+            out.append(segment.path).append('\t').append(segment.start).append('\t').append(segment.end);
+        }
+        return out.toString();
+    }
+
+    public static List<FileSegment> parse(String value) {
+        List<FileSegment> segments = new ArrayList<>();
+        if (value == null || value.isEmpty()) {
+            return segments;
+        }
+        for (String line : value.split("\n")) {
+            String[] columns = line.split("\t");
+            if (columns.length != 3) {
+                throw new IllegalArgumentException("파일 구간 형식이 올바르지 않습니다. value=" + line);
+            }
+            segments.add(new FileSegment(Paths.get(columns[0]), Long.parseLong(columns[1]), Long.parseLong(columns[2])));
+        }
+        return segments;
+    }
+
+    @Override
+    public String toString() {
+        return path + "[" + start + ", " + end + ")";
+    }
+}
@@ -0,0 +1,155 @@
+package com.practice.springbatch.job.partitioner;
+
+import com.practice.springbatch.job.file.Compression;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 디렉토리에서 glob 에 맞는 파일들을 파일 크기 기준으로 gridSize 개의 파티션에 나누어 담는 Partitioner
+ * <p>
+ * MultiResourceItemReader 처럼 파일을 하나씩 차례로 읽는 대신 파일 묶음을 Worker Step 들이 병렬로 처리한다.
+ * <ul>
+ *     <li>전체 크기 / gridSize 보다 큰 파일은 {@link FileByteRangePartitioner#boundaries} 로 줄 경계에 맞춰 여러 구간으로 나눈다.</li>
+ *     <li>구간을 큰 것부터 현재 byte 합이 가장 작은 파티션에 담는다. (파일 개수가 아니라 크기로 균형을 맞춘다.)</li>
+ *     <li>파티션 안의 구간은 파일 이름, offset 순서로 정렬한다.</li>
+ *     <li>압축 파일은 압축된 크기로 계산한다. BGZF 는 block 경계로 나누고, 일반 gzip 은 나누지 않는다.</li>
+ * </ul>
+ * 각 파티션의 ExecutionContext 에 담당할 구간 목록(segments, {@link FileSegment#format})과 파티션 번호(partitionIndex)를 담아준다.
+ * 재시작 위치는 파티션(StepExecution) 마다 따로 저장된다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class MultiFilePartitioner implements Partitioner {
+
+    public static final String SEGMENTS_KEY = "segments";
+    public static final String PARTITION_INDEX_KEY = FileByteRangePartitioner.PARTITION_INDEX_KEY;
+
+    private final Path directory;
+    private final String glob;
+
+    public MultiFilePartitioner(Path directory, String glob) {
+        Assert.notNull(directory, "directory 는 필수 값입니다.");
+        Assert.hasText(glob, "glob 은 필수 값입니다.");
+        this.directory = directory;
+        this.glob = glob;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int count = Math.max(gridSize, 1);
+        List<Piece> pieces = pieces(files(), count);
+
+        //구간을 큰 것부터 byte 합이 가장 작은 파티션에 담는다.
+        pieces.sort(Comparator.comparingLong((Piece piece) -> piece.bytes).reversed());
+        PriorityQueue<Bin> bins = new PriorityQueue<>(Comparator.comparingLong((Bin bin) -> bin.bytes).thenComparingInt(bin -> bin.index));
+        for (int i = 0; i < count; i++) {
+            bins.add(new Bin(i));
+        }
+        for (Piece piece : pieces) {
+            Bin bin = bins.poll();
+            bin.segments.add(piece.segment);
+            bin.bytes += piece.bytes;
+            bins.add(bin);
+        }
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        for (Bin bin : bins) {
+            if (bin.segments.isEmpty()) {
+                continue;
+            }
+            bin.segments.sort(Comparator.comparing((FileSegment segment) -> segment.getPath().toString())
+                    .thenComparingLong(FileSegment::getStart));
+
+            ExecutionContext context = new ExecutionContext();
+            context.putString(SEGMENTS_KEY, FileSegment.format(bin.segments));
+            context.putInt(PARTITION_INDEX_KEY, bin.index);
+            partitions.put("partition" + bin.index, context);
+        }
+        return partitions;
+    }
+
+    private List<Path> files() {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("입력 파일 목록을 읽을 수 없습니다. directory=" + directory + ", glob=" + glob, e);
+        }
+        files.sort(Comparator.comparing(Path::toString));
+        return files;
+    }
+
+    /**
+     * 파일 하나가 파티션 하나의 목표 크기보다 크면 줄 경계에 맞춘 여러 구간으로 나눈다.
+     * <p>
+     * 압축 파일의 크기는 압축된 크기로 계산한다.
+     **/
+    private static List<Piece> pieces(List<Path> files, int count) {
+        long[] sizes = new long[files.size()];
+        long total = 0;
+        for (int i = 0; i < files.size(); i++) {
+            try {
+                sizes[i] = Files.size(files.get(i));
+            } catch (IOException e) {
+                throw new ItemStreamException("파일 크기를 읽을 수 없습니다. path=" + files.get(i), e);
+            }
+            total += sizes[i];
+        }
+
+        long target = Math.max(1, (total + count - 1) / count);
+        List<Piece> pieces = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            if (sizes[i] == 0) {
+                continue;
+            }
+            int pieceCount = (int) Math.max(1, Math.min(count, (sizes[i] + target - 1) / target));
+            List<Long> boundaries = FileByteRangePartitioner.boundaries(files.get(i), pieceCount);
+            //BGZF 의 virtual offset 은 상위 bit 가 block 의 파일 offset 이다.
+            boolean virtual = Compression.detect(files.get(i)) == Compression.BLOCK_GZIP;
+            for (int j = 0; j < boundaries.size() - 1; j++) {
+                FileSegment segment = new FileSegment(files.get(i), boundaries.get(j), boundaries.get(j + 1));
+                long bytes = boundaries.size() == 2 ? sizes[i]
+                        : virtual ? (segment.getEnd() >>> 16) - (segment.getStart() >>> 16) : segment.length();
+                pieces.add(new Piece(segment, bytes));
+            }
+        }
+        return pieces;
+    }
+
+    private static final class Piece {
+        private final FileSegment segment;
+        private final long bytes;
+
+        private Piece(FileSegment segment, long bytes) {
+            this.segment = segment;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class Bin {
+        private final int index;
+        private final List<FileSegment> segments = new ArrayList<>();
+        private long bytes;
+
+        private Bin(int index) {
+            this.index = index;
+        }
+    }
+}
@@ -1,31 +1,61 @@
 package com.practice.springbatch.job.player;
 
+import com.practice.springbatch.core.domain.PositionMultiplier;
+import com.practice.springbatch.core.repository.PositionMultiplierRepository;
 import com.practice.springbatch.core.service.PlayerSalaryService;
 import com.practice.springbatch.dto.PlayerDto;
 import com.practice.springbatch.dto.PlayerSalaryDto;
+import com.practice.springbatch.job.cache.EnrichmentCache;
+import com.practice.springbatch.job.cache.EnrichmentCacheMetricsListener;
+import com.practice.springbatch.job.executor.TaskExecutorMetricsListener;
+import com.practice.springbatch.job.explore.LastCompletedExecutionFinder;
+import com.practice.springbatch.job.file.ColumnarFile;
+import com.practice.springbatch.job.file.Compression;
+import com.practice.springbatch.job.listener.FileTailListener;
+import com.practice.springbatch.job.mapper.AnnotatedLineMapper;
+import com.practice.springbatch.job.partitioner.FileSegment;
+import com.practice.springbatch.job.partitioner.MultiFilePartitioner;
+import com.practice.springbatch.job.policy.AdaptiveChunkCompletionPolicy;
+import com.practice.springbatch.job.processor.ListItemProcessor;
+import com.practice.springbatch.job.reader.MultiSegmentItemReader;
+import com.practice.springbatch.job.reader.SeekableFlatFileItemReader;
+import com.practice.springbatch.job.step.ListProcessingStepBuilder;
+import com.practice.springbatch.job.tasklet.PartitionFileMergeTasklet;
+import com.practice.springbatch.job.writer.AsyncFileItemWriter;
+import com.practice.springbatch.job.writer.PlayerSalaryColumnarItemWriter;
+import com.practice.springbatch.job.writer.TypedDelimitedLineAggregator;
 import lombok.AllArgsConstructor;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
-import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.adapter.ItemProcessorAdapter;
-import org.springframework.batch.item.file.FlatFileItemReader;
-import org.springframework.batch.item.file.FlatFileItemWriter;
-import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.item.ItemStreamWriter;
 import org.springframework.batch.item.file.builder.FlatFileItemWriterBuilder;
-import org.springframework.batch.item.file.transform.BeanWrapperFieldExtractor;
-import org.springframework.batch.item.file.transform.DelimitedLineAggregator;
-import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * FlatFileItemReader 사용을 위한 Job Config 클래스
@@ -37,118 +67,452 @@ import java.io.IOException;
 public class FlatFileJobConfig {
     private final JobBuilderFactory jobBuilderFactory;
     private final StepBuilderFactory stepBuilderFactory;
+    private final JobExplorer jobExplorer;
 
+    //읽을 파일과 결과 파일
+    private static final String INPUT_PATH = "player-list.txt";
+    private static final String OUTPUT_PATH = "player-salary-list.txt";
+
+    //multiFile 모드에서 파티션 별 결과 파일 (playerPartitionMergeStep 이 OUTPUT_PATH 로 합친다.)
+    private static final String PARTITION_OUTPUT_PATH = "player-salary-list-partition%d.txt";
+
+    //outputFormat=columnar 일 때 결과 파일 이름 (확장자 제외)
+    private static final String COLUMNAR_BASE_NAME = "player-salary-list";
+
+    //결과를 텍스트 대신 columnar binary 파일로 쓰기 위한 outputFormat Job Parameter 값
+    private static final String OUTPUT_FORMAT_COLUMNAR = "columnar";
+
+    //compress=true Job Parameter 가 주어지면 결과 파일 이름 뒤에 붙일 확장자
+    private static final String COMPRESSED_EXTENSION = Compression.GZIP_EXTENSION;
+
+    //inputDir 디렉토리의 여러 Player 파일을 크기 기준으로 나누어 병렬 처리하기 위한 stepMode Job Parameter 값
+    private static final String STEP_MODE_MULTI_FILE = "multiFile";
+
+    //multiFile 모드에서 inputGlob Job Parameter 가 없을 때 읽을 파일
+    private static final String DEFAULT_INPUT_GLOB = "*.txt";
+
+    //포지션 별 배율 Cache 의 최대 크기와 유효 시간
+    private static final int ENRICHMENT_CACHE_SIZE = 1000;
+    private static final long ENRICHMENT_CACHE_TTL_MINUTES = 10;
+
+    /**
+     * player-list.txt 의 Player 들의 Salary 를 계산해서 player-salary-list.txt 를 만드는 Job
+     * <p>
+     * multiFile 모드는 Worker Step 마다 파티션 별 파일에 쓰고,
+     * 이어서 실행되는 playerPartitionMergeStep 이 파티션 번호 순서대로 player-salary-list.txt 하나로 합친다.
+     * 따라서 모드와 관계없이 결과는 player-salary-list.txt (compress=true 라면 player-salary-list.txt.gz) 하나이다.
+     * @param flatFileStep {@link Step}
+     * @param playerPartitionMergeStep {@link Step}
+     * @return Job {@link Job}
+     * @author cyh68
+     * @since 2023-06-01
+     **/
     @Bean
-    public Job flatFileJob(Step flatFileStep) {
+    public Job flatFileJob(Step flatFileStep, Step playerPartitionMergeStep) {
         return jobBuilderFactory.get("flatFileJob")
                 .incrementer(new RunIdIncrementer())
+                .listener(playerFileTailListener()) //처리할 byte 구간 결정
                 .start(flatFileStep)
+                .next(playerPartitionMergeStep)
                 .build();
     }
 
     /**
-     * 파라미터로 FlatFileItemReader를 받아 파일 데이터를 읽어온다.
+     * 이번 실행에서 처리할 player-list.txt 의 byte 구간을 정한다.
+     * <p>
+     * tail=true Job Parameter 가 주어지면 직전 성공 실행 이후에 추가된 줄만 처리하고 결과 파일에 이어서 쓴다.
+     * 파일이 잘렸거나 교체되었거나, 직전 성공 실행과 결과 파일(형식, 압축 여부)이나 stepMode 가 다르면 처음부터 다시 처리한다.
+     * multiFile 모드는 player-list.txt 를 읽지 않으므로 구간을 남기지 않는다.
+     * @return FileTailListener {@link FileTailListener}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public FileTailListener playerFileTailListener() {
+        return new FileTailListener(Paths.get(INPUT_PATH), new LastCompletedExecutionFinder(jobExplorer),
+                FlatFileJobConfig::outputTarget);
+    }
+
+    /**
+     * playerFileItemWriter 가 결과를 쓸 파일과 stepMode. multiFile 모드는 파티션 별 파일에 쓰므로 null
+     **/
+    private static String outputTarget(JobParameters jobParameters) {
+        String stepMode = jobParameters.getString("stepMode");
+        if (STEP_MODE_MULTI_FILE.equals(stepMode)) {
+            return null;
+        }
+
+        String outputPath;
+        if (OUTPUT_FORMAT_COLUMNAR.equals(jobParameters.getString("outputFormat"))) {
+            outputPath = COLUMNAR_BASE_NAME + ColumnarFile.EXTENSION;
+        } else if (Boolean.parseBoolean(jobParameters.getString("compress"))) {
+            outputPath = OUTPUT_PATH + COMPRESSED_EXTENSION;
+        } else {
+            outputPath = OUTPUT_PATH;
+        }
+        return outputPath + " (stepMode=" + stepMode + ")";
+    }
+
+    /**
+     * 파라미터로 SeekableFlatFileItemReader를 받아 파일 데이터를 읽어온다.
      * <p>
      * 읽은 데이터를 writer 에서 출력해준다.
-     * @param playerFileItemReader {@link FlatFileItemReader<PlayerDto>}
+     * <p>
+     * stepMode=multiFile Job Parameter 가 주어지면 inputDir 디렉토리에서 inputGlob 에 맞는 파일들을
+     * 크기 기준으로 나누어 Worker Step 들이 병렬로 처리한다. (결과는 파티션 별 파일에 쓰고 playerPartitionMergeStep 이 합친다.)
+     * multiFile 모드는 파티션 파일을 byte 그대로 이어 붙이므로 outputFormat=columnar 와 함께 쓸 수 없다.
+     * <p>
+     * 입력 파일은 gzip, BGZF 로 압축되어 있어도 그대로 읽는다. (BGZF 파일은 block 단위로 나누어 병렬로 읽는다.)
+     * compress=true Job Parameter 가 주어지면 결과 파일을 BGZF 로 압축해서 쓴다.
+     * outputFormat=columnar Job Parameter 가 주어지면 결과를 컬럼 단위의 binary 파일(.psc)로 쓴다.
+     * @param enrichment 포지션 별 배율 적용 여부
+     * @param stepMode {@link String}
+     * @param outputFormat 결과 파일 형식
+     * @param gridSize 나눌 파티션 개수 (기본 CPU 코어 수)
+     * @param inputDir multiFile 모드에서 읽을 디렉토리
+     * @param inputGlob multiFile 모드에서 읽을 파일 glob (기본 *.txt)
+     * @param playerFileItemReader {@link SeekableFlatFileItemReader}
+     * @param playerSalaryListProcessor {@link ListItemProcessor}
+     * @param playerFileItemWriter {@link ItemStreamWriter}
+     * @param positionMultiplierCache {@link EnrichmentCache}
+     * @param playerMultiFileWorkerStep {@link Step}
+     * @param taskExecutor {@link TaskExecutor}
      * @return Step {@link Step}
      * @author cyh68
      * @since 2023-06-01
      **/
     @JobScope
     @Bean
-    public Step flatFileStep(FlatFileItemReader<PlayerDto> playerFileItemReader,
-                             ItemProcessorAdapter<PlayerDto, PlayerSalaryDto> playerSalaryItemProcessorAdapter,
-                             FlatFileItemWriter<PlayerSalaryDto> playerFileItemWriter) {
-        return stepBuilderFactory.get("flatFileStep")
-                .<PlayerDto, PlayerSalaryDto>chunk(5)
-                .reader(playerFileItemReader)
-                .processor(playerSalaryItemProcessorAdapter)
-                .writer(playerFileItemWriter)
+    public Step flatFileStep(@Value("#{jobParameters['enrichment']}") String enrichment,
+                             @Value("#{jobParameters['stepMode']}") String stepMode,
+                             @Value("#{jobParameters['outputFormat']}") String outputFormat,
+                             @Value("#{jobParameters['gridSize']}") Long gridSize,
+                             @Value("#{jobParameters['inputDir']}") String inputDir,
+                             @Value("#{jobParameters['inputGlob']}") String inputGlob,
+                             SeekableFlatFileItemReader<PlayerDto> playerFileItemReader,
+                             ListItemProcessor<PlayerDto, PlayerSalaryDto> playerSalaryListProcessor,
+                             ItemStreamWriter<PlayerSalaryDto> playerFileItemWriter,
+                             EnrichmentCache<String, Double> positionMultiplierCache,
+                             Step playerMultiFileWorkerStep,
+                             TaskExecutor taskExecutor) {
+        if (STEP_MODE_MULTI_FILE.equals(stepMode)) {
+            Assert.hasText(inputDir, "multiFile 모드는 inputDir Job Parameter 가 필요합니다.");
+            //row group 위치가 footer 에 기록되는 columnar 파일은 이어 붙여서 합칠 수 없다.
+            Assert.isTrue(!OUTPUT_FORMAT_COLUMNAR.equals(outputFormat), "multiFile 모드는 outputFormat=columnar 를 지원하지 않습니다.");
+            int partitionCount = gridSize == null ? Runtime.getRuntime().availableProcessors() : gridSize.intValue();
+            MultiFilePartitioner partitioner =
+                    new MultiFilePartitioner(Paths.get(inputDir), inputGlob == null ? DEFAULT_INPUT_GLOB : inputGlob);
+            return playerMultiFileStep(playerMultiFileWorkerStep, partitioner, taskExecutor, partitionCount);
+        }
+
+        //chunk 처리 시간을 보고 5 ~ 1000 사이에서 chunk 크기를 조절한다.
+        AdaptiveChunkCompletionPolicy completionPolicy = new AdaptiveChunkCompletionPolicy(5, 1000);
+        //item 마다 Processor 를 호출하는 대신 chunk 단위로 한 번에 Salary 를 계산해서 쓴다.
+        SimpleStepBuilder<PlayerDto, PlayerSalaryDto> builder =
+                new ListProcessingStepBuilder<>(stepBuilderFactory.get("flatFileStep"), playerSalaryListProcessor)
+                        .chunk(completionPolicy)
+                        .reader(playerFileItemReader)
+                        .writer(playerFileItemWriter)
+                        .listener(completionPolicy);
+        if (Boolean.parseBoolean(enrichment)) {
+            builder.listener(new EnrichmentCacheMetricsListener(positionMultiplierCache)); //hit, miss, eviction 기록
+        }
+        return builder.build();
+    }
+
+    /**
+     * 여러 Player 파일의 구간들을 크기 기준으로 나눈 파티션 마다 Worker Step 을 병렬 실행하는 Master Step
+     * @param playerMultiFileWorkerStep {@link Step}
+     * @param partitioner {@link MultiFilePartitioner}
+     * @param taskExecutor {@link TaskExecutor}
+     * @param gridSize 나눌 파티션 개수
+     * @return Step {@link Step}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private Step playerMultiFileStep(Step playerMultiFileWorkerStep, MultiFilePartitioner partitioner,
+                                     TaskExecutor taskExecutor, int gridSize) {
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(playerMultiFileWorkerStep);
+        partitionHandler.setGridSize(gridSize);
+        partitionHandler.setTaskExecutor(taskExecutor);
+
+        return stepBuilderFactory.get("playerMultiFileStep")
+                .partitioner("playerMultiFileWorkerStep", partitioner)
+                .partitionHandler(partitionHandler)
+                .listener(new TaskExecutorMetricsListener(taskExecutor))
+                .build();
+    }
+
+    /**
+     * 자신에게 주어진 파일 구간들을 차례로 읽고, 파티션 별 파일에 쓰는 Worker Step
+     * <p>
+     * partition 쓰레드에는 Job context 가 없으므로 @JobScope 를 붙이지 않는다.
+     * Reader, Processor, Writer, Cache 는 모두 @StepScope 라 파티션 마다 만들어진다.
+     * (Job Parameter 를 볼 수 없으므로 Cache 지표 Listener 는 항상 등록하고, 조회가 없었다면 기록되지 않는다.)
+     * @param playerMultiFileItemReader {@link MultiSegmentItemReader}
+     * @param playerSalaryListProcessor {@link ListItemProcessor}
+     * @param playerPartitionFileItemWriter {@link ItemStreamWriter}
+     * @param positionMultiplierCache {@link EnrichmentCache}
+     * @return Step {@link Step}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public Step playerMultiFileWorkerStep(MultiSegmentItemReader<PlayerDto> playerMultiFileItemReader,
+                                          ListItemProcessor<PlayerDto, PlayerSalaryDto> playerSalaryListProcessor,
+                                          ItemStreamWriter<PlayerSalaryDto> playerPartitionFileItemWriter,
+                                          EnrichmentCache<String, Double> positionMultiplierCache) {
+        AdaptiveChunkCompletionPolicy completionPolicy = new AdaptiveChunkCompletionPolicy(5, 1000);
+        return new ListProcessingStepBuilder<>(stepBuilderFactory.get("playerMultiFileWorkerStep"), playerSalaryListProcessor)
+                .chunk(completionPolicy)
+                .reader(playerMultiFileItemReader)
+                .writer(playerPartitionFileItemWriter)
+                .listener(completionPolicy)
+                .listener(new EnrichmentCacheMetricsListener(positionMultiplierCache))
+                .build();
+    }
+
+    /**
+     * multiFile 모드에서 Worker Step 들이 쓴 파티션 별 파일을 player-salary-list.txt 하나로 합치는 Step
+     * <p>
+     * multiFile 모드가 아니었다면 합칠 파티션이 없으므로 아무것도 하지 않는다.
+     * compress=true 라면 BGZF 파티션 파일들을 player-salary-list.txt.gz 로 합친다.
+     * @param compress 결과 파일 압축 여부
+     * @return Step {@link Step}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @JobScope
+    @Bean
+    public Step playerPartitionMergeStep(@Value("#{jobParameters['compress']}") String compress) {
+        String extension = Boolean.parseBoolean(compress) ? COMPRESSED_EXTENSION : "";
+        PartitionFileMergeTasklet tasklet = new PartitionFileMergeTasklet(jobExplorer,
+                Paths.get(OUTPUT_PATH + extension),
+                partitionIndex -> Paths.get(String.format(PARTITION_OUTPUT_PATH, partitionIndex) + extension),
+                "playerMultiFileWorkerStep");
+        return stepBuilderFactory.get("playerPartitionMergeStep")
+                .tasklet(tasklet)
+                .build();
+    }
+
+    /**
+     * multiFile 모드에서 파티션 별 파일(player-salary-list-partition{N}.txt)에 쓰기 위한 ItemWriter
+     * <p>
+     * Worker Step 들이 하나의 파일을 동시에 쓰지 않도록 파티션 마다 다른 파일을 사용한다. (playerPartitionMergeStep 이 합친다.)
+     * compress=true 라면 BGZF 로 압축해서 player-salary-list-partition{N}.txt.gz 에 쓴다.
+     * @param partitionIndex 파티션 번호
+     * @param compress 결과 파일 압축 여부
+     * @return ItemStreamWriter {@link ItemStreamWriter}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @StepScope
+    @Bean
+    public ItemStreamWriter<PlayerSalaryDto> playerPartitionFileItemWriter(
+            @Value("#{stepExecutionContext['partitionIndex']}") Integer partitionIndex,
+            @Value("#{jobParameters['compress']}") String compress) {
+        TypedDelimitedLineAggregator<PlayerSalaryDto> lineAggregator =
+                TypedDelimitedLineAggregator.of(PlayerSalaryDto.class, "\t", "ID", "firstName", "lastName", "salary");
+
+        String outputPath = String.format(PARTITION_OUTPUT_PATH, partitionIndex);
+        if (Boolean.parseBoolean(compress)) {
+            return compressedWriter("playerPartitionFileItemWriter", outputPath, lineAggregator, false);
+        }
+        return new FlatFileItemWriterBuilder<PlayerSalaryDto>()
+                .name("playerPartitionFileItemWriter")
+                .resource(new FileSystemResource(outputPath))
+                .lineAggregator(lineAggregator)
                 .build();
     }
 
     /**
      * 읽어서(ItemReader) 가공한(ItemProcessor) 데이터를 파일에 원하는 형태로 쓴다.
-     * @return FlatFileItemWriter {@link FlatFileItemWriter}
+     * <p>
+     * tail 모드에서 이어서 처리하는 실행이라면 기존 결과 파일 뒤에 이어서 쓴다.
+     * compress=true 라면 BGZF 로 압축해서 player-salary-list.txt.gz 에 쓴다. (이어서 쓸 때도 block 을 뒤에 붙이면 된다.)
+     * outputFormat=columnar 라면 player-salary-list.psc 에 컬럼 단위로 쓴다. (이어서 쓸 때는 기존 footer 자리부터 row group 을 붙인다.)
+     * @param append 기존 결과 파일에 이어서 쓸지 여부 ({@link FileTailListener} 가 정한다.)
+     * @param compress 결과 파일 압축 여부
+     * @param outputFormat 결과 파일 형식
+     * @return ItemStreamWriter {@link ItemStreamWriter}
      * @author cyh68
      * @since 2023-06-01
      * @throws IOException
      **/
     @StepScope
     @Bean
-    public FlatFileItemWriter<PlayerSalaryDto> playerFileItemWriter() throws IOException {
+    public ItemStreamWriter<PlayerSalaryDto> playerFileItemWriter(
+            @Value("#{jobExecutionContext['fileTail.append']}") Boolean append,
+            @Value("#{jobParameters['compress']}") String compress,
+            @Value("#{jobParameters['outputFormat']}") String outputFormat) throws IOException {
+        if (OUTPUT_FORMAT_COLUMNAR.equals(outputFormat)) {
+            return columnarWriter("playerFileItemWriter", COLUMNAR_BASE_NAME, Boolean.TRUE.equals(append));
+        }
 
-        BeanWrapperFieldExtractor<PlayerSalaryDto> fieldExtractor = new BeanWrapperFieldExtractor<>();
-        fieldExtractor.setNames(new String[]{"ID", "firstName", "lastName", "salary"});
-        fieldExtractor.afterPropertiesSet();
+        //getter 를 미리 묶어두어 item 마다 BeanWrapper 조회와 boxing 없이 한 줄을 만든다.
+        TypedDelimitedLineAggregator<PlayerSalaryDto> lineAggregator =
+                TypedDelimitedLineAggregator.of(PlayerSalaryDto.class, "\t", "ID", "firstName", "lastName", "salary");
 
-        DelimitedLineAggregator<PlayerSalaryDto> lineAggregator = new DelimitedLineAggregator<>();
-        lineAggregator.setDelimiter("\t");
-        lineAggregator.setFieldExtractor(fieldExtractor);
+        if (Boolean.parseBoolean(compress)) {
+            return compressedWriter("playerFileItemWriter", OUTPUT_PATH, lineAggregator, Boolean.TRUE.equals(append));
+        }
 
-        //기존의 파일을 덮어쓴다.
-        new File("player-salary-list.txt").createNewFile();
-        FileSystemResource fileSystemResource = new FileSystemResource("player-salary-list.txt");
+        //기존의 파일을 덮어쓴다. (tail 모드에서 이어서 처리할 때는 뒤에 이어서 쓴다.)
+        new File(OUTPUT_PATH).createNewFile();
+        FileSystemResource fileSystemResource = new FileSystemResource(OUTPUT_PATH);
 
         return new FlatFileItemWriterBuilder<PlayerSalaryDto>()
                 .name("playerFileItemWriter")
                 .resource(fileSystemResource)
+                .append(Boolean.TRUE.equals(append))
                 .lineAggregator(lineAggregator) // 쓴 값들을 어떻게 조합을 해줄지에 대한 설정
                 .build();
     }
 
     /**
-     * ItemProcessor 대신에 좀 더 간편하게 사용 가능한 ItemProcessorAdapter
+     * baseName.psc 에 컬럼 단위로 쓰는 ItemWriter
+     **/
+    private static PlayerSalaryColumnarItemWriter columnarWriter(String name, String baseName, boolean append) {
+        PlayerSalaryColumnarItemWriter writer = new PlayerSalaryColumnarItemWriter(Paths.get(baseName + ColumnarFile.EXTENSION));
+        writer.setName(name);
+        writer.setAppend(append);
+        return writer;
+    }
+
+    /**
+     * chunk 마다 BGZF block 으로 압축해서 outputPath.gz 에 쓰는 ItemWriter
+     **/
+    private static AsyncFileItemWriter<PlayerSalaryDto> compressedWriter(String name, String outputPath,
+                                                                         TypedDelimitedLineAggregator<PlayerSalaryDto> lineAggregator,
+                                                                         boolean append) {
+        AsyncFileItemWriter<PlayerSalaryDto> writer =
+                new AsyncFileItemWriter<>(Paths.get(outputPath + COMPRESSED_EXTENSION), lineAggregator);
+        writer.setName(name);
+        writer.setLineSeparator("\n");
+        writer.setCompressed(true);
+        writer.setAppend(append);
+        return writer;
+    }
+
+    /**
+     * chunk 의 Player 들의 Salary 를 한 번에 계산하는 ListItemProcessor
+     * <p>
+     * 기준 연도는 Step 실행 마다 한 번만 구한다.
+     * multiFile 모드의 partition 쓰레드에서도 호출되므로 @StepScope 로 만든다. (partition 쓰레드에는 Job context 가 없다.)
+     * referenceYear Job Parameter 가 있으면 그 값을, 없으면 Clock Bean(없으면 시스템 시계) 기준 현재 연도를 사용한다.
      * <p>
-     * ItemProcessor 인터페이스를 상속 받고 있음
+     * enrichment=true Job Parameter 가 주어지면 chunk 의 포지션들을 모아 캐시에 없는 배율만 한 번에 조회해서 적용한다.
      * @param playerSalaryService {@link PlayerSalaryService}
-     * @return ItemProcessorAdapter {@link ItemProcessorAdapter}
+     * @param referenceYear 기준 연도
+     * @param enrichment 포지션 별 배율 적용 여부
+     * @param clock {@link Clock}
+     * @param positionMultiplierCache {@link EnrichmentCache}
+     * @return ListItemProcessor {@link ListItemProcessor}
      * @author cyh68
-     * @since 2023-06-01
+     * @since 2026-10-18
      **/
     @StepScope
     @Bean
-    public ItemProcessorAdapter playerSalaryItemProcessorAdapter(PlayerSalaryService playerSalaryService) {
-        ItemProcessorAdapter<PlayerDto, PlayerSalaryDto> adapter = new ItemProcessorAdapter<>();
-        adapter.setTargetObject(playerSalaryService); //사용할 클래스
-        adapter.setTargetMethod("calcSalary"); //사용할 클래스 내의 메소드 명
-        return adapter;
+    public ListItemProcessor<PlayerDto, PlayerSalaryDto> playerSalaryListProcessor(PlayerSalaryService playerSalaryService,
+                                                                                  @Value("#{jobParameters['referenceYear']}") Long referenceYear,
+                                                                                  @Value("#{jobParameters['enrichment']}") String enrichment,
+                                                                                  ObjectProvider<Clock> clock,
+                                                                                  EnrichmentCache<String, Double> positionMultiplierCache) {
+        int year = referenceYear != null
+                ? referenceYear.intValue()
+                : Year.now(clock.getIfAvailable(Clock::systemDefaultZone)).getValue();
+        if (!Boolean.parseBoolean(enrichment)) {
+            return items -> playerSalaryService.calcSalaries(items, year);
+        }
+        return items -> {
+            Set<String> positions = new HashSet<>();
+            for (PlayerDto item : items) {
+                if (item.getPosition() != null) {
+                    positions.add(item.getPosition());
+                }
+            }
+            return playerSalaryService.calcSalaries(items, year, positionMultiplierCache.getAll(positions));
+        };
     }
 
     /**
-     * playerSalaryService를 파라미터로 받아 Salary를 계산 후 PlayerSalaryDto를 반환해주는 ItemProcessor
-     * @param playerSalaryService {@link PlayerSalaryService}
-     * @return ItemProcessor {@link ItemProcessor}
+     * 포지션 별 배율을 Step 실행 동안 보관하는 Cache
+     * <p>
+     * playerSalaryListProcessor 와 같이 partition 쓰레드에서도 사용되므로 @StepScope 로 만든다. (파티션 마다 Cache 를 따로 가진다.)
+     * 최대 ENRICHMENT_CACHE_SIZE 개를 보관하고(LRU), ENRICHMENT_CACHE_TTL_MINUTES 분이 지나면 다시 조회한다.
+     * 캐시에 없는 포지션들은 findAllById 로 한 번의 IN 쿼리로 조회한다.
+     * @param positionMultiplierRepository {@link PositionMultiplierRepository}
+     * @return EnrichmentCache {@link EnrichmentCache}
      * @author cyh68
-     * @since 2023-06-01
+     * @since 2026-10-18
      **/
     @StepScope
     @Bean
-    public ItemProcessor<PlayerDto, PlayerSalaryDto> playerSalaryItemProcessor(PlayerSalaryService playerSalaryService) {
-        return new ItemProcessor<PlayerDto, PlayerSalaryDto>() {
-            @Override
-            public PlayerSalaryDto process(PlayerDto item) throws Exception {
-                return playerSalaryService.calcSalary(item);
+    public EnrichmentCache<String, Double> positionMultiplierCache(PositionMultiplierRepository positionMultiplierRepository) {
+        return new EnrichmentCache<>(positions -> {
+            Map<String, Double> multipliers = new HashMap<>();
+            for (PositionMultiplier positionMultiplier : positionMultiplierRepository.findAllById(positions)) {
+                multipliers.put(positionMultiplier.getPosition(), positionMultiplier.getMultiplier());
             }
-        };
+            return multipliers;
+        }, ENRICHMENT_CACHE_SIZE, ENRICHMENT_CACHE_TTL_MINUTES, TimeUnit.MINUTES);
     }
 
     /**
-     * FlatFileItemReader를 통해 파일에서 데이터를 읽어온다.
-     * @return FlatFileItemReader {@link FlatFileItemReader}
+     * 파일에서 Player 데이터를 읽어온다.
+     * <p>
+     * FlatFileItemReader 는 재시작할 때 read.count 만큼 줄을 다시 읽어서 버리므로,
+     * 다음에 읽을 줄의 byte offset 을 저장하고 재시작 시 그 위치로 바로 이동하는 SeekableFlatFileItemReader 를 사용한다.
+     * {@link FileTailListener} 가 정한 byte 구간만 읽는다.
+     * player-list.txt 가 없으면 player-list.txt.gz 를 읽는다. (압축 형식은 파일 앞부분으로 판단한다.)
+     * @param from 읽기 시작할 offset
+     * @param to 읽기를 끝낼 offset (미포함)
+     * @return SeekableFlatFileItemReader {@link SeekableFlatFileItemReader}
      * @author cyh68
      * @since 2023-06-01
      **/
     @StepScope
     @Bean
-    public FlatFileItemReader<PlayerDto> playerFileItemReader() {
-        return new FlatFileItemReaderBuilder<PlayerDto>()
-                .name("playerFileItemReader")
-                .lineTokenizer(new DelimitedLineTokenizer()) //각 데이터가 나뉘어져 있는 구분자. DelimitedLineTokenizer()의 기본 값은 콤마(,)임
-                .linesToSkip(1)
-                .fieldSetMapper(new PlayerFieldSetMapper())
-                .resource(new FileSystemResource("player-list.txt"))
-                .build();
+    public SeekableFlatFileItemReader<PlayerDto> playerFileItemReader(@Value("#{jobExecutionContext['fileTail.from']}") Long from,
+                                                                      @Value("#{jobExecutionContext['fileTail.to']}") Long to) {
+        //PlayerDto 의 @FlatFileRecord, @FlatFileColumn 을 보고 한 줄을 바로 PlayerDto 로 만든다. (구분자는 콤마(,))
+        SeekableFlatFileItemReader<PlayerDto> reader =
+                new SeekableFlatFileItemReader<>(Compression.resolve(Paths.get(INPUT_PATH)), new AnnotatedLineMapper<>(PlayerDto.class));
+        reader.setName("playerFileItemReader"); //ExecutionContext 에 byte offset 을 저장할 때 사용할 이름
+        reader.setLinesToSkip(1); //header 는 처음 실행할 때만 건너뛴다. (from 이 0 보다 크면 적용하지 않는다.)
+        if (from != null) {
+            reader.setStartOffset(from);
+        }
+        if (to != null) {
+            reader.setEndOffset(to);
+        }
+        return reader;
+    }
+
+    /**
+     * multiFile 모드에서 MultiFilePartitioner 가 나눠준 Player 파일 구간들을 차례로 읽기 위한 Reader
+     * <p>
+     * 구간 마다 SeekableFlatFileItemReader 를 만들어 읽으며, 파일의 처음(offset 0)부터 읽는 구간만 header 를 건너뛴다.
+     * 압축 파일의 구간은 SeekableFlatFileItemReader 가 압축을 풀면서 읽는다.
+     * @param segments 파티션이 담당할 파일 구간 목록
+     * @return MultiSegmentItemReader {@link MultiSegmentItemReader}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @StepScope
+    @Bean
+    public MultiSegmentItemReader<PlayerDto> playerMultiFileItemReader(@Value("#{stepExecutionContext['segments']}") String segments) {
+        AnnotatedLineMapper<PlayerDto> lineMapper = new AnnotatedLineMapper<>(PlayerDto.class);
+        MultiSegmentItemReader<PlayerDto> reader = new MultiSegmentItemReader<>(FileSegment.parse(segments), segment -> {
+            SeekableFlatFileItemReader<PlayerDto> segmentReader = new SeekableFlatFileItemReader<>(segment.getPath(), lineMapper);
+            segmentReader.setName("playerFileItemReader");
+            segmentReader.setLinesToSkip(1);
+            segmentReader.setStartOffset(segment.getStart());
+            segmentReader.setEndOffset(segment.getEnd());
+            return segmentReader;
+        });
+        reader.setName("playerMultiFileItemReader");
+        return reader;
     }
 }
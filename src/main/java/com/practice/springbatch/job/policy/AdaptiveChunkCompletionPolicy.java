@@ -0,0 +1,242 @@
+package com.practice.springbatch.job.policy;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterChunk;
+import org.springframework.batch.core.annotation.AfterChunkError;
+import org.springframework.batch.core.annotation.AfterRead;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.BeforeChunk;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+import org.springframework.batch.repeat.policy.CompletionPolicySupport;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * chunk 크기를 실행 중에 조절하는 CompletionPolicy
+ * <p>
+ * chunk 하나를 처리(읽기 ~ commit)하는 데 걸린 시간이 목표 commit 시간에 가까워지도록 다음 chunk 크기를 정하고,
+ * chunk 에 담긴 item 의 추정 메모리 크기가 heap 예산을 넘으면 chunk 를 바로 닫는다.
+ * chunk 크기는 항상 minChunkSize ~ maxChunkSize 사이에서 정해진다.
+ * <p>
+ * Step 에 적용할 때는 chunk(policy) 와 함께 listener(policy) 로 등록해야 시간과 메모리를 측정할 수 있다.
+ * 선택된 chunk 크기는 StepExecution 의 ExecutionContext 에 기록된다.
+ * <p>
+ * chunk 크기와 통계는 StepExecution 마다 따로 두므로, partition Worker Step 처럼 singleton Step 하나를
+ * 여러 StepExecution 이 동시에 실행해도 하나의 policy 를 함께 쓸 수 있다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class AdaptiveChunkCompletionPolicy extends CompletionPolicySupport {
+
+    public static final String CURRENT_SIZE_KEY = "adaptiveChunk.currentSize";
+    public static final String MIN_SIZE_KEY = "adaptiveChunk.minSize";
+    public static final String MAX_SIZE_KEY = "adaptiveChunk.maxSize";
+    public static final String AVERAGE_SIZE_KEY = "adaptiveChunk.averageSize";
+
+    private static final long DEFAULT_TARGET_COMMIT_MILLIS = 500;
+    private static final long DEFAULT_ITEM_BYTES = 256;
+
+    //한 번에 늘리거나 줄일 수 있는 최대 배율
+    private static final double MAX_GROWTH = 2.0;
+    private static final double MAX_SHRINK = 0.5;
+
+    private final int minChunkSize;
+    private final int maxChunkSize;
+
+    private long targetCommitNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TARGET_COMMIT_MILLIS);
+    private long heapBudgetBytes = Long.MAX_VALUE;
+    private ToLongFunction<Object> itemSizeEstimator = item -> DEFAULT_ITEM_BYTES;
+
+    //StepExecution id 별 chunk 크기와 통계 (Step 이 끝나면 제거)
+    private final ConcurrentMap<Long, StepState> steps = new ConcurrentHashMap<>();
+
+    //multi-threaded Step 에서도 chunk 는 한 쓰레드에서 처리되므로 쓰레드 별로 현재 chunk 정보를 둔다.
+    private final ThreadLocal<ChunkState> currentChunk = new ThreadLocal<>();
+    private final ThreadLocal<Long> chunkStartNanos = new ThreadLocal<>();
+
+    public AdaptiveChunkCompletionPolicy(int minChunkSize, int maxChunkSize) {
+        Assert.isTrue(minChunkSize > 0, "minChunkSize 는 0보다 커야 합니다.");
+        Assert.isTrue(maxChunkSize >= minChunkSize, "maxChunkSize 는 minChunkSize 보다 작을 수 없습니다.");
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    /**
+     * chunk 하나를 처리하는 데 목표로 하는 시간 (기본 500ms)
+     **/
+    public void setTargetCommitMillis(long targetCommitMillis) {
+        Assert.isTrue(targetCommitMillis > 0, "targetCommitMillis 는 0보다 커야 합니다.");
+        this.targetCommitNanos = TimeUnit.MILLISECONDS.toNanos(targetCommitMillis);
+    }
+
+    /**
+     * chunk 하나에 담을 item 들의 추정 메모리 크기 상한 (기본 제한 없음)
+     **/
+    public void setHeapBudgetBytes(long heapBudgetBytes) {
+        Assert.isTrue(heapBudgetBytes > 0, "heapBudgetBytes 는 0보다 커야 합니다.");
+        this.heapBudgetBytes = heapBudgetBytes;
+    }
+
+    /**
+     * item 하나의 메모리 크기를 추정하는 함수 (기본 item 당 256 byte)
+     **/
+    public void setItemSizeEstimator(ToLongFunction<Object> itemSizeEstimator) {
+        Assert.notNull(itemSizeEstimator, "itemSizeEstimator 는 필수 값입니다.");
+        this.itemSizeEstimator = itemSizeEstimator;
+    }
+
+    @Override
+    public RepeatContext start(RepeatContext parent) {
+        StepState step = currentStep();
+        ChunkState state = new ChunkState(parent, step);
+        currentChunk.set(state);
+        return state;
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context, RepeatStatus result) {
+        if (result == null || !result.isContinuable()) {
+            return true;
+        }
+        return isComplete(context);
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        ChunkState state = (ChunkState) context;
+        return state.getStartedCount() >= state.size || state.bytes >= heapBudgetBytes;
+    }
+
+    @Override
+    public void update(RepeatContext context) {
+        ((ChunkState) context).increment();
+    }
+
+    @AfterRead
+    public void afterRead(Object item) {
+        ChunkState state = currentChunk.get();
+        if (state != null) {
+            state.bytes += itemSizeEstimator.applyAsLong(item);
+        }
+    }
+
+    @BeforeStep
+    public void beforeStep(StepExecution stepExecution) {
+        steps.put(stepExecution.getId(), new StepState(minChunkSize));
+    }
+
+    @BeforeChunk
+    public void beforeChunk(ChunkContext context) {
+        chunkStartNanos.set(System.nanoTime());
+    }
+
+    @AfterChunk
+    public void afterChunk(ChunkContext context) {
+        Long startNanos = chunkStartNanos.get();
+        ChunkState state = currentChunk.get();
+        chunkStartNanos.remove();
+        currentChunk.remove();
+        if (startNanos == null || state == null || state.getStartedCount() == 0) {
+            return;
+        }
+
+        int size = nextChunkSize(state.getStartedCount(), state.bytes, System.nanoTime() - startNanos);
+        state.step.record(size);
+        context.getStepContext().getStepExecution().getExecutionContext().putInt(CURRENT_SIZE_KEY, size);
+    }
+
+    @AfterChunkError
+    public void afterChunkError(ChunkContext context) {
+        chunkStartNanos.remove();
+        currentChunk.remove();
+    }
+
+    @AfterStep
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        StepState step = steps.remove(stepExecution.getId());
+        int count = step == null ? 0 : step.chunkCount.get();
+        if (count > 0) {
+            ExecutionContext executionContext = stepExecution.getExecutionContext();
+            executionContext.putInt(MIN_SIZE_KEY, step.chosenMin.get());
+            executionContext.putInt(MAX_SIZE_KEY, step.chosenMax.get());
+            executionContext.putLong(AVERAGE_SIZE_KEY, step.chunkSizeSum.get() / count);
+        }
+        return null;
+    }
+
+    /**
+     * 직전 chunk 의 item 당 처리 시간과 item 당 메모리 크기로 다음 chunk 크기를 계산한다.
+     **/
+    int nextChunkSize(int itemCount, long itemBytes, long elapsedNanos) {
+        double nanosPerItem = Math.max((double) elapsedNanos / itemCount, 1);
+        double bytesPerItem = Math.max((double) itemBytes / itemCount, 1);
+
+        double bySpeed = targetCommitNanos / nanosPerItem;
+        double byMemory = heapBudgetBytes / bytesPerItem;
+
+        //급격하게 변하지 않도록 직전 크기 기준으로 변화 폭을 제한
+        double next = Math.min(bySpeed, byMemory);
+        next = Math.min(next, itemCount * MAX_GROWTH);
+        next = Math.max(next, itemCount * MAX_SHRINK);
+
+        return (int) Math.max(minChunkSize, Math.min(maxChunkSize, Math.round(next)));
+    }
+
+    /**
+     * 현재 쓰레드에서 실행 중인 StepExecution 의 상태 (Step 밖에서 호출되면 최소 크기로 시작하는 임시 상태)
+     **/
+    private StepState currentStep() {
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext == null) {
+            return new StepState(minChunkSize);
+        }
+        return steps.computeIfAbsent(stepContext.getStepExecution().getId(), id -> new StepState(minChunkSize));
+    }
+
+    private static class StepState {
+        private volatile int chunkSize;
+
+        private final AtomicInteger chunkCount = new AtomicInteger();
+        private final AtomicLong chunkSizeSum = new AtomicLong();
+        private final AtomicInteger chosenMin = new AtomicInteger(Integer.MAX_VALUE);
+        private final AtomicInteger chosenMax = new AtomicInteger();
+
+        StepState(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        void record(int size) {
+            chunkSize = size;
+            chunkCount.incrementAndGet();
+            chunkSizeSum.addAndGet(size);
+            chosenMin.accumulateAndGet(size, Math::min);
+            chosenMax.accumulateAndGet(size, Math::max);
+        }
+    }
+
+    private static class ChunkState extends RepeatContextSupport {
+        private final StepState step;
+        private final int size;
+        private long bytes;
+
+        ChunkState(RepeatContext parent, StepState step) {
+            super(parent);
+            this.step = step;
+            this.size = step.chunkSize;
+        }
+    }
+}
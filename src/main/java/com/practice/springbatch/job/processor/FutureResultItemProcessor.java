@@ -0,0 +1,28 @@
+package com.practice.springbatch.job.processor;
+
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * {@link com.practice.springbatch.job.reader.AsyncProcessingItemReader} 가 돌려준 Future 의 처리 결과를 꺼내는 ItemProcessor
+ * <p>
+ * chunk 의 item 순서대로 결과를 기다리므로 Writer 에는 읽은 순서대로 넘어간다.
+ * 결과가 null 이면 그대로 돌려주므로 Step 이 filter count 를 올리고 쓰지 않는다.
+ * 처리 중 발생한 예외는 원래 예외로 풀어서 던지므로 chunk 는 평소와 같이 rollback 된다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class FutureResultItemProcessor<O> implements ItemProcessor<Future<O>, O> {
+
+    @Override
+    public O process(Future<O> item) throws Exception {
+        try {
+            return item.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.practice.springbatch.job.processor;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.step.item.Chunk;
+import org.springframework.batch.core.step.item.SimpleChunkProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * chunk 의 item 들을 {@link ListItemProcessor} 로 한 번에 가공하는 ChunkProcessor
+ * <p>
+ * item 마다 ItemProcessor 를 호출하는 대신 chunk 전체를 한 번에 가공하고, 결과가 null 인 item 은 쓰지 않는다.
+ * 가공은 SimpleChunkProcessor 의 transform 단계에서 하므로 filter 된 item 은 filterCount 에,
+ * 실제로 쓴 item 만 writeCount 에 기록된다.
+ * item 단위 ItemProcessListener 는 호출되지 않는다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class ListItemChunkProcessor<I, O> extends SimpleChunkProcessor<I, O> {
+
+    private final ListItemProcessor<I, O> listItemProcessor;
+
+    /**
+     * @param listItemProcessor chunk 를 한 번에 가공할 {@link ListItemProcessor}
+     * @param itemWriter 가공된 item 을 쓸 {@link ItemWriter}
+     **/
+    public ListItemChunkProcessor(ListItemProcessor<I, O> listItemProcessor, ItemWriter<? super O> itemWriter) {
+        //item 하나만 가공해야 할 때는 크기 1 인 목록으로 호출한다.
+        super(item -> listItemProcessor.process(Collections.singletonList(item)).get(0), itemWriter);
+        Assert.notNull(listItemProcessor, "listItemProcessor 는 필수 값입니다.");
+        Assert.notNull(itemWriter, "itemWriter 는 필수 값입니다.");
+        this.listItemProcessor = listItemProcessor;
+    }
+
+    @Override
+    protected Chunk<O> transform(StepContribution contribution, Chunk<I> inputs) throws Exception {
+        List<O> processed;
+        try {
+            processed = listItemProcessor.process(inputs.getItems());
+        } catch (Exception e) {
+            inputs.clear();
+            throw e;
+        }
+        Assert.state(processed.size() == inputs.size(),
+                "ListItemProcessor 의 결과 개수가 입력 개수와 다릅니다. input=" + inputs.size() + ", output=" + processed.size());
+
+        //filter 된 item 은 입력에서도 지워서 SimpleChunkProcessor 가 filterCount 를 세도록 한다.
+        Chunk<O> outputs = new Chunk<>();
+        Iterator<O> results = processed.iterator();
+        for (Chunk<I>.ChunkIterator iterator = inputs.iterator(); iterator.hasNext(); ) {
+            iterator.next();
+            O output = results.next();
+            if (output != null) {
+                outputs.add(output);
+            } else {
+                iterator.remove();
+            }
+        }
+        return outputs;
+    }
+}
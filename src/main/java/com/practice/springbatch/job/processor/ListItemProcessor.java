@@ -0,0 +1,19 @@
+package com.practice.springbatch.job.processor;
+
+import java.util.List;
+
+/**
+ * chunk 단위로 item 들을 한 번에 가공하는 Processor
+ * <p>
+ * ItemProcessor 는 item 하나씩 호출되므로 chunk 전체에 대한 조회나 계산을 한 번에 할 수 없다.
+ * 이 인터페이스는 chunk 의 item 목록을 받아 가공된 목록을 돌려준다.
+ * 결과 목록에 null 이 있으면 해당 item 은 쓰지 않는다. (ItemProcessor 의 filter 와 같음)
+ * {@link com.practice.springbatch.job.step.ListProcessingStepBuilder} 로 Step 에 연결한다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@FunctionalInterface
+public interface ListItemProcessor<I, O> {
+
+    List<O> process(List<? extends I> items) throws Exception;
+}
@@ -0,0 +1,108 @@
+package com.practice.springbatch.job.reader;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+
+/**
+ * item 을 읽자마자 processor 의 처리를 TaskExecutor 에 넘기고, 처리 결과의 Future 를 돌려주는 ItemReader
+ * <p>
+ * chunk 는 item 을 모두 읽은 뒤에 처리 단계로 넘어가므로, ItemProcessor 에서 처리를 시작하면 읽기와 처리가 겹치지 않는다.
+ * 이 Reader 는 읽는 시점에 처리를 시작하므로 chunk 의 나머지 item 을 읽는 동안 앞의 item 들이 처리된다.
+ * <ul>
+ *     <li>delegate Reader 는 chunk 쓰레드 하나에서만 호출되므로 byte offset 등의 상태를 그대로 저장할 수 있다.</li>
+ *     <li>처리 중인 item 수가 maxInFlight 에 도달하면 다음 item 을 읽는 쪽(chunk 쓰레드)이 기다린다.</li>
+ *     <li>Future 는 읽은 순서대로 chunk 에 담기므로
+ *     {@link com.practice.springbatch.job.processor.FutureResultItemProcessor} 로 결과를 꺼내면 순서가 유지되고,
+ *     처리 결과가 null 인 item 은 filter 로 집계된다.</li>
+ * </ul>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class AsyncProcessingItemReader<I, O> implements ItemStreamReader<Future<O>> {
+
+    private final ItemStreamReader<I> delegate;
+    private final ItemProcessor<I, O> processor;
+    private final TaskExecutor taskExecutor;
+    private final Semaphore inFlight;
+
+    public AsyncProcessingItemReader(ItemStreamReader<I> delegate, ItemProcessor<I, O> processor,
+                                     TaskExecutor taskExecutor, int maxInFlight) {
+        Assert.notNull(delegate, "delegate 는 필수 값입니다.");
+        Assert.notNull(processor, "processor 는 필수 값입니다.");
+        Assert.notNull(taskExecutor, "taskExecutor 는 필수 값입니다.");
+        Assert.isTrue(maxInFlight > 0, "maxInFlight 는 0보다 커야 합니다.");
+        this.delegate = delegate;
+        this.processor = processor;
+        this.taskExecutor = taskExecutor;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public Future<O> read() throws Exception {
+        //처리할 자리가 날 때까지 다음 item 을 읽지 않는다.
+        inFlight.acquire();
+        I item;
+        try {
+            item = delegate.read();
+        } catch (Exception e) {
+            inFlight.release();
+            throw e;
+        }
+        if (item == null) {
+            inFlight.release();
+            return null;
+        }
+
+        //@StepScope 인 processor 를 다른 쓰레드에서 사용할 수 있도록 현재 StepExecution 을 넘겨준다.
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        StepExecution stepExecution = stepContext == null ? null : stepContext.getStepExecution();
+
+        FutureTask<O> task = new FutureTask<>(() -> {
+            if (stepExecution != null) {
+                StepSynchronizationManager.register(stepExecution);
+            }
+            try {
+                return processor.process(item);
+            } finally {
+                if (stepExecution != null) {
+                    StepSynchronizationManager.close();
+                }
+                inFlight.release();
+            }
+        });
+
+        try {
+            taskExecutor.execute(task);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+        return task;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.update(executionContext);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        delegate.close();
+    }
+}
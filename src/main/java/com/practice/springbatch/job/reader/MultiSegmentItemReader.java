@@ -0,0 +1,85 @@
+package com.practice.springbatch.job.reader;
+
+import com.practice.springbatch.job.partitioner.FileSegment;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 여러 파일 구간({@link FileSegment})을 차례로 읽는 ItemReader
+ * <p>
+ * 구간 마다 readerFactory 로 구간만 읽는 Reader 를 만들어 위임한다.
+ * ExecutionContext 에는 읽고 있는 구간의 번호와 위임 Reader 의 상태(byte offset 등)를 저장하므로
+ * 재시작하면 마지막으로 읽던 구간의 저장된 위치부터 이어서 읽는다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class MultiSegmentItemReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+    private static final String SEGMENT_INDEX_KEY = "segmentIndex";
+
+    private final List<FileSegment> segments;
+    private final Function<FileSegment, ItemStreamReader<T>> readerFactory;
+
+    private int current;
+    private ItemStreamReader<T> delegate;
+
+    public MultiSegmentItemReader(List<FileSegment> segments, Function<FileSegment, ItemStreamReader<T>> readerFactory) {
+        Assert.notNull(segments, "segments 는 필수 값입니다.");
+        Assert.notNull(readerFactory, "readerFactory 는 필수 값입니다.");
+        this.segments = segments;
+        this.readerFactory = readerFactory;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        current = executionContext.getInt(getExecutionContextKey(SEGMENT_INDEX_KEY), 0);
+        //재시작이라면 위임 Reader 가 저장된 자신의 위치를 복원한다.
+        openDelegate(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putInt(getExecutionContextKey(SEGMENT_INDEX_KEY), current);
+        if (delegate != null) {
+            delegate.update(executionContext);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (delegate != null) {
+            delegate.close();
+            delegate = null;
+        }
+    }
+
+    @Override
+    public T read() throws Exception {
+        while (delegate != null) {
+            T item = delegate.read();
+            if (item != null) {
+                return item;
+            }
+            delegate.close();
+            current++;
+            //다음 구간은 이전 구간의 위치를 이어받지 않도록 빈 ExecutionContext 로 연다.
+            openDelegate(new ExecutionContext());
+        }
+        return null;
+    }
+
+    private void openDelegate(ExecutionContext executionContext) {
+        if (current >= segments.size()) {
+            delegate = null;
+            return;
+        }
+        delegate = readerFactory.apply(segments.get(current));
+        delegate.open(executionContext);
+    }
+}
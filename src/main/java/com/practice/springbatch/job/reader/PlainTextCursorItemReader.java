@@ -0,0 +1,136 @@
+package com.practice.springbatch.job.reader;
+
+import com.practice.springbatch.core.domain.PlainText;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * plain_text 테이블을 하나의 JDBC cursor 로 스트리밍 조회하는 ItemReader
+ * <p>
+ * Step 실행 당 한 번만 쿼리하고, forward-only / read-only ResultSet 으로 행을 하나씩 가져온다.
+ * MySQL 에서는 fetchSize 를 Integer.MIN_VALUE 로 지정해 결과를 한 번에 메모리에 올리지 않고 스트리밍한다.
+ * 각 행은 영속성 컨텍스트에 올라가지 않는 PlainText 객체로 바로 매핑된다.
+ * <p>
+ * 마지막으로 읽은 id 를 ExecutionContext 에 저장하고, 재시작 시 그 id 보다 작은 행부터 다시 cursor 를 연다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PlainTextCursorItemReader extends ItemStreamSupport implements ItemStreamReader<PlainText> {
+
+    private static final String LAST_ID_KEY = "lastId";
+
+    //MySQL 이 아닌 DB 에서 사용할 fetchSize
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private static final RowMapper<PlainText> ROW_MAPPER =
+            (rs, rowNum) -> new PlainText(rs.getInt("id"), rs.getString("text"));
+
+    private final DataSource dataSource;
+
+    //읽을 id 범위 (null 이면 제한 없음, 양 끝 포함)
+    private Integer minId;
+    private Integer maxId;
+
+    //마지막으로 반환한 item 의 id
+    private Integer lastId;
+    private JdbcCursorItemReader<PlainText> cursor;
+
+    public PlainTextCursorItemReader(DataSource dataSource) {
+        Assert.notNull(dataSource, "DataSource 는 필수 값입니다.");
+        this.dataSource = dataSource;
+    }
+
+    public void setMinId(Integer minId) {
+        this.minId = minId;
+    }
+
+    public void setMaxId(Integer maxId) {
+        this.maxId = maxId;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String key = getExecutionContextKey(LAST_ID_KEY);
+        lastId = executionContext.containsKey(key) ? executionContext.getInt(key) : null;
+
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (lastId != null) {
+            conditions.add("id < ?");
+            args.add(lastId);
+        }
+        if (maxId != null) {
+            conditions.add("id <= ?");
+            args.add(maxId);
+        }
+        if (minId != null) {
+            conditions.add("id >= ?");
+            args.add(minId);
+        }
+
+        cursor = new JdbcCursorItemReader<>();
+        cursor.setDataSource(dataSource);
+        cursor.setSql("SELECT id, text FROM plain_text"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY id DESC");
+        cursor.setPreparedStatementSetter(new ArgumentPreparedStatementSetter(args.toArray()));
+        cursor.setRowMapper(ROW_MAPPER);
+        cursor.setFetchSize(resolveFetchSize());
+        //재시작 위치는 lastId 로 관리하므로 read.count 로 건너뛰지 않는다.
+        cursor.setSaveState(false);
+
+        try {
+            cursor.afterPropertiesSet();
+        } catch (Exception e) {
+            throw new ItemStreamException("cursor reader 초기화에 실패했습니다.", e);
+        }
+        cursor.open(new ExecutionContext());
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (lastId != null) {
+            executionContext.putInt(getExecutionContextKey(LAST_ID_KEY), lastId);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (cursor != null) {
+            cursor.close();
+            cursor = null;
+        }
+    }
+
+    @Override
+    public PlainText read() throws Exception {
+        PlainText item = cursor.read();
+        if (item != null) {
+            lastId = item.getId();
+        }
+        return item;
+    }
+
+    private int resolveFetchSize() {
+        try {
+            //MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때만 행 단위 스트리밍을 한다.
+            return DatabaseType.fromMetaData(dataSource) == DatabaseType.MYSQL
+                    ? Integer.MIN_VALUE
+                    : DEFAULT_FETCH_SIZE;
+        } catch (MetaDataAccessException e) {
+            return DEFAULT_FETCH_SIZE;
+        }
+    }
+}
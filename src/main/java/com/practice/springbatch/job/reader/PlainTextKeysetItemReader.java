@@ -0,0 +1,120 @@
+package com.practice.springbatch.job.reader;
+
+import com.practice.springbatch.core.domain.PlainText;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * plain_text 테이블을 id 기준 keyset(seek) 방식으로 페이징 조회하는 ItemReader
+ * <p>
+ * OFFSET 대신 마지막으로 읽은 id 를 조건으로 다음 페이지를 조회하므로(WHERE id &lt; :lastId ORDER BY id DESC LIMIT :n)
+ * 테이블의 어느 위치를 읽더라도 페이지 조회 시간이 일정하다.
+ * 마지막으로 읽은 id 는 ExecutionContext 에 저장되어 재시작 시 그 다음 id 부터 읽는다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PlainTextKeysetItemReader extends ItemStreamSupport implements ItemStreamReader<PlainText> {
+
+    private static final String LAST_ID_KEY = "lastId";
+
+    private static final RowMapper<PlainText> ROW_MAPPER =
+            (rs, rowNum) -> new PlainText(rs.getInt("id"), rs.getString("text"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int pageSize;
+
+    //읽을 id 범위 (null 이면 제한 없음, 양 끝 포함)
+    private Integer minId;
+    private Integer maxId;
+
+    //마지막으로 반환한 item 의 id
+    private Integer lastId;
+    private Iterator<PlainText> page = Collections.emptyIterator();
+    private boolean exhausted;
+
+    public PlainTextKeysetItemReader(DataSource dataSource, int pageSize) {
+        Assert.notNull(dataSource, "DataSource 는 필수 값입니다.");
+        Assert.isTrue(pageSize > 0, "pageSize 는 0보다 커야 합니다.");
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.pageSize = pageSize;
+    }
+
+    public void setMinId(Integer minId) {
+        this.minId = minId;
+    }
+
+    public void setMaxId(Integer maxId) {
+        this.maxId = maxId;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String key = getExecutionContextKey(LAST_ID_KEY);
+        lastId = executionContext.containsKey(key) ? executionContext.getInt(key) : null;
+        page = Collections.emptyIterator();
+        exhausted = false;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (lastId != null) {
+            executionContext.putInt(getExecutionContextKey(LAST_ID_KEY), lastId);
+        }
+    }
+
+    @Override
+    public PlainText read() {
+        if (!page.hasNext()) {
+            if (exhausted) {
+                return null;
+            }
+            List<PlainText> items = readPage();
+            //요청한 개수보다 적게 조회되었다면 마지막 페이지
+            exhausted = items.size() < pageSize;
+            page = items.iterator();
+            if (!page.hasNext()) {
+                return null;
+            }
+        }
+
+        PlainText item = page.next();
+        lastId = item.getId();
+        return item;
+    }
+
+    private List<PlainText> readPage() {
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource("pageSize", pageSize);
+
+        if (lastId != null) {
+            conditions.add("id < :lastId");
+            params.addValue("lastId", lastId);
+        }
+        if (maxId != null) {
+            conditions.add("id <= :maxId");
+            params.addValue("maxId", maxId);
+        }
+        if (minId != null) {
+            conditions.add("id >= :minId");
+            params.addValue("minId", minId);
+        }
+
+        String sql = "SELECT id, text FROM plain_text"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY id DESC LIMIT :pageSize";
+
+        return jdbcTemplate.query(sql, params, ROW_MAPPER);
+    }
+}
@@ -0,0 +1,188 @@
+package com.practice.springbatch.job.reader;
+
+import com.practice.springbatch.dto.PlayerSalaryDto;
+import com.practice.springbatch.job.file.ColumnarFile;
+import com.practice.springbatch.job.file.ColumnarFile.RowGroup;
+import com.practice.springbatch.job.file.PlayerSalaryColumn;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link com.practice.springbatch.job.writer.PlayerSalaryColumnarItemWriter} 가 쓴 columnar 파일을 읽는 ItemReader
+ * <ul>
+ *     <li>columns 를 지정하면 그 컬럼의 chunk 만 읽고 풀어서 채운다. (나머지 필드는 null / 0)</li>
+ *     <li>숫자 컬럼의 범위(range)를 지정하면 footer 의 min / max 로 범위에 맞지 않는 row group 은 읽지 않고 건너뛰고,
+ *     읽은 row group 에서도 범위에 맞는 row 만 반환한다.</li>
+ * </ul>
+ * ExecutionContext 에 읽고 있는 row group 번호와 그 안의 row 번호를 저장하므로 재시작하면 이어서 읽는다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PlayerSalaryColumnarItemReader extends ItemStreamSupport implements ItemStreamReader<PlayerSalaryDto> {
+
+    private static final String ROW_GROUP_KEY = "rowGroup";
+    private static final String ROW_KEY = "row";
+
+    private final Path path;
+
+    private Set<PlayerSalaryColumn> columns = EnumSet.allOf(PlayerSalaryColumn.class);
+    private final Map<PlayerSalaryColumn, int[]> ranges = new EnumMap<>(PlayerSalaryColumn.class);
+    private boolean saveState = true;
+
+    private FileChannel channel;
+    private List<RowGroup> rowGroups;
+    private int rowGroupIndex;
+    private int row;
+
+    //현재 row group 에서 풀어낸 컬럼 값 (아직 읽지 않았으면 null)
+    private Map<PlayerSalaryColumn, PlayerSalaryColumn.Values> values;
+
+    public PlayerSalaryColumnarItemReader(Path path) {
+        Assert.notNull(path, "path 는 필수 값입니다.");
+        this.path = path;
+    }
+
+    /**
+     * 읽을 컬럼 (기본 전체)
+     **/
+    public void setColumns(PlayerSalaryColumn... columns) {
+        Assert.notEmpty(columns, "columns 는 필수 값입니다.");
+        this.columns = EnumSet.of(columns[0], columns);
+    }
+
+    /**
+     * 숫자 컬럼의 값이 [from, to] 에 속하는 row 만 읽는다.
+     **/
+    public void addRange(PlayerSalaryColumn column, int from, int to) {
+        Assert.isTrue(column.isNumeric(), column + " 은 숫자 컬럼이 아닙니다.");
+        Assert.isTrue(from <= to, "from 은 to 보다 클 수 없습니다.");
+        ranges.put(column, new int[]{from, to});
+    }
+
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            rowGroups = ColumnarFile.readFooter(channel, path);
+        } catch (IOException e) {
+            throw new ItemStreamException("파일을 열 수 없습니다. path=" + path, e);
+        }
+
+        String rowGroupKey = getExecutionContextKey(ROW_GROUP_KEY);
+        if (saveState && executionContext.containsKey(rowGroupKey)) {
+            rowGroupIndex = executionContext.getInt(rowGroupKey);
+            row = executionContext.getInt(getExecutionContextKey(ROW_KEY));
+        } else {
+            rowGroupIndex = 0;
+            row = 0;
+        }
+        values = null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (saveState) {
+            executionContext.putInt(getExecutionContextKey(ROW_GROUP_KEY), rowGroupIndex);
+            executionContext.putInt(getExecutionContextKey(ROW_KEY), row);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new ItemStreamException("파일을 닫을 수 없습니다. path=" + path, e);
+        } finally {
+            channel = null;
+            values = null;
+        }
+    }
+
+    @Override
+    public synchronized PlayerSalaryDto read() throws IOException {
+        while (rowGroupIndex < rowGroups.size()) {
+            RowGroup rowGroup = rowGroups.get(rowGroupIndex);
+            if (values == null) {
+                if (!matches(rowGroup)) {
+                    //min / max 가 범위에 맞지 않는 row group 은 컬럼을 읽지 않는다.
+                    nextRowGroup();
+                    continue;
+                }
+                values = load(rowGroup);
+            }
+
+            while (row < rowGroup.getRowCount()) {
+                int current = row++;
+                if (accepts(current)) {
+                    PlayerSalaryDto item = new PlayerSalaryDto();
+                    for (PlayerSalaryColumn column : columns) {
+                        values.get(column).set(item, current);
+                    }
+                    return item;
+                }
+            }
+            nextRowGroup();
+        }
+        return null;
+    }
+
+    private void nextRowGroup() {
+        rowGroupIndex++;
+        row = 0;
+        values = null;
+    }
+
+    private boolean matches(RowGroup rowGroup) {
+        for (Map.Entry<PlayerSalaryColumn, int[]> range : ranges.entrySet()) {
+            if (!rowGroup.overlaps(range.getKey(), range.getValue()[0], range.getValue()[1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean accepts(int current) {
+        for (Map.Entry<PlayerSalaryColumn, int[]> range : ranges.entrySet()) {
+            int value = values.get(range.getKey()).intValue(current);
+            if (value < range.getValue()[0] || value > range.getValue()[1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 읽을 컬럼과 범위를 확인할 컬럼의 chunk 만 읽어서 푼다.
+     **/
+    private Map<PlayerSalaryColumn, PlayerSalaryColumn.Values> load(RowGroup rowGroup) throws IOException {
+        Set<PlayerSalaryColumn> needed = EnumSet.copyOf(columns);
+        needed.addAll(ranges.keySet());
+
+        Map<PlayerSalaryColumn, PlayerSalaryColumn.Values> loaded = new EnumMap<>(PlayerSalaryColumn.class);
+        for (PlayerSalaryColumn column : needed) {
+            loaded.put(column, column.decode(rowGroup.readColumn(channel, column, path), rowGroup.getRowCount()));
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,264 @@
+package com.practice.springbatch.job.reader;
+
+import com.practice.springbatch.job.file.SeekableSource;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * 다음에 읽을 줄의 byte offset 을 저장하고, 재시작 시 그 위치로 바로 이동하는 flat file ItemReader
+ * <p>
+ * FlatFileItemReader 는 재시작할 때 read.count 만큼 줄을 다시 읽어서 버리고 linesToSkip 도 다시 적용하므로
+ * 큰 파일의 뒷부분에서 실패하면 재시작에 파일 대부분을 다시 읽는 시간이 걸린다.
+ * 이 Reader 는 ExecutionContext 에 byte offset, 줄 번호, charset 을 저장하고 재시작 시 FileChannel 의 위치만 옮긴다.
+ * <ul>
+ *     <li>줄은 LF(\n) byte 로 나누고 줄 끝의 CR(\r) 은 제외한다. 빈 줄은 건너뛴다.</li>
+ *     <li>줄 경계에서만 offset 을 저장하므로 디코딩 상태가 남지 않는 charset 만 사용할 수 있다.
+ *     (UTF-8, EUC-KR, ISO-8859-1 등 \n 이 1 byte 인 charset. UTF-16, ISO-2022 계열은 지원하지 않는다.)</li>
+ *     <li>UTF-8 BOM 과 linesToSkip 은 처음 실행할 때만 건너뛴다.</li>
+ *     <li>저장된 charset 과 다른 charset 으로 재시작하면 실패한다.</li>
+ *     <li>gzip, BGZF 로 압축된 파일은 magic byte 로 판단해 압축을 풀며 읽는다. ({@link SeekableSource})
+ *     offset 은 형식에 맞는 값이 저장되고, BGZF 는 block 으로 바로 이동하지만 일반 gzip 은 처음부터 다시 풀어야 한다.</li>
+ * </ul>
+ * startOffset ~ endOffset 을 지정하면 그 구간의 줄만 읽는다. (두 값 모두 줄 경계여야 한다.)
+ * startOffset 이 0 보다 크면 BOM 과 linesToSkip 을 적용하지 않으며, 줄 번호는 startOffset 부터 센다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class SeekableFlatFileItemReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+    private static final String OFFSET_KEY = "offset";
+    private static final String LINE_NUMBER_KEY = "lineNumber";
+    private static final String CHARSET_KEY = "charset";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final Path path;
+    private final LineMapper<T> lineMapper;
+
+    private Charset charset = StandardCharsets.UTF_8;
+    private int linesToSkip = 0;
+    private boolean saveState = true;
+    private long startOffset = 0;
+    private long endOffset = Long.MAX_VALUE;
+
+    private SeekableSource source;
+    private ByteBuffer buffer;
+    //buffer 의 index 0 에 해당하는 offset
+    private long bufferOffset;
+    private byte[] lineBuffer = new byte[256];
+
+    //다음에 읽을 줄의 시작 offset 과 마지막으로 읽은 줄 번호
+    private long position;
+    private int lineNumber;
+
+    public SeekableFlatFileItemReader(Path path, LineMapper<T> lineMapper) {
+        Assert.notNull(path, "path 는 필수 값입니다.");
+        Assert.notNull(lineMapper, "lineMapper 는 필수 값입니다.");
+        this.path = path;
+        this.lineMapper = lineMapper;
+    }
+
+    public void setCharset(Charset charset) {
+        Assert.notNull(charset, "charset 은 필수 값입니다.");
+        Assert.isTrue(Arrays.equals("\n".getBytes(charset), new byte[]{LF}),
+                "줄바꿈이 1 byte(\\n) 인 charset 만 사용할 수 있습니다. charset=" + charset);
+        this.charset = charset;
+    }
+
+    public void setStartOffset(long startOffset) {
+        Assert.isTrue(startOffset >= 0, "startOffset 은 0 이상이어야 합니다.");
+        this.startOffset = startOffset;
+    }
+
+    public void setEndOffset(long endOffset) {
+        this.endOffset = endOffset;
+    }
+
+    public void setLinesToSkip(int linesToSkip) {
+        this.linesToSkip = linesToSkip;
+    }
+
+    /**
+     * 여러 쓰레드가 같은 Reader 를 공유할 때는 읽은 위치와 commit 된 위치가 다를 수 있으므로 false 로 지정한다.
+     **/
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            source = SeekableSource.open(path);
+            buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+            String offsetKey = getExecutionContextKey(OFFSET_KEY);
+            if (saveState && executionContext.containsKey(offsetKey)) {
+                restore(executionContext, executionContext.getLong(offsetKey));
+                return;
+            }
+
+            if (startOffset > 0) {
+                seek(startOffset, 0);
+                return;
+            }
+            seek(0, 0);
+            skipBom();
+            for (int i = 0; i < linesToSkip; i++) {
+                if (readLine() == null) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            close();
+            throw new ItemStreamException("파일을 열 수 없습니다. path=" + path, e);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (saveState) {
+            executionContext.putLong(getExecutionContextKey(OFFSET_KEY), position);
+            executionContext.putInt(getExecutionContextKey(LINE_NUMBER_KEY), lineNumber);
+            executionContext.putString(getExecutionContextKey(CHARSET_KEY), charset.name());
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        buffer = null;
+        if (source != null) {
+            try {
+                source.close();
+            } catch (IOException e) {
+                throw new ItemStreamException("파일을 닫을 수 없습니다. path=" + path, e);
+            } finally {
+                source = null;
+            }
+        }
+    }
+
+    @Override
+    public synchronized T read() throws Exception {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isEmpty());
+
+        try {
+            return lineMapper.mapLine(line, lineNumber);
+        } catch (FlatFileParseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FlatFileParseException(String.format("%d 번째 줄을 매핑할 수 없습니다. path=%s", lineNumber, path),
+                    e, line, lineNumber);
+        }
+    }
+
+    private void restore(ExecutionContext executionContext, long offset) throws IOException {
+        String savedCharset = executionContext.getString(getExecutionContextKey(CHARSET_KEY), charset.name());
+        if (!charset.name().equals(savedCharset)) {
+            throw new ItemStreamException(String.format("저장된 charset 과 다릅니다. saved=%s, current=%s",
+                    savedCharset, charset.name()));
+        }
+        seek(offset, executionContext.getInt(getExecutionContextKey(LINE_NUMBER_KEY), 0));
+    }
+
+    private void seek(long offset, int lineNumber) throws IOException {
+        source.seek(offset);
+        buffer.clear().flip(); //비어 있는 상태
+        this.position = offset;
+        this.lineNumber = lineNumber;
+    }
+
+    private void skipBom() throws IOException {
+        if (!StandardCharsets.UTF_8.equals(charset) || !fill() || buffer.remaining() < UTF8_BOM.length) {
+            return;
+        }
+        int start = buffer.position();
+        for (int i = 0; i < UTF8_BOM.length; i++) {
+            if (buffer.get(start + i) != UTF8_BOM[i]) {
+                return;
+            }
+        }
+        buffer.position(start + UTF8_BOM.length);
+        position += UTF8_BOM.length;
+    }
+
+    /**
+     * buffer 가 비어 있으면 다음 덩어리를 채운다. 더 읽을 데이터가 없으면 false 를 반환한다.
+     * <p>
+     * 덩어리를 새로 채우면 position 은 그 덩어리의 시작 offset 이 된다. (압축 형식에서는 연속되지 않을 수 있다.)
+     **/
+    private boolean fill() throws IOException {
+        while (!buffer.hasRemaining()) {
+            long offset = source.next(buffer);
+            if (offset < 0) {
+                return false;
+            }
+            bufferOffset = offset - buffer.position();
+            position = offset;
+        }
+        return true;
+    }
+
+    /**
+     * 다음 줄을 읽는다. 파일이 끝났으면 null 을 반환한다.
+     **/
+    private String readLine() throws IOException {
+        //덩어리 경계에서 끝난 줄이라면 다음 덩어리의 시작으로 position 을 옮긴 뒤 구간의 끝인지 확인한다.
+        if (!fill() || position >= endOffset) {
+            return null;
+        }
+        int length = 0;
+        while (fill()) {
+            byte[] array = buffer.array();
+            int start = buffer.position();
+            int end = buffer.limit();
+            int index = start;
+            while (index < end && array[index] != LF) {
+                index++;
+            }
+
+            int size = index - start;
+            if (lineBuffer.length < length + size) {
+                lineBuffer = Arrays.copyOf(lineBuffer, Math.max(length + size, lineBuffer.length * 2));
+            }
+            System.arraycopy(array, start, lineBuffer, length, size);
+            length += size;
+
+            if (index < end) {
+                //개행 문자까지 소비
+                buffer.position(index + 1);
+                position = bufferOffset + index + 1;
+                break;
+            }
+            buffer.position(end);
+            position = bufferOffset + end;
+        }
+
+        if (length > 0 && lineBuffer[length - 1] == CR) {
+            length--;
+        }
+        lineNumber++;
+        return new String(lineBuffer, 0, length, charset);
+    }
+}
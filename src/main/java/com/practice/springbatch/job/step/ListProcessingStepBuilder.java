@@ -0,0 +1,50 @@
+package com.practice.springbatch.job.step;
+
+import com.practice.springbatch.job.processor.ListItemChunkProcessor;
+import com.practice.springbatch.job.processor.ListItemProcessor;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.core.step.builder.StepBuilderHelper;
+import org.springframework.batch.core.step.item.ChunkOrientedTasklet;
+import org.springframework.batch.core.step.item.SimpleChunkProvider;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+
+/**
+ * ItemProcessor 대신 {@link ListItemProcessor} 로 chunk 를 한 번에 가공하는 chunk 기반 Step 의 Builder
+ * <p>
+ * SimpleStepBuilder 와 같이 reader, writer, chunk, listener 를 설정하고,
+ * Tasklet 을 만들 때 ChunkProcessor 만 {@link ListItemChunkProcessor} 로 바꾼다.
+ * processor 를 설정해도 사용되지 않는다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class ListProcessingStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
+
+    private final ListItemProcessor<I, O> listItemProcessor;
+
+    /**
+     * @param parent stepBuilderFactory.get(...) 으로 만든 {@link StepBuilderHelper}
+     * @param listItemProcessor chunk 를 한 번에 가공할 {@link ListItemProcessor}
+     **/
+    public ListProcessingStepBuilder(StepBuilderHelper<?> parent, ListItemProcessor<I, O> listItemProcessor) {
+        super(parent);
+        Assert.notNull(listItemProcessor, "listItemProcessor 는 필수 값입니다.");
+        this.listItemProcessor = listItemProcessor;
+    }
+
+    @Override
+    protected Tasklet createTasklet() {
+        Assert.state(getReader() != null, "ItemReader must be provided");
+        Assert.state(getWriter() != null, "ItemWriter must be provided");
+        SimpleChunkProvider<I> chunkProvider = new SimpleChunkProvider<>(getReader(), createChunkOperations());
+        ListItemChunkProcessor<I, O> chunkProcessor = new ListItemChunkProcessor<>(listItemProcessor, getWriter());
+        chunkProvider.setListeners(new ArrayList<>(getItemListeners()));
+        chunkProcessor.setListeners(new ArrayList<>(getItemListeners()));
+
+        ChunkOrientedTasklet<I> tasklet = new ChunkOrientedTasklet<>(chunkProvider, chunkProcessor);
+        tasklet.setBuffering(!isReaderTransactionalQueue());
+        return tasklet;
+    }
+}
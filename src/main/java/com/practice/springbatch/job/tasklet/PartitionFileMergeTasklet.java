@@ -0,0 +1,159 @@
+package com.practice.springbatch.job.tasklet;
+
+import com.practice.springbatch.job.partitioner.FileByteRangePartitioner;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
+/**
+ * 파티션 Worker Step 들이 파티션 별 파일에 나누어 쓴 결과를 파티션 번호 순서대로 하나의 파일로 합치는 Tasklet
+ * <p>
+ * 같은 JobInstance 에서 실행된 Worker Step 들의 ExecutionContext 에 있는 partitionIndex 로 합칠 파일을 정하므로
+ * 이 Step 만 재시작되어도 같은 파일들을 합친다. Worker Step 이 없었다면 (파티션 모드가 아니라면) 아무것도 하지 않는다.
+ * 이전 실행의 Worker Step 은 JobExplorer 로, 현재 실행의 Worker Step 은 현재 JobExecution 에서 찾는다.
+ * (EphemeralJobRepository 는 Job 이 끝날 때까지 현재 실행의 StepExecution 을 저장하지 않는다.)
+ * <ul>
+ *     <li>파티션 파일은 내용을 해석하지 않고 byte 그대로 이어 붙인다. (BGZF / gzip 파일도 이어 붙이면 하나의 파일이 된다.)</li>
+ *     <li>임시 파일에 모두 쓴 뒤 target 으로 옮기고, 그 다음에 파티션 파일을 지운다.</li>
+ *     <li>파티션 파일이 모두 없고 target 이 있다면 이미 합쳐진 것으로 본다.</li>
+ * </ul>
+ * 합친 파일 수와 byte 수를 Step ExecutionContext 의 partitionFileMerge.files / partitionFileMerge.bytes 에 기록한다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PartitionFileMergeTasklet implements Tasklet {
+
+    public static final String FILES_KEY = "partitionFileMerge.files";
+    public static final String BYTES_KEY = "partitionFileMerge.bytes";
+
+    private static final String MERGING_SUFFIX = ".merging";
+
+    private final JobExplorer jobExplorer;
+    private final Path target;
+    private final IntFunction<Path> partitionPath;
+    private final Set<String> workerStepNames;
+
+    /**
+     * @param jobExplorer 이전 실행의 Worker Step 을 찾기 위한 {@link JobExplorer}
+     * @param target 합친 결과 파일
+     * @param partitionPath 파티션 번호로 파티션 파일의 경로를 만드는 함수
+     * @param workerStepNames 파티션 파일을 쓰는 Worker Step 이름
+     **/
+    public PartitionFileMergeTasklet(JobExplorer jobExplorer, Path target, IntFunction<Path> partitionPath, String... workerStepNames) {
+        Assert.notNull(jobExplorer, "jobExplorer 는 필수 값입니다.");
+        Assert.notNull(target, "target 은 필수 값입니다.");
+        Assert.notNull(partitionPath, "partitionPath 는 필수 값입니다.");
+        Assert.notEmpty(workerStepNames, "workerStepNames 는 필수 값입니다.");
+        this.jobExplorer = jobExplorer;
+        this.target = target;
+        this.partitionPath = partitionPath;
+        this.workerStepNames = new HashSet<>(Arrays.asList(workerStepNames));
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        SortedSet<Integer> partitionIndexes = partitionIndexes(stepExecution.getJobExecution());
+        if (partitionIndexes.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        List<Path> parts = new ArrayList<>();
+        for (int partitionIndex : partitionIndexes) {
+            parts.add(partitionPath.apply(partitionIndex));
+        }
+        if (Files.exists(target) && parts.stream().noneMatch(Files::exists)) {
+            //이전 실행에서 합치고 파티션 파일을 지운 뒤 Step 을 끝내지 못한 경우
+            return RepeatStatus.FINISHED;
+        }
+
+        long bytes = merge(parts);
+        for (Path part : parts) {
+            Files.deleteIfExists(part);
+        }
+
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        executionContext.putInt(FILES_KEY, parts.size());
+        executionContext.putLong(BYTES_KEY, bytes);
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 파티션 파일들을 임시 파일에 차례로 이어 쓰고 target 으로 옮긴다.
+     **/
+    private long merge(List<Path> parts) throws IOException {
+        Path merging = Paths.get(target + MERGING_SUFFIX);
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+
+        long bytes = 0;
+        try (FileChannel out = FileChannel.open(merging, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Path part : parts) {
+                if (!Files.exists(part)) {
+                    throw new IllegalStateException("파티션 파일이 없습니다. path=" + part);
+                }
+                try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                    long size = in.size();
+                    for (long position = 0; position < size; ) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                    bytes += size;
+                }
+            }
+            out.force(false);
+        }
+        Files.move(merging, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return bytes;
+    }
+
+    /**
+     * 같은 JobInstance 의 모든 실행에서 Worker Step 들이 처리한 파티션 번호
+     **/
+    private SortedSet<Integer> partitionIndexes(JobExecution jobExecution) {
+        SortedSet<Integer> partitionIndexes = new TreeSet<>();
+        for (JobExecution execution : jobExplorer.getJobExecutions(jobExecution.getJobInstance())) {
+            if (!execution.getId().equals(jobExecution.getId())) {
+                addPartitionIndexes(execution, partitionIndexes);
+            }
+        }
+        //현재 실행의 Worker Step 은 아직 저장되지 않았을 수 있으므로 메모리의 JobExecution 에서 찾는다.
+        addPartitionIndexes(jobExecution, partitionIndexes);
+        return partitionIndexes;
+    }
+
+    private void addPartitionIndexes(JobExecution jobExecution, SortedSet<Integer> partitionIndexes) {
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            String stepName = stepExecution.getStepName();
+            int separator = stepName.indexOf(':');
+            ExecutionContext executionContext = stepExecution.getExecutionContext();
+            if (separator > 0 && workerStepNames.contains(stepName.substring(0, separator))
+                    && executionContext.containsKey(FileByteRangePartitioner.PARTITION_INDEX_KEY)) {
+                partitionIndexes.add(executionContext.getInt(FileByteRangePartitioner.PARTITION_INDEX_KEY));
+            }
+        }
+    }
+}
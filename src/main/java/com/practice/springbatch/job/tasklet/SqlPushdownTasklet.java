@@ -0,0 +1,131 @@
+package com.practice.springbatch.job.tasklet;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 - 변환 - 쓰기를 DB 안에서 INSERT ... SELECT 로 처리하는 Tasklet
+ * <p>
+ * 변환을 SQL 로 표현할 수 있는 Step 은 행을 애플리케이션으로 읽어와 다시 insert 할 필요가 없다.
+ * 이 Tasklet 은 id 구간을 rangeSize 단위로 나누어 구간 마다 insertSelectSql 을 한 번 실행하고
+ * {@link RepeatStatus#CONTINUABLE} 을 돌려주므로, 구간 하나가 한 transaction(commit) 이 된다.
+ * <ul>
+ *     <li>insertSelectSql 은 id 구간의 시작과 끝(양 끝 포함)을 순서대로 받는 ? 두 개를 가져야 한다.</li>
+ *     <li>구간은 큰 id 부터 처리한다. (PlainTextKeysetItemReader 와 같은 id DESC 순서)</li>
+ *     <li>빈 구간을 건너뛰도록 다음 구간의 끝은 남은 id 중 MAX 로 정한다.</li>
+ *     <li>insert 된 행 수를 read / write count 에 더한다. (순수 변환이므로 filter 되는 행은 없다.)</li>
+ *     <li>마지막으로 처리한 구간의 시작 id 를 Step ExecutionContext 의 {name}.lastId 에 저장하므로
+ *     재시작하면 그 아래 구간부터 이어서 처리한다.</li>
+ * </ul>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class SqlPushdownTasklet implements Tasklet {
+
+    private static final String LAST_ID_KEY = "lastId";
+    private static final int DEFAULT_RANGE_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String idColumn;
+    private final String insertSelectSql;
+
+    private String name = SqlPushdownTasklet.class.getSimpleName();
+    private int rangeSize = DEFAULT_RANGE_SIZE;
+
+    //처리할 id 구간 (null 이면 제한 없음, 양 끝 포함)
+    private Integer minId;
+    private Integer maxId;
+
+    public SqlPushdownTasklet(DataSource dataSource, String table, String idColumn, String insertSelectSql) {
+        Assert.notNull(dataSource, "DataSource 는 필수 값입니다.");
+        Assert.hasText(table, "table 은 필수 값입니다.");
+        Assert.hasText(idColumn, "idColumn 은 필수 값입니다.");
+        Assert.hasText(insertSelectSql, "insertSelectSql 은 필수 값입니다.");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.table = table;
+        this.idColumn = idColumn;
+        this.insertSelectSql = insertSelectSql;
+    }
+
+    public void setName(String name) {
+        Assert.hasText(name, "name 은 필수 값입니다.");
+        this.name = name;
+    }
+
+    public void setRangeSize(int rangeSize) {
+        Assert.isTrue(rangeSize > 0, "rangeSize 는 1 이상이어야 합니다.");
+        this.rangeSize = rangeSize;
+    }
+
+    public void setMinId(Integer minId) {
+        this.minId = minId;
+    }
+
+    public void setMaxId(Integer maxId) {
+        this.maxId = maxId;
+    }
+
+    /**
+     * 남은 id 중 가장 큰 구간 하나를 INSERT ... SELECT 로 처리한다.
+     * @param contribution {@link StepContribution}
+     * @param chunkContext {@link ChunkContext}
+     * @return 처리할 구간이 남아 있으면 CONTINUABLE, 없으면 FINISHED
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        String lastIdKey = name + "." + LAST_ID_KEY;
+
+        //재시작이라면 이전 실행이 마지막으로 처리한 구간의 아래부터 이어서 처리한다.
+        Integer upper = maxId;
+        if (executionContext.containsKey(lastIdKey)) {
+            upper = executionContext.getInt(lastIdKey) - 1;
+        }
+        if (minId != null && upper != null && upper < minId) {
+            return RepeatStatus.FINISHED;
+        }
+
+        Integer end = nextEnd(upper);
+        if (end == null) {
+            return RepeatStatus.FINISHED;
+        }
+        //overflow 를 피하기 위해 long 으로 계산
+        int start = (int) Math.max((long) end - rangeSize + 1, minId == null ? Integer.MIN_VALUE : minId);
+
+        int rows = jdbcTemplate.update(insertSelectSql, start, end);
+
+        //StepContribution 은 read count 를 한 건씩만 올릴 수 있다.
+        for (int i = 0; i < rows; i++) {
+            contribution.incrementReadCount();
+        }
+        contribution.incrementWriteCount(rows);
+
+        //Step ExecutionContext 는 이 구간의 insert 와 함께 commit 된다.
+        //(metadata DataSource 를 분리했다면 insert 가 commit 된 뒤에 metadata 가 commit 된다. BatchRepositoryConfig 참고)
+        executionContext.putInt(lastIdKey, start);
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    //upper 이하에서 남아 있는 가장 큰 id
+    private Integer nextEnd(Integer upper) {
+        StringBuilder sql = new StringBuilder("SELECT MAX(").append(idColumn).append(") FROM ").append(table)
+                .append(" WHERE 1 = 1");
+        if (minId != null) {
+            sql.append(" AND ").append(idColumn).append(" >= ").append(minId);
+        }
+        if (upper != null) {
+            sql.append(" AND ").append(idColumn).append(" <= ").append(upper);
+        }
+        return jdbcTemplate.queryForObject(sql.toString(), Integer.class);
+    }
+}
@@ -0,0 +1,335 @@
+package com.practice.springbatch.job.writer;
+
+import com.practice.springbatch.job.file.BlockGzip;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.batch.item.WriteFailedException;
+import org.springframework.batch.item.file.transform.LineAggregator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+
+/**
+ * 여러 쓰레드의 chunk 를 하나의 전용 쓰레드가 파일에 쓰는 ItemWriter
+ * <p>
+ * chunk 를 처리하는 쓰레드는 item 들을 byte 로 만들어 두었다가 chunk 를 commit 하기 직전에
+ * 크기가 정해진 queue 에 넣고, 파일에 쓰여질 때까지 기다린다. queue 가 가득 차면 넣는 쪽이 기다린다. (backpressure)
+ * 전용 쓰레드는 queue 에 쌓인 여러 chunk 를 한 번의 gathering write 로 파일에 쓴다.
+ * chunk 가 rollback 되면 쌓아둔 byte 는 버려지므로 commit 된 chunk 만 파일에 남는다.
+ * <p>
+ * queue 깊이와 쓰기 처리량은 ExecutionContext 에 기록된다.
+ * 여러 쓰레드가 공유할 때는 쓰기 순서와 commit 순서가 다를 수 있으므로 saveState 를 false 로 지정한다.
+ * <p>
+ * compressed 를 지정하면 chunk 를 처리하는 쓰레드에서 BGZF block 으로 압축해 두므로({@link BlockGzip})
+ * 압축은 chunk 쓰레드 수만큼 병렬로 진행되고, 파일은 block 단위로 이어 붙여져 재시작 위치도 block 경계가 된다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class AsyncFileItemWriter<T> extends ItemStreamSupport implements ItemStreamWriter<T> {
+
+    private static final String POSITION_KEY = "position";
+    public static final String BYTES_WRITTEN_KEY = "asyncWriter.bytesWritten";
+    public static final String WRITE_CALLS_KEY = "asyncWriter.writeCalls";
+    public static final String MAX_QUEUE_DEPTH_KEY = "asyncWriter.maxQueueDepth";
+    public static final String QUEUE_WAIT_MILLIS_KEY = "asyncWriter.queueWaitMillis";
+    public static final String BYTES_PER_SECOND_KEY = "asyncWriter.bytesPerSecond";
+
+    //쓰기 쓰레드를 종료시키기 위한 요청
+    private static final WriteRequest SHUTDOWN = new WriteRequest(new ByteBuffer[0]);
+
+    private final Path path;
+    private final LineAggregator<T> lineAggregator;
+
+    private Charset charset = StandardCharsets.UTF_8;
+    private String lineSeparator = System.lineSeparator();
+    private int queueCapacity = 64;
+    private int maxGather = 64;
+    private boolean saveState = true;
+    private boolean compressed;
+    private boolean append;
+
+    private BlockingQueue<WriteRequest> queue;
+    private FileChannel channel;
+    private Thread writerThread;
+
+    //파일에 쓰여진 마지막 위치 (전용 쓰레드만 변경)
+    private volatile long flushedPosition;
+
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+    private final AtomicLong writeCalls = new AtomicLong();
+    private final AtomicLong queueWaitNanos = new AtomicLong();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    public AsyncFileItemWriter(Path path, LineAggregator<T> lineAggregator) {
+        Assert.notNull(path, "path 는 필수 값입니다.");
+        Assert.notNull(lineAggregator, "lineAggregator 는 필수 값입니다.");
+        this.path = path;
+        this.lineAggregator = lineAggregator;
+    }
+
+    public void setCharset(Charset charset) {
+        this.charset = charset;
+    }
+
+    public void setLineSeparator(String lineSeparator) {
+        this.lineSeparator = lineSeparator;
+    }
+
+    /**
+     * commit 을 기다리는 chunk 를 담아둘 queue 의 크기 (기본 64)
+     **/
+    public void setQueueCapacity(int queueCapacity) {
+        Assert.isTrue(queueCapacity > 0, "queueCapacity 는 0보다 커야 합니다.");
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 한 번의 gathering write 로 쓸 chunk 의 최대 개수 (기본 64)
+     **/
+    public void setMaxGather(int maxGather) {
+        Assert.isTrue(maxGather > 0, "maxGather 는 0보다 커야 합니다.");
+        this.maxGather = maxGather;
+    }
+
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
+    /**
+     * chunk 마다 BGZF block 으로 압축해서 쓴다. (기본 false)
+     **/
+    public void setCompressed(boolean compressed) {
+        this.compressed = compressed;
+    }
+
+    /**
+     * 처음 실행할 때 기존 파일을 덮어쓰지 않고 뒤에 이어서 쓴다. (기본 false)
+     **/
+    public void setAppend(boolean append) {
+        this.append = append;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String key = getExecutionContextKey(POSITION_KEY);
+        boolean restart = saveState && executionContext.containsKey(key);
+
+        long position;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            //재시작이라면 마지막으로 commit 된 위치 이후를 버리고, 아니라면 기존 파일을 덮어쓰거나 뒤에 이어서 쓴다.
+            position = restart ? executionContext.getLong(key) : append ? channel.size() : 0;
+            channel.truncate(position);
+            channel.position(position);
+        } catch (IOException e) {
+            throw new ItemStreamException("파일을 열 수 없습니다. path=" + path, e);
+        }
+
+        flushedPosition = position;
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        writerThread = new Thread(this::drain, "async-file-writer-" + path.getFileName());
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (saveState) {
+            //update 는 commit 직전에 호출되므로 현재 transaction 에서 쓸 byte 까지 포함한 위치를 저장한다.
+            executionContext.putLong(getExecutionContextKey(POSITION_KEY), flushedPosition + pendingBytes());
+        }
+
+        long nanos = writeNanos.get();
+        executionContext.putLong(BYTES_WRITTEN_KEY, bytesWritten.get());
+        executionContext.putLong(WRITE_CALLS_KEY, writeCalls.get());
+        executionContext.putInt(MAX_QUEUE_DEPTH_KEY, maxQueueDepth.get());
+        executionContext.putLong(QUEUE_WAIT_MILLIS_KEY, queueWaitNanos.get() / 1_000_000);
+        executionContext.putLong(BYTES_PER_SECOND_KEY, nanos == 0 ? 0 : bytesWritten.get() * 1_000_000_000 / nanos);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (writerThread == null) {
+            return;
+        }
+
+        try {
+            queue.put(SHUTDOWN);
+            writerThread.join();
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItemStreamException("쓰기 쓰레드 종료를 기다리는 중 interrupt 되었습니다.", e);
+        } catch (IOException e) {
+            throw new ItemStreamException("파일을 닫을 수 없습니다. path=" + path, e);
+        } finally {
+            writerThread = null;
+            channel = null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(List<? extends T> items) throws Exception {
+        StringBuilder lines = new StringBuilder();
+        //LineAppender 라면 item 마다 String 을 만들지 않고 chunk 의 StringBuilder 에 바로 붙인다.
+        LineAppender<T> appender = lineAggregator instanceof LineAppender ? (LineAppender<T>) lineAggregator : null;
+        for (T item : items) {
+            if (appender != null) {
+                appender.append(item, lines);
+            } else {
+                lines.append(lineAggregator.aggregate(item));
+            }
+            lines.append(lineSeparator);
+        }
+        byte[] data = lines.toString().getBytes(charset);
+        ByteBuffer[] bytes = compressed ? BlockGzip.compress(data, Deflater.DEFAULT_COMPRESSION)
+                : new ByteBuffer[]{ByteBuffer.wrap(data)};
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            flush(bytes);
+            return;
+        }
+
+        //commit 직전에 한 번에 쓰도록 현재 transaction 에 모아둔다.
+        PendingChunk pending = (PendingChunk) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChunk();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        for (ByteBuffer buffer : bytes) {
+            pending.buffers.add(buffer);
+            pending.size += buffer.remaining();
+        }
+    }
+
+    private long pendingBytes() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return 0;
+        }
+        PendingChunk pending = (PendingChunk) TransactionSynchronizationManager.getResource(this);
+        return pending == null ? 0 : pending.size;
+    }
+
+    /**
+     * queue 에 넣고 파일에 쓰여질 때까지 기다린다.
+     **/
+    private void flush(ByteBuffer[] buffers) {
+        WriteRequest request = new WriteRequest(buffers);
+        try {
+            long start = System.nanoTime();
+            queue.put(request);
+            queueWaitNanos.addAndGet(System.nanoTime() - start);
+            maxQueueDepth.accumulateAndGet(queue.size(), Math::max);
+
+            request.done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WriteFailedException("파일 쓰기를 기다리는 중 interrupt 되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new WriteFailedException("파일에 쓸 수 없습니다. path=" + path, e.getCause());
+        }
+    }
+
+    /**
+     * 전용 쓰레드에서 queue 에 쌓인 요청을 모아 한 번에 파일에 쓴다.
+     **/
+    private void drain() {
+        List<WriteRequest> requests = new ArrayList<>(maxGather);
+        boolean running = true;
+
+        while (running) {
+            try {
+                requests.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(requests, maxGather - 1);
+            running = !requests.remove(SHUTDOWN);
+
+            List<ByteBuffer> buffers = new ArrayList<>();
+            for (WriteRequest request : requests) {
+                buffers.addAll(List.of(request.buffers));
+            }
+
+            try {
+                if (!buffers.isEmpty()) {
+                    flushedPosition += writeFully(buffers.toArray(new ByteBuffer[0]));
+                }
+                requests.forEach(request -> request.done.complete(null));
+            } catch (IOException e) {
+                requests.forEach(request -> request.done.completeExceptionally(e));
+            }
+            requests.clear();
+        }
+    }
+
+    private long writeFully(ByteBuffer[] buffers) throws IOException {
+        long start = System.nanoTime();
+        long written = 0;
+        int first = 0;
+        while (first < buffers.length) {
+            written += channel.write(buffers, first, buffers.length - first);
+            while (first < buffers.length && !buffers[first].hasRemaining()) {
+                first++;
+            }
+        }
+        writeNanos.addAndGet(System.nanoTime() - start);
+        bytesWritten.addAndGet(written);
+        writeCalls.incrementAndGet();
+        return written;
+    }
+
+    private static class WriteRequest {
+        private final ByteBuffer[] buffers;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        WriteRequest(ByteBuffer[] buffers) {
+            this.buffers = buffers;
+        }
+    }
+
+    /**
+     * 하나의 transaction(chunk) 에서 쓴 byte 를 모아두었다가 commit 직전에 파일에 쓴다.
+     **/
+    private class PendingChunk implements TransactionSynchronization {
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+        private long size;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flush(buffers.toArray(new ByteBuffer[0]));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(AsyncFileItemWriter.this);
+        }
+    }
+}
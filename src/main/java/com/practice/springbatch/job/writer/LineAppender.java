@@ -0,0 +1,15 @@
+package com.practice.springbatch.job.writer;
+
+/**
+ * item 하나를 한 줄의 문자열로 만들어 주어진 StringBuilder 에 바로 붙이는 인터페이스
+ * <p>
+ * {@link org.springframework.batch.item.file.transform.LineAggregator} 는 item 마다 String 을 만들어 돌려주지만,
+ * 이 인터페이스를 구현하면 Writer 가 chunk 전체를 하나의 StringBuilder 에 이어서 만들 수 있다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@FunctionalInterface
+public interface LineAppender<T> {
+
+    void append(T item, StringBuilder out);
+}
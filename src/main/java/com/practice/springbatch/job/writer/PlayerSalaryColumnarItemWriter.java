@@ -0,0 +1,380 @@
+package com.practice.springbatch.job.writer;
+
+import com.practice.springbatch.dto.PlayerSalaryDto;
+import com.practice.springbatch.job.file.ColumnarFile;
+import com.practice.springbatch.job.file.ColumnarFile.RowGroup;
+import com.practice.springbatch.job.file.PlayerSalaryColumn;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PlayerSalaryDto 를 컬럼 단위의 binary 파일({@link ColumnarFile})로 쓰는 ItemWriter
+ * <p>
+ * item 을 rowGroupSize 개씩 모아 row group 으로 쓰고, 닫을 때 남은 item 과 row group 목록(footer)을 파일 끝에 쓴다.
+ * 컬럼 마다 인코딩({@link PlayerSalaryColumn})을 달리하고 숫자 컬럼의 min / max 를 남기므로
+ * 텍스트보다 파일이 작고, Reader 는 필요한 컬럼과 row group 만 읽을 수 있다.
+ * <p>
+ * saveState 가 true 라면 commit 마다 마지막 row group 의 끝 위치와, 아직 row group 으로 쓰지 않은 item 수를 저장한다.
+ * row group 을 commit 마다 끊지 않도록 그 item 들은 결과 파일 옆의 journal 파일(.pending0 / .pending1)에 이어 쓴다.
+ * <ul>
+ *     <li>row group 을 쓰고 나면 다음 commit 에서 다른 journal 에 남은 item 을 처음부터 쓴다.
+ *     commit 된 ExecutionContext 가 가리키는 journal 은 덮어쓰지 않는다.</li>
+ *     <li>재시작하면 저장된 위치 이후를 버리고 row group header 를 따라가며 목록을 다시 만든 뒤, journal 의 item 을 다시 모아둔다.</li>
+ *     <li>close 는 남은 item 을 row group 으로 쓴 뒤 journal 을 지운다. 이때 commit 된 item 들은 저장된 위치의
+ *     row group 앞부분에 있으므로, journal 이 없으면 그 row group 에서 item 을 다시 읽는다.</li>
+ * </ul>
+ * 그래서 마지막 row group 을 제외한 row group 은 chunk 크기와 상관 없이 rowGroupSize 개의 item 을 담는다.
+ * <p>
+ * transaction 안에서 쓰면 처음 쓰기 전의 상태를 남겨두었다가 chunk 가 rollback 되면 되돌린다.
+ * 그 chunk 의 item 과 그 사이에 쓴 row group 은 버려지므로 retry / skip 으로 다시 쓰는 chunk 가 두 번 쓰이지 않는다.
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PlayerSalaryColumnarItemWriter extends ItemStreamSupport implements ItemStreamWriter<PlayerSalaryDto> {
+
+    private static final String POSITION_KEY = "position";
+    private static final String PENDING_KEY = "pending";
+    private static final String JOURNAL_KEY = "journal";
+    private static final String JOURNAL_POSITION_KEY = "journal.position";
+
+    private static final String JOURNAL_SUFFIX = ".pending";
+
+    private final Path path;
+    private final Path[] journalPaths;
+
+    private int rowGroupSize = 10_000;
+    private boolean append;
+    private boolean saveState = true;
+
+    private FileChannel channel;
+    private long position;
+    //디스크에 반영(force)한 row group 의 끝 위치
+    private long forcedPosition;
+    private final List<RowGroup> rowGroups = new ArrayList<>();
+    private final List<PlayerSalaryDto> rows = new ArrayList<>();
+
+    private FileChannel journal;
+    private int journalIndex;
+    private long journalPosition;
+    //rows 의 앞에서부터 journal 에 쓴 item 수
+    private int journaled;
+    //journal 에 쓴 item 이 row group 으로 쓰여서, 다음 commit 에서 다른 journal 로 바꿔야 하는지 여부
+    private boolean journalStale;
+
+    public PlayerSalaryColumnarItemWriter(Path path) {
+        Assert.notNull(path, "path 는 필수 값입니다.");
+        this.path = path;
+        this.journalPaths = new Path[]{Paths.get(path + JOURNAL_SUFFIX + 0), Paths.get(path + JOURNAL_SUFFIX + 1)};
+    }
+
+    /**
+     * row group 하나에 담을 최대 item 수 (기본 10,000)
+     **/
+    public void setRowGroupSize(int rowGroupSize) {
+        Assert.isTrue(rowGroupSize > 0, "rowGroupSize 는 0보다 커야 합니다.");
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    /**
+     * 처음 실행할 때 기존 파일을 덮어쓰지 않고 row group 을 뒤에 이어서 쓴다. (기본 false)
+     **/
+    public void setAppend(boolean append) {
+        this.append = append;
+    }
+
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String key = getExecutionContextKey(POSITION_KEY);
+        rowGroups.clear();
+        rows.clear();
+        journal = null;
+        journalIndex = 0;
+        journalPosition = 0;
+        journaled = 0;
+        journalStale = false;
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            if (saveState && executionContext.containsKey(key)) {
+                //재시작이라면 마지막으로 commit 된 row group 까지만 남기고, 아직 row group 으로 쓰지 않은 item 을 다시 모은다.
+                position = executionContext.getLong(key);
+                rowGroups.addAll(ColumnarFile.scan(channel, position, path));
+                restorePending(executionContext);
+            } else {
+                deleteJournals();
+                if (append && channel.size() > 0) {
+                    //기존 footer 를 읽고, footer 자리부터 row group 을 이어서 쓴다.
+                    rowGroups.addAll(ColumnarFile.readFooter(channel, path));
+                    position = rowGroups.isEmpty() ? ColumnarFile.magic().remaining()
+                            : rowGroups.get(rowGroups.size() - 1).end();
+                } else {
+                    position = 0;
+                }
+            }
+
+            channel.truncate(position);
+            if (position == 0) {
+                position = writeBuffers(channel, position, ColumnarFile.magic());
+            }
+            forcedPosition = position;
+        } catch (IOException e) {
+            throw new ItemStreamException("파일을 열 수 없습니다. path=" + path, e);
+        }
+    }
+
+    /**
+     * commit 되었지만 row group 으로 쓰지 않은 item 들을 journal 에서, journal 이 없으면 position 의 row group 에서 읽는다.
+     **/
+    private void restorePending(ExecutionContext executionContext) throws IOException {
+        int pending = executionContext.getInt(getExecutionContextKey(PENDING_KEY), 0);
+        if (pending == 0) {
+            deleteJournals();
+            return;
+        }
+
+        journalIndex = executionContext.getInt(getExecutionContextKey(JOURNAL_KEY));
+        Path journalPath = journalPaths[journalIndex];
+        if (Files.exists(journalPath)) {
+            journalPosition = executionContext.getLong(getExecutionContextKey(JOURNAL_POSITION_KEY));
+            journal = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            journal.truncate(journalPosition);
+            for (RowGroup rowGroup : ColumnarFile.scan(journal, 0, journalPosition, journalPath)) {
+                rows.addAll(rowGroup.readRows(journal, journalPath));
+            }
+            journaled = rows.size();
+        } else if (channel.size() > position) {
+            //이전 실행이 close 되면서 journal 의 item 들을 position 의 row group 앞부분에 쓰고 journal 을 지웠다.
+            List<PlayerSalaryDto> written = ColumnarFile.readRowGroup(channel, position, path).readRows(channel, path);
+            rows.addAll(written.subList(0, Math.min(pending, written.size())));
+            //commit 된 ExecutionContext 가 가리키는 journal 자리는 쓰지 않는다.
+            journalStale = true;
+        }
+
+        if (rows.size() != pending) {
+            throw new ItemStreamException(String.format("commit 된 item 을 다시 읽을 수 없습니다. path=%s, pending=%d, restored=%d",
+                    path, pending, rows.size()));
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (saveState) {
+            //update 는 commit 직전에 호출되므로 모아둔 item 을 journal 에 써야 commit 된 item 을 재시작할 때 다시 읽을 수 있다.
+            try {
+                writeJournal();
+            } catch (IOException e) {
+                throw new ItemStreamException("journal 을 쓸 수 없습니다. path=" + journalPaths[journalIndex], e);
+            }
+            try {
+                //저장할 position 까지의 row group 이 crash 뒤에도 남아 있어야 재시작할 때 row group 목록을 다시 만들 수 있다.
+                if (position != forcedPosition) {
+                    channel.force(false);
+                    forcedPosition = position;
+                }
+            } catch (IOException e) {
+                throw new ItemStreamException("파일을 디스크에 반영할 수 없습니다. path=" + path, e);
+            }
+            executionContext.putLong(getExecutionContextKey(POSITION_KEY), position);
+            executionContext.putInt(getExecutionContextKey(PENDING_KEY), rows.size());
+            executionContext.putInt(getExecutionContextKey(JOURNAL_KEY), journalIndex);
+            executionContext.putLong(getExecutionContextKey(JOURNAL_POSITION_KEY), journalPosition);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            flush(rows.size());
+            writeBuffers(channel, position, ColumnarFile.footer(rowGroups));
+            channel.close();
+            //journal 의 item 들은 방금 쓴 row group 에 들어 있다.
+            closeJournal();
+            deleteJournals();
+        } catch (IOException e) {
+            throw new ItemStreamException("파일을 닫을 수 없습니다. path=" + path, e);
+        } finally {
+            channel = null;
+        }
+    }
+
+    @Override
+    public void write(List<? extends PlayerSalaryDto> items) throws Exception {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.getResource(this) == null) {
+            //chunk 가 rollback 되면 되돌릴 수 있도록 현재 transaction 에서 처음 쓰기 전의 상태를 남긴다.
+            Checkpoint checkpoint = new Checkpoint();
+            TransactionSynchronizationManager.bindResource(this, checkpoint);
+            TransactionSynchronizationManager.registerSynchronization(checkpoint);
+        }
+        rows.addAll(items);
+        while (rows.size() >= rowGroupSize) {
+            flush(rowGroupSize);
+        }
+    }
+
+    /**
+     * 모아둔 item 중 앞의 count 개를 row group 으로 쓴다.
+     **/
+    private void flush(int count) {
+        if (count == 0) {
+            return;
+        }
+        List<PlayerSalaryDto> group = rows.subList(0, count);
+        long offset = position;
+        try {
+            RowGroup rowGroup = writeRowGroup(channel, offset, group);
+            position = rowGroup.end();
+            rowGroups.add(rowGroup);
+        } catch (IOException e) {
+            throw new ItemStreamException("row group 을 쓸 수 없습니다. path=" + path, e);
+        }
+        group.clear();
+        if (journaled > 0) {
+            journaled = Math.max(0, journaled - count);
+            journalStale = true;
+        }
+    }
+
+    /**
+     * 마지막 update 이후에 모은 item 을 journal 에 row group 으로 이어 쓴다.
+     **/
+    private void writeJournal() throws IOException {
+        if (journalStale) {
+            //commit 된 ExecutionContext 가 가리키는 journal 은 그대로 두고, 다른 journal 에 남은 item 을 처음부터 쓴다.
+            closeJournal();
+            journalIndex = 1 - journalIndex;
+            journalPosition = 0;
+            journaled = 0;
+            journalStale = false;
+        }
+        if (journaled == rows.size()) {
+            return;
+        }
+        if (journal == null) {
+            journal = FileChannel.open(journalPaths[journalIndex],
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            journal.truncate(journalPosition);
+        }
+        journalPosition = writeRowGroup(journal, journalPosition, rows.subList(journaled, rows.size())).end();
+        journaled = rows.size();
+        //commit 된 ExecutionContext 가 가리키는 item 이 crash 뒤에도 남아 있도록 update 가 끝나기 전에 디스크에 반영한다.
+        journal.force(false);
+    }
+
+    /**
+     * rollback 된 chunk 를 쓰기 전의 상태로 되돌린다.
+     * <p>
+     * 그 사이에 쓴 row group 과 journal 은 잘라내거나, 다음에 쓸 때 checkpoint 의 위치부터 덮어쓴다.
+     * commit 된 ExecutionContext 가 가리키는 위치 앞부분은 건드리지 않는다.
+     **/
+    private void rollback(Checkpoint checkpoint) {
+        position = checkpoint.position;
+        rowGroups.subList(checkpoint.rowGroupCount, rowGroups.size()).clear();
+        rows.clear();
+        rows.addAll(checkpoint.rows);
+        journalIndex = checkpoint.journalIndex;
+        journalPosition = checkpoint.journalPosition;
+        journaled = checkpoint.journaled;
+        journalStale = checkpoint.journalStale;
+        try {
+            //writeJournal 이 journal 을 다시 열면서 journalPosition 뒤를 잘라낸다.
+            closeJournal();
+            if (channel != null) {
+                channel.truncate(position);
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("rollback 된 row group 을 지울 수 없습니다. path=" + path, e);
+        }
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private void deleteJournals() throws IOException {
+        for (Path journalPath : journalPaths) {
+            Files.deleteIfExists(journalPath);
+        }
+    }
+
+    /**
+     * 하나의 transaction(chunk) 에서 처음 쓰기 전의 상태
+     * <p>
+     * commit 되면 버리고, rollback 되면 이 상태로 되돌린다.
+     **/
+    private class Checkpoint implements TransactionSynchronization {
+        private final long position = PlayerSalaryColumnarItemWriter.this.position;
+        private final int rowGroupCount = rowGroups.size();
+        private final List<PlayerSalaryDto> rows = new ArrayList<>(PlayerSalaryColumnarItemWriter.this.rows);
+        private final int journalIndex = PlayerSalaryColumnarItemWriter.this.journalIndex;
+        private final long journalPosition = PlayerSalaryColumnarItemWriter.this.journalPosition;
+        private final int journaled = PlayerSalaryColumnarItemWriter.this.journaled;
+        private final boolean journalStale = PlayerSalaryColumnarItemWriter.this.journalStale;
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(PlayerSalaryColumnarItemWriter.this);
+            if (status != STATUS_COMMITTED) {
+                rollback(this);
+            }
+        }
+    }
+
+    /**
+     * offset 에 row group header 와 컬럼 chunk 들을 쓴다.
+     **/
+    private static RowGroup writeRowGroup(FileChannel target, long offset, List<PlayerSalaryDto> group) throws IOException {
+        byte[][] chunks = new byte[PlayerSalaryColumn.values().length][];
+        RowGroup rowGroup = RowGroup.of(offset, group, chunks);
+
+        ByteBuffer[] buffers = new ByteBuffer[chunks.length + 1];
+        buffers[0] = rowGroup.header();
+        for (int i = 0; i < chunks.length; i++) {
+            buffers[i + 1] = ByteBuffer.wrap(chunks[i]);
+        }
+        writeBuffers(target, offset, buffers);
+        return rowGroup;
+    }
+
+    /**
+     * offset 부터 buffer 들을 차례로 쓰고, 쓴 끝 위치를 반환한다.
+     **/
+    private static long writeBuffers(FileChannel target, long offset, ByteBuffer... buffers) throws IOException {
+        long end = offset;
+        for (ByteBuffer buffer : buffers) {
+            while (buffer.hasRemaining()) {
+                end += target.write(buffer, end);
+            }
+        }
+        return end;
+    }
+}
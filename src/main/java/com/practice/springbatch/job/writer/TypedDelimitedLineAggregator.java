@@ -0,0 +1,144 @@
+package com.practice.springbatch.job.writer;
+
+import org.springframework.batch.item.file.transform.LineAggregator;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.Assert;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * BeanWrapperFieldExtractor + DelimitedLineAggregator 를 대신하는 LineAggregator
+ * <p>
+ * BeanWrapperFieldExtractor 는 item 마다 property 를 BeanWrapper 로 찾고, 값을 boxing 해서 Object[] 에 담은 뒤
+ * DelimitedLineAggregator 가 다시 문자열로 이어 붙인다.
+ * 이 클래스는 생성 시점에 property 마다 getter 를 LambdaMetafactory 로 묶은 타입별 함수(ToIntFunction 등)를 만들어 두고,
+ * item 마다 primitive 값을 boxing 없이 StringBuilder 에 바로 붙인다.
+ * 출력 형식은 BeanWrapperFieldExtractor + DelimitedLineAggregator 와 같다. (null 은 "null")
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class TypedDelimitedLineAggregator<T> implements LineAggregator<T>, LineAppender<T> {
+
+    private final String delimiter;
+    private final LineAppender<T>[] fields;
+
+    //aggregate(T) 호출 마다 StringBuilder 를 새로 만들지 않도록 쓰레드 별로 재사용한다.
+    private final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    private TypedDelimitedLineAggregator(String delimiter, LineAppender<T>[] fields) {
+        this.delimiter = delimiter;
+        this.fields = fields;
+    }
+
+    /**
+     * type 의 property 들을 delimiter 로 이어 한 줄로 만드는 LineAggregator 를 만든다.
+     * <p>
+     * property 이름은 BeanWrapperFieldExtractor 와 같은 규칙(JavaBeans getter)으로 찾는다.
+     * getter 가 없으면 바로 예외를 던진다.
+     * @param type item 타입
+     * @param delimiter 구분자
+     * @param names property 이름
+     * @return TypedDelimitedLineAggregator {@link TypedDelimitedLineAggregator}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @SuppressWarnings("unchecked")
+    public static <T> TypedDelimitedLineAggregator<T> of(Class<T> type, String delimiter, String... names) {
+        Assert.notNull(type, "type 은 필수 값입니다.");
+        Assert.notNull(delimiter, "delimiter 는 필수 값입니다.");
+        Assert.notEmpty(names, "names 는 필수 값입니다.");
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        LineAppender<T>[] fields = new LineAppender[names.length];
+        for (int i = 0; i < names.length; i++) {
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, names[i]);
+            if (descriptor == null || descriptor.getReadMethod() == null) {
+                throw new IllegalArgumentException(type.getName() + " 에 읽을 수 있는 property 가 없습니다. name=" + names[i]);
+            }
+            fields[i] = fieldAppender(lookup, type, descriptor.getReadMethod());
+        }
+        return new TypedDelimitedLineAggregator<>(delimiter, fields);
+    }
+
+    @Override
+    public String aggregate(T item) {
+        StringBuilder out = buffer.get();
+        out.setLength(0);
+        append(item, out);
+        return out.toString();
+    }
+
+    @Override
+    public void append(T item, StringBuilder out) {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.append(delimiter);
+            }
+            fields[i].append(item, out);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> LineAppender<T> fieldAppender(MethodHandles.Lookup lookup, Class<T> type, Method getter) {
+        Class<?> returnType = getter.getReturnType();
+        try {
+            MethodHandle handle = lookup.unreflect(getter);
+            //short, byte 는 int 로 넓혀도 같은 문자열이 된다. char, float 는 달라지므로 boxing 해서 붙인다.
+            if (returnType == int.class || returnType == short.class || returnType == byte.class) {
+                ToIntFunction<T> function = (ToIntFunction<T>) bind(lookup, handle, type,
+                        ToIntFunction.class, "applyAsInt", int.class);
+                return (item, out) -> out.append(function.applyAsInt(item));
+            }
+            if (returnType == long.class) {
+                ToLongFunction<T> function = (ToLongFunction<T>) bind(lookup, handle, type,
+                        ToLongFunction.class, "applyAsLong", long.class);
+                return (item, out) -> out.append(function.applyAsLong(item));
+            }
+            if (returnType == double.class) {
+                ToDoubleFunction<T> function = (ToDoubleFunction<T>) bind(lookup, handle, type,
+                        ToDoubleFunction.class, "applyAsDouble", double.class);
+                return (item, out) -> out.append(function.applyAsDouble(item));
+            }
+            if (returnType == boolean.class) {
+                Predicate<T> function = (Predicate<T>) bind(lookup, handle, type,
+                        Predicate.class, "test", boolean.class);
+                return (item, out) -> out.append(function.test(item));
+            }
+            Function<T, Object> function = (Function<T, Object>) bind(lookup, handle, type,
+                    Function.class, "apply", Object.class);
+            if (returnType == String.class) {
+                return (item, out) -> out.append((String) function.apply(item));
+            }
+            return (item, out) -> out.append(function.apply(item));
+        } catch (Throwable e) {
+            throw new IllegalStateException(getter + " 를 함수로 만들 수 없습니다.", e);
+        }
+    }
+
+    private static Object bind(MethodHandles.Lookup lookup, MethodHandle getter, Class<?> type,
+                               Class<?> functionType, String methodName, Class<?> samReturnType) throws Throwable {
+        MethodType instantiatedType = MethodType.methodType(getter.type().returnType(), type);
+        if (samReturnType == Object.class) {
+            instantiatedType = instantiatedType.wrap();
+        } else {
+            instantiatedType = instantiatedType.changeReturnType(samReturnType);
+        }
+        return LambdaMetafactory.metafactory(
+                lookup,
+                methodName,
+                MethodType.methodType(functionType),
+                MethodType.methodType(samReturnType, Object.class),
+                getter,
+                instantiatedType).getTarget().invoke();
+    }
+}
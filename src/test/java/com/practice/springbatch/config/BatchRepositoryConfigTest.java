@@ -0,0 +1,93 @@
+package com.practice.springbatch.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.HeuristicCompletionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * metadata DataSource 를 분리했을 때 chunk transaction 의 commit 순서 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class BatchRepositoryConfigTest {
+
+    private EmbeddedDatabase metadataDataSource;
+    private EmbeddedDatabase businessDataSource;
+
+    @BeforeEach
+    public void setup() {
+        metadataDataSource = givenDatabase("metadata");
+        businessDataSource = givenDatabase("business");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        metadataDataSource.shutdown();
+        businessDataSource.shutdown();
+    }
+
+    @Test
+    public void chainedTransactionManager_commitsBusinessBeforeMetadata() {
+        //given
+        PlatformTransactionManager transactionManager = BatchRepositoryConfig.SerializerBatchConfigurer.chainedTransactionManager(
+                new DataSourceTransactionManager(metadataDataSource), new DataSourceTransactionManager(businessDataSource));
+
+        //when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            new JdbcTemplate(businessDataSource).update("INSERT INTO record (id) VALUES (1)");
+            new JdbcTemplate(metadataDataSource).update("INSERT INTO record (id) VALUES (1)");
+        });
+
+        //then
+        assertEquals(1, count(businessDataSource));
+        assertEquals(1, count(metadataDataSource));
+    }
+
+    @Test
+    public void chainedTransactionManager_rollsBackMetadataWhenBusinessCommitFails() {
+        //given business commit 이 실패하는 TransactionManager
+        DataSourceTransactionManager failingBusiness = new DataSourceTransactionManager(businessDataSource) {
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {
+                throw new TransactionSystemException("business commit 실패");
+            }
+        };
+        PlatformTransactionManager transactionManager = BatchRepositoryConfig.SerializerBatchConfigurer.chainedTransactionManager(
+                new DataSourceTransactionManager(metadataDataSource), failingBusiness);
+
+        //when
+        HeuristicCompletionException exception = assertThrows(HeuristicCompletionException.class, () ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                        new JdbcTemplate(metadataDataSource).update("INSERT INTO record (id) VALUES (1)")));
+
+        //then 재시작하면 이 chunk 를 다시 처리하도록 metadata 도 commit 되지 않는다.
+        assertEquals(HeuristicCompletionException.STATE_ROLLED_BACK, exception.getOutcomeState());
+        assertEquals(0, count(metadataDataSource));
+    }
+
+    private EmbeddedDatabase givenDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + System.nanoTime())
+                .build();
+        new JdbcTemplate(database).execute("CREATE TABLE record (id INT PRIMARY KEY)");
+        return database;
+    }
+
+    private int count(EmbeddedDatabase database) {
+        return new JdbcTemplate(database).queryForObject("SELECT COUNT(*) FROM record", Integer.class);
+    }
+}
@@ -0,0 +1,180 @@
+package com.practice.springbatch.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BinaryExecutionContextSerializer 의 직렬화 / 기존 JSON 읽기 / 역직렬화 허용 클래스 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class BinaryExecutionContextSerializerTest {
+
+    private final BinaryExecutionContextSerializer serializer = new BinaryExecutionContextSerializer();
+
+    @Test
+    public void roundTrip() throws Exception {
+        //given
+        Map<String, Object> context = new HashMap<>();
+        context.put("amountFileItemReader.offset", 123456789012L);
+        context.put("minValue", -42);
+        context.put("name", "한글 이름");
+        context.put("ratio", 0.75);
+        context.put("done", true);
+        context.put("startTime", new Date(1700000000000L));
+        context.put("bytes", new byte[]{1, 2, 3});
+        context.put("amount", new BigDecimal("12.50"));
+
+        //when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(context, out);
+        String text = out.toString(StandardCharsets.UTF_8);
+        Map<String, Object> result = serializer.deserialize(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+
+        //then 문자열 컬럼에 저장할 수 있도록 Base64 문자만 사용한다.
+        assertTrue(text.matches("[A-Za-z0-9+/=]+"));
+        assertEquals(123456789012L, result.get("amountFileItemReader.offset"));
+        assertEquals(-42, result.get("minValue"));
+        assertEquals("한글 이름", result.get("name"));
+        assertEquals(0.75, result.get("ratio"));
+        assertEquals(true, result.get("done"));
+        assertEquals(new Date(1700000000000L), result.get("startTime"));
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) result.get("bytes"));
+        assertEquals(new BigDecimal("12.50"), result.get("amount"));
+    }
+
+    @Test
+    public void deserialize_readsLegacyJson() throws Exception {
+        //given Jackson 으로 저장된 기존 row
+        Map<String, Object> context = new HashMap<>();
+        context.put("lastId", 10);
+        context.put("name", "plainTextReader");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new Jackson2ExecutionContextStringSerializer().serialize(context, out);
+
+        //when
+        Map<String, Object> result = serializer.deserialize(new ByteArrayInputStream(out.toByteArray()));
+
+        //then
+        assertEquals(10, result.get("lastId"));
+        assertEquals("plainTextReader", result.get("name"));
+    }
+
+    @Test
+    public void serialize_isSmallerThanJson() throws Exception {
+        //given
+        Map<String, Object> context = new HashMap<>();
+        context.put("amountFileItemReader.offset", 1048576L);
+        context.put("batch.taskletType", "org.springframework.batch.core.step.item.ChunkOrientedTasklet");
+        context.put("minValue", 1);
+        context.put("maxValue", 100000);
+
+        //when
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        serializer.serialize(context, binary);
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        new Jackson2ExecutionContextStringSerializer().serialize(context, json);
+
+        //then
+        assertTrue(binary.size() < json.size(), "binary=" + binary.size() + ", json=" + json.size());
+    }
+
+    @Test
+    public void roundTrip_trustedJavaTypes() throws Exception {
+        //given
+        List<Object> values = new ArrayList<>();
+        values.add(LocalDate.of(2026, 10, 18));
+        values.add(new BigDecimal("1.5"));
+        Map<String, Object> context = new HashMap<>();
+        context.put("values", values);
+
+        //when
+        Map<String, Object> result = roundTrip(serializer, serializer, context);
+
+        //then
+        assertEquals(values, result.get("values"));
+    }
+
+    @Test
+    public void serialize_rejectsUntrustedType() {
+        //given
+        Map<String, Object> context = new HashMap<>();
+        context.put("payload", new Payload("value"));
+
+        //when
+        //then 재시작할 때가 아니라 저장할 때 실패한다.
+        assertThrows(IllegalArgumentException.class, () -> serializer.serialize(context, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void deserialize_rejectsUntrustedNestedType() {
+        //given 허용된 컬렉션 안에 허용하지 않은 클래스가 들어 있는 row
+        List<Object> values = new ArrayList<>();
+        values.add(new Payload("value"));
+        Map<String, Object> context = new HashMap<>();
+        context.put("values", values);
+
+        //when
+        //then
+        assertThrows(IOException.class, () -> roundTrip(serializer, serializer, context));
+    }
+
+    @Test
+    public void deserialize_allowsConfiguredPackage() throws Exception {
+        //given
+        BinaryExecutionContextSerializer trusting = new BinaryExecutionContextSerializer(Payload.class.getPackageName());
+        Map<String, Object> context = new HashMap<>();
+        context.put("payload", new Payload("value"));
+
+        //when
+        Map<String, Object> result = roundTrip(trusting, trusting, context);
+
+        //then
+        assertEquals(new Payload("value"), result.get("payload"));
+        //같은 row 도 package 를 허용하지 않은 Serializer 로는 읽지 않는다.
+        assertThrows(IOException.class, () -> roundTrip(trusting, serializer, context));
+    }
+
+    private Map<String, Object> roundTrip(BinaryExecutionContextSerializer writer, BinaryExecutionContextSerializer reader,
+                                          Map<String, Object> context) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.serialize(context, out);
+        return reader.deserialize(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static class Payload implements Serializable {
+        private final String value;
+
+        Payload(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Payload && ((Payload) o).value.equals(value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+}
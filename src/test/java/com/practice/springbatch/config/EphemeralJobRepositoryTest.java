@@ -0,0 +1,144 @@
+package com.practice.springbatch.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * EphemeralJobRepository 의 StepExecution 보관 / 저장 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class EphemeralJobRepositoryTest {
+
+    private JobRepository delegate;
+    private CountingTransactionManager transactionManager;
+    private EphemeralJobRepository jobRepository;
+
+    @BeforeEach
+    public void setup() {
+        delegate = mock(JobRepository.class);
+        transactionManager = new CountingTransactionManager();
+        jobRepository = new EphemeralJobRepository(delegate, transactionManager, Collections.singleton("partitioningJob"));
+    }
+
+    @Test
+    public void ephemeralJob_flushesStepExecutionsWhenJobEnds() {
+        //given
+        JobExecution jobExecution = jobExecution("partitioningJob");
+        StepExecution first = jobExecution.createStepExecution("workerStep:partition0");
+        StepExecution second = jobExecution.createStepExecution("workerStep:partition1");
+
+        List<Long> idsWhenFlushed = new ArrayList<>();
+        List<Boolean> inTransaction = new ArrayList<>();
+        doAnswer(invocation -> {
+            for (StepExecution stepExecution : invocation.<Collection<StepExecution>>getArgument(0)) {
+                idsWhenFlushed.add(stepExecution.getId());
+            }
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).when(delegate).addAll(anyCollection());
+        doAnswer(invocation -> {
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).when(delegate).update(any(JobExecution.class));
+
+        //when 실행 중
+        jobRepository.addAll(Arrays.asList(first, second));
+        jobRepository.update(first);
+        jobRepository.updateExecutionContext(first);
+
+        //then DB 에 쓰지 않고 서로 다른 임시 id 를 가진다.
+        verify(delegate, never()).addAll(anyCollection());
+        verify(delegate, never()).update(any(StepExecution.class));
+        verify(delegate, never()).updateExecutionContext(any(StepExecution.class));
+        assertTrue(first.getId() < 0);
+        assertNotEquals(first.getId(), second.getId());
+
+        //when Job 종료
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        jobExecution.setEndTime(new Date());
+        jobRepository.update(jobExecution);
+
+        //then 저장할 때는 DAO 가 id 를 붙이도록 id 가 비어있다.
+        assertEquals(Arrays.asList(null, null), idsWhenFlushed);
+        verify(delegate).update(jobExecution);
+
+        //then Step 과 Job 의 최종 상태는 한 transaction 에서 저장된다.
+        assertEquals(Arrays.asList(true, true), inTransaction);
+        assertEquals(1, transactionManager.commits);
+    }
+
+    @Test
+    public void runningJob_updatesWithoutTransaction() {
+        //given
+        JobExecution jobExecution = jobExecution("partitioningJob");
+        jobRepository.add(jobExecution.createStepExecution("workerStep:partition0"));
+
+        //when 실행 중인 JobExecution 의 갱신은 delegate 에 그대로 맡긴다.
+        jobRepository.update(jobExecution);
+
+        //then
+        verify(delegate).update(jobExecution);
+        verify(delegate, never()).addAll(anyCollection());
+        assertEquals(0, transactionManager.commits);
+    }
+
+    @Test
+    public void otherJob_delegatesImmediately() {
+        //given
+        JobExecution jobExecution = jobExecution("flatFileJob");
+        StepExecution stepExecution = jobExecution.createStepExecution("flatFileStep");
+
+        //when
+        jobRepository.add(stepExecution);
+        jobRepository.update(stepExecution);
+
+        //then
+        verify(delegate).add(stepExecution);
+        verify(delegate).update(stepExecution);
+        assertNull(stepExecution.getId());
+    }
+
+    private static JobExecution jobExecution(String jobName) {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, jobName), 1L, new JobParameters(), null);
+        jobExecution.setStartTime(new Date());
+        return jobExecution;
+    }
+
+    private static class CountingTransactionManager extends ResourcelessTransactionManager {
+        private int commits;
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits++;
+            super.doCommit(status);
+        }
+    }
+}
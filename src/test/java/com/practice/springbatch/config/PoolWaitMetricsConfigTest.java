@@ -0,0 +1,131 @@
+package com.practice.springbatch.config;
+
+import com.practice.springbatch.job.listener.PoolWaitMetricsListener;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * business / metadata 두 HikariDataSource 에 PoolWaitMetrics 가 등록되는지 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PoolWaitMetricsConfigTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    public void setup() {
+        context = new AnnotationConfigApplicationContext(PoolWaitMetricsConfig.class, TwoPoolConfig.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        context.close();
+    }
+
+    @Test
+    public void postProcessor_registersMetricsOnBothPools() {
+        //given
+        PoolWaitMetrics poolWaitMetrics = context.getBean(PoolWaitMetrics.class);
+
+        //when
+        HikariDataSource dataSource = context.getBean("dataSource", HikariDataSource.class);
+        HikariDataSource batchDataSource = context.getBean("batchDataSource", HikariDataSource.class);
+
+        //then pool 이름이 없으면 Bean 이름을 사용한다.
+        assertSame(poolWaitMetrics, dataSource.getMetricsTrackerFactory());
+        assertSame(poolWaitMetrics, batchDataSource.getMetricsTrackerFactory());
+        assertEquals("dataSource", dataSource.getPoolName());
+        assertEquals("batchDataSource", batchDataSource.getPoolName());
+    }
+
+    @Test
+    public void snapshot_countsAcquiresPerPool() throws Exception {
+        //given
+        PoolWaitMetrics poolWaitMetrics = context.getBean(PoolWaitMetrics.class);
+
+        //when
+        acquire(context.getBean("dataSource", HikariDataSource.class), 2);
+        acquire(context.getBean("batchDataSource", HikariDataSource.class), 1);
+
+        //then
+        Map<String, PoolWaitMetrics.Snapshot> snapshot = poolWaitMetrics.snapshot();
+        assertEquals(2, snapshot.get("dataSource").getAcquireCount());
+        assertEquals(1, snapshot.get("batchDataSource").getAcquireCount());
+        assertEquals(0, snapshot.get("dataSource").getTimeouts());
+        assertTrue(snapshot.get("dataSource").getTotalConnections() >= 1);
+    }
+
+    @Test
+    public void listener_writesStepDeltasUnderPoolName() throws Exception {
+        //given Step 시작 전에 이미 connection 을 얻은 pool
+        HikariDataSource dataSource = context.getBean("dataSource", HikariDataSource.class);
+        HikariDataSource batchDataSource = context.getBean("batchDataSource", HikariDataSource.class);
+        acquire(dataSource, 3);
+        acquire(batchDataSource, 1);
+        PoolWaitMetricsListener listener = new PoolWaitMetricsListener(context.getBean(PoolWaitMetrics.class));
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+        //when
+        listener.beforeStep(stepExecution);
+        acquire(dataSource, 2);
+        listener.afterStep(stepExecution);
+
+        //then Step 이 실행되는 동안의 값만 기록한다.
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        assertEquals(2, executionContext.getLong("dataSourcePool.dataSource.acquireCount"));
+        assertEquals(0, executionContext.getLong("dataSourcePool.dataSource.timeouts"));
+        assertEquals(0, executionContext.getLong("dataSourcePool.batchDataSource.acquireCount"));
+        assertTrue(executionContext.containsKey("dataSourcePool.dataSource.acquireWaitMillis"));
+        assertTrue(executionContext.containsKey("dataSourcePool.batchDataSource.maxAcquireWaitMillis"));
+        assertEquals(0, executionContext.getInt("dataSourcePool.dataSource.pendingThreads"));
+        assertTrue(executionContext.getInt("dataSourcePool.dataSource.totalConnections") >= 1);
+    }
+
+    private void acquire(HikariDataSource dataSource, int times) throws Exception {
+        for (int i = 0; i < times; i++) {
+            try (Connection ignored = dataSource.getConnection()) {
+                //connection 을 얻고 바로 반납한다.
+            }
+        }
+    }
+
+    /**
+     * BatchDataSourceConfig 와 같은 이름의 embedded H2 pool 두 개
+     **/
+    @Configuration
+    static class TwoPoolConfig {
+
+        @Bean
+        public HikariDataSource dataSource() {
+            return hikari("business");
+        }
+
+        @Bean
+        public HikariDataSource batchDataSource() {
+            return hikari("metadata");
+        }
+
+        private static HikariDataSource hikari(String name) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+            dataSource.setMaximumPoolSize(2);
+            return dataSource;
+        }
+    }
+}
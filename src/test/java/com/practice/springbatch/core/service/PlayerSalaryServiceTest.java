@@ -10,6 +10,8 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -49,4 +51,30 @@ public class PlayerSalaryServiceTest {
         //then
         Assertions.assertEquals(result.getSalary(), 43000000);
     }
+
+    /**
+     * PlayerSalaryService:calcSalaries 메소드 Test
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    public void calcSalaries() {
+        //given
+        PlayerDto first = new PlayerDto();
+        first.setID("first");
+        first.setBirthYear(1980);
+        PlayerDto second = new PlayerDto();
+        second.setID("second");
+        second.setBirthYear(1990);
+
+        //when
+        List<PlayerSalaryDto> result = playerSalaryService.calcSalaries(Arrays.asList(first, second), 2023);
+
+        //then
+        Assertions.assertEquals(2, result.size());
+        Assertions.assertEquals("first", result.get(0).getID());
+        Assertions.assertEquals(43000000, result.get(0).getSalary());
+        Assertions.assertEquals("second", result.get(1).getID());
+        Assertions.assertEquals(33000000, result.get(1).getSalary());
+    }
 }
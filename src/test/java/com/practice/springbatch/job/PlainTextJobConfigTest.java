@@ -2,6 +2,7 @@ package com.practice.springbatch.job;
 
 import com.practice.springbatch.BatchTestConfig;
 import com.practice.springbatch.core.domain.PlainText;
+import com.practice.springbatch.core.domain.ResultText;
 import com.practice.springbatch.core.repository.PlainTextRepository;
 import com.practice.springbatch.core.repository.ResultTextRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -10,14 +11,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.test.JobLauncherTestUtils;
 import org.springframework.batch.test.context.SpringBatchTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -71,6 +77,76 @@ public class PlainTextJobConfigTest {
         assertEquals(resultTextRepository.count(), 12);
     }
 
+    @Test
+    public void success_givenPlainText_cursor() throws Exception {
+        // given 다른 테스트가 남긴 행 없이 12개만 둔다.
+        resultTextRepository.deleteAll();
+        plainTextRepository.deleteAll();
+        givenPlainText(12);
+
+        //when
+        JobExecution execution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("readMode", "cursor")
+                .toJobParameters());
+
+        //then
+        assertEquals(execution.getExitStatus(), ExitStatus.COMPLETED);
+        StepExecution stepExecution = execution.getStepExecutions().iterator().next();
+        assertEquals(12, stepExecution.getReadCount());
+        assertEquals(12, stepExecution.getWriteCount());
+
+        //keyset 모드와 같이 id 역순으로 읽어서 저장한다.
+        List<String> texts = resultTextRepository.findAll(Sort.by("id")).stream()
+                .map(ResultText::getText)
+                .collect(Collectors.toList());
+        List<String> expected = IntStream.range(0, 12)
+                .map(num -> 11 - num)
+                .mapToObj(num -> "processed text" + num)
+                .collect(Collectors.toList());
+        assertEquals(expected, texts);
+    }
+
+    @Test
+    public void success_givenPlainText_pushdown() throws Exception {
+        // given
+        givenPlainText(12);
+
+        //when
+        JobExecution execution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("stepMode", "pushdown")
+                .addLong("pushdownRangeSize", 5L)
+                .toJobParameters());
+
+        //then
+        assertEquals(execution.getExitStatus(), ExitStatus.COMPLETED);
+        assertEquals(resultTextRepository.count(), 12);
+        StepExecution stepExecution = execution.getStepExecutions().iterator().next();
+        assertEquals("plainTextPushdownStep", stepExecution.getStepName());
+        assertEquals(12, stepExecution.getReadCount());
+        assertEquals(12, stepExecution.getWriteCount());
+    }
+
+    @Test
+    public void success_givenPlainText_partitioned() throws Exception {
+        // given
+        givenPlainText(12);
+
+        //when
+        JobExecution execution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("stepMode", "partitioned")
+                .toJobParameters());
+
+        //then
+        assertEquals(execution.getExitStatus(), ExitStatus.COMPLETED);
+        assertEquals(resultTextRepository.count(), 12);
+        //Master Step 을 제외한 Worker Step 들이 나눠 읽은 item 의 합
+        int workerReadCount = execution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().startsWith("plainTextWorkerStep"))
+                .mapToInt(StepExecution::getReadCount)
+                .sum();
+        assertEquals(12, workerReadCount);
+    }
+
     private void givenPlainText(Integer count) {
         IntStream.range(0, count)
                 .forEach(
@@ -0,0 +1,89 @@
+package com.practice.springbatch.job.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * EnrichmentCache 의 bulk 조회, LRU, TTL Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class EnrichmentCacheTest {
+
+    private final List<Collection<String>> loadedKeys = new ArrayList<>();
+    private final AtomicLong now = new AtomicLong();
+
+    private EnrichmentCache<String, Double> cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new EnrichmentCache<>(keys -> {
+            loadedKeys.add(new ArrayList<>(keys));
+            Map<String, Double> values = new HashMap<>();
+            for (String key : keys) {
+                if (!key.equals("unknown")) {
+                    values.put(key, 1.5);
+                }
+            }
+            return values;
+        }, 2, 1, TimeUnit.SECONDS, now::get);
+    }
+
+    @Test
+    public void getAll_loadsOnlyMissingKeysOnce() {
+        //given
+        cache.getAll(Arrays.asList("qb", "rb", "qb"));
+
+        //when
+        Map<String, Double> result = cache.getAll(Arrays.asList("qb", "unknown"));
+        cache.getAll(Arrays.asList("unknown"));
+
+        //then 중복 key 는 한 번만, 값이 없는 key 도 다시 조회하지 않는다.
+        assertEquals(Arrays.asList(Arrays.asList("qb", "rb"), Arrays.asList("unknown")), loadedKeys);
+        assertEquals(1.5, result.get("qb"));
+        assertFalse(result.containsKey("unknown"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(2, cache.getLoadCount());
+    }
+
+    @Test
+    public void getAll_evictsLeastRecentlyUsed() {
+        //given
+        cache.getAll(Arrays.asList("qb", "rb"));
+        cache.getAll(Arrays.asList("qb"));
+
+        //when 크기 2를 넘으므로 가장 오래 사용하지 않은 rb 가 제거된다.
+        cache.getAll(Arrays.asList("wr"));
+        cache.getAll(Arrays.asList("qb", "rb"));
+
+        //then
+        assertEquals(Arrays.asList("rb"), loadedKeys.get(2));
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void getAll_reloadsExpiredKeys() {
+        //given
+        cache.getAll(Arrays.asList("qb"));
+
+        //when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        cache.getAll(Arrays.asList("qb"));
+
+        //then
+        assertEquals(2, cache.getLoadCount());
+    }
+}
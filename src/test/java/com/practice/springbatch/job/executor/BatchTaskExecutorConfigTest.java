@@ -0,0 +1,143 @@
+package com.practice.springbatch.job.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BatchTaskExecutorConfig 의 batch.executor.mode 별 TaskExecutor 와 rejection-policy Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class BatchTaskExecutorConfigTest {
+
+    private final BatchTaskExecutorConfig config = new BatchTaskExecutorConfig();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private MonitoredTaskExecutor taskExecutor;
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        release.countDown();
+        if (taskExecutor != null) {
+            taskExecutor.destroy();
+        }
+    }
+
+    @Test
+    public void pooled_reusesNamedPoolThreads() throws Exception {
+        //given
+        taskExecutor = config.taskExecutor("pooled", 2, 100, "block");
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            taskExecutor.execute(() -> threadNames.add(Thread.currentThread().getName()));
+        }
+        awaitCompleted(10);
+
+        //then 10개의 작업을 쓰레드 2개가 나누어 실행한다.
+        assertTrue(threadNames.size() <= 2);
+        assertTrue(threadNames.stream().allMatch(name -> name.startsWith("spring-batch-task-executor-")));
+    }
+
+    @Test
+    public void simple_waitsWhenConcurrencyLimitIsReached() throws Exception {
+        //given
+        taskExecutor = config.taskExecutor("simple", 2, 100, "block");
+        taskExecutor.execute(this::awaitRelease);
+        taskExecutor.execute(this::awaitRelease);
+
+        //when 실행 중인 작업이 2개이므로 세 번째 작업을 넣는 쪽이 기다린다.
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> taskExecutor.execute(() -> { }));
+
+        //then
+        Thread.sleep(200);
+        assertFalse(third.isDone());
+        release.countDown();
+        third.get(5, TimeUnit.SECONDS);
+        awaitCompleted(3);
+    }
+
+    @Test
+    public void virtual_runsTasks() throws Exception {
+        //given virtual thread 를 지원하지 않는 JVM 이라면 pooled 로 동작한다.
+        taskExecutor = config.taskExecutor("virtual", 4, 100, "block");
+
+        //when
+        for (int i = 0; i < 20; i++) {
+            taskExecutor.execute(() -> { });
+        }
+
+        //then
+        awaitCompleted(20);
+        assertEquals(0, taskExecutor.getRejectedCount());
+    }
+
+    @Test
+    public void block_waitsForQueueSpaceInsteadOfRejecting() throws Exception {
+        //given 쓰레드 1개는 실행 중이고 크기 1 인 queue 도 차 있다.
+        taskExecutor = config.taskExecutor("pooled", 1, 1, "block");
+        taskExecutor.execute(this::awaitRelease);
+        taskExecutor.execute(() -> { });
+
+        //when
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> taskExecutor.execute(() -> { }));
+
+        //then queue 에 자리가 날 때까지 기다렸다가 넣는다.
+        Thread.sleep(200);
+        assertFalse(third.isDone());
+        release.countDown();
+        third.get(5, TimeUnit.SECONDS);
+        awaitCompleted(3);
+        assertEquals(0, taskExecutor.getRejectedCount());
+    }
+
+    @Test
+    public void abort_rejectsWhenQueueIsFull() {
+        //given
+        taskExecutor = config.taskExecutor("pooled", 1, 1, "abort");
+        taskExecutor.execute(this::awaitRelease);
+        taskExecutor.execute(() -> { });
+
+        //when
+        //then
+        assertThrows(TaskRejectedException.class, () -> taskExecutor.execute(() -> { }));
+        assertEquals(1, taskExecutor.getRejectedCount());
+    }
+
+    @Test
+    public void unsupportedModeAndPolicy_fail() {
+        //given
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> config.taskExecutor("forkJoin", 1, 1, "block"));
+        assertThrows(IllegalArgumentException.class, () -> config.taskExecutor("pooled", 1, 1, "discard"));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitCompleted(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (taskExecutor.getCompletedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, taskExecutor.getCompletedCount());
+    }
+}
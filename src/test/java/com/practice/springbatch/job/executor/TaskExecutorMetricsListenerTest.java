@@ -0,0 +1,81 @@
+package com.practice.springbatch.job.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * TaskExecutorMetricsListener 가 Step 실행 동안의 작업 수만 기록하는지 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class TaskExecutorMetricsListenerTest {
+
+    private final MonitoredTaskExecutor taskExecutor = new MonitoredTaskExecutor(Executors.newFixedThreadPool(2));
+    private final TaskExecutorMetricsListener listener = new TaskExecutorMetricsListener(taskExecutor);
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        taskExecutor.destroy();
+    }
+
+    @Test
+    public void afterStep_recordsTasksCompletedDuringStep() throws Exception {
+        //given Step 시작 전에 다른 Step 이 작업 3개를 처리했다.
+        runTasks(3);
+        StepExecution stepExecution = givenStepExecution(1L);
+
+        //when
+        listener.beforeStep(stepExecution);
+        runTasks(5);
+        listener.afterStep(stepExecution);
+
+        //then
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        assertEquals(5, executionContext.getLong(TaskExecutorMetricsListener.COMPLETED_KEY));
+        assertEquals(0, executionContext.getLong(TaskExecutorMetricsListener.REJECTED_KEY));
+        assertEquals(0, executionContext.getInt(TaskExecutorMetricsListener.ACTIVE_KEY));
+    }
+
+    @Test
+    public void afterStep_keepsSnapshotPerStepExecution() throws Exception {
+        //given 두 Worker Step 이 Listener 하나를 함께 쓴다.
+        StepExecution first = givenStepExecution(1L);
+        StepExecution second = givenStepExecution(2L);
+
+        //when
+        listener.beforeStep(first);
+        runTasks(2);
+        listener.beforeStep(second);
+        runTasks(4);
+        listener.afterStep(first);
+        listener.afterStep(second);
+
+        //then
+        assertEquals(6, first.getExecutionContext().getLong(TaskExecutorMetricsListener.COMPLETED_KEY));
+        assertEquals(4, second.getExecutionContext().getLong(TaskExecutorMetricsListener.COMPLETED_KEY));
+    }
+
+    private StepExecution givenStepExecution(long id) {
+        return new StepExecution("step", new JobExecution(1L), id);
+    }
+
+    private void runTasks(int count) throws InterruptedException {
+        long target = taskExecutor.getCompletedCount() + count;
+        for (int i = 0; i < count; i++) {
+            taskExecutor.execute(() -> { });
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (taskExecutor.getCompletedCount() < target && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(target, taskExecutor.getCompletedCount());
+    }
+}
@@ -0,0 +1,135 @@
+package com.practice.springbatch.job.file;
+
+import com.practice.springbatch.job.reader.SeekableFlatFileItemReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BGZF 압축과 block 경계로 나눈 구간 읽기 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class BlockGzipTest {
+
+    private static final int LINE_COUNT = 20_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void compress_isReadableAsGzip() throws Exception {
+        //given
+        byte[] data = givenLines().getBytes(StandardCharsets.UTF_8);
+        Path compressed = givenBlockGzip(data);
+
+        //when
+        byte[] inflated;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(compressed))) {
+            inflated = in.readAllBytes();
+        }
+
+        //then
+        assertEquals(Compression.BLOCK_GZIP, Compression.detect(compressed));
+        assertArrayEquals(data, inflated);
+    }
+
+    @Test
+    public void boundaries_splitOnLinesAcrossBlocks() throws Exception {
+        //given
+        Path compressed = givenBlockGzip(givenLines().getBytes(StandardCharsets.UTF_8));
+
+        //when
+        List<Long> boundaries = BlockGzip.boundaries(compressed, 4);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < boundaries.size() - 1; i++) {
+            lines.addAll(readSegment(compressed, boundaries.get(i), boundaries.get(i + 1)));
+        }
+
+        //then
+        assertTrue(boundaries.size() > 2);
+        assertEquals(LINE_COUNT, lines.size()); //구간 경계에서 줄이 빠지거나 두 번 읽히지 않는다.
+        for (int i = 0; i < LINE_COUNT; i++) {
+            assertEquals("line-" + i, lines.get(i));
+        }
+    }
+
+    @Test
+    public void read_gzipRestartFromSavedOffset() throws Exception {
+        //given
+        Path compressed = tempDir.resolve("input.txt.gz");
+        try (GZIPOutputStream out = new GZIPOutputStream(Files.newOutputStream(compressed))) {
+            out.write("a\nb\nc\n".getBytes(StandardCharsets.UTF_8));
+        }
+        ExecutionContext executionContext = new ExecutionContext();
+        SeekableFlatFileItemReader<String> reader = new SeekableFlatFileItemReader<>(compressed, (line, lineNumber) -> line);
+        reader.setName("reader");
+        reader.open(executionContext);
+        reader.read();
+        reader.update(executionContext);
+        reader.close();
+
+        //when
+        SeekableFlatFileItemReader<String> restarted = new SeekableFlatFileItemReader<>(compressed, (line, lineNumber) -> line);
+        restarted.setName("reader");
+        restarted.open(executionContext);
+
+        //then
+        assertEquals(Compression.GZIP, Compression.detect(compressed));
+        assertEquals("b", restarted.read()); //압축을 푼 데이터의 offset 으로 이어서 읽는다.
+        assertEquals("c", restarted.read());
+        restarted.close();
+    }
+
+    private List<String> readSegment(Path path, long start, long end) throws Exception {
+        SeekableFlatFileItemReader<String> reader = new SeekableFlatFileItemReader<>(path, (line, lineNumber) -> line);
+        reader.setName("reader");
+        reader.setStartOffset(start);
+        reader.setEndOffset(end);
+        reader.open(new ExecutionContext());
+
+        List<String> lines = new ArrayList<>();
+        for (String line = reader.read(); line != null; line = reader.read()) {
+            lines.add(line);
+        }
+        reader.close();
+        return lines;
+    }
+
+    private String givenLines() {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            lines.append("line-").append(i).append('\n');
+        }
+        return lines.toString();
+    }
+
+    private Path givenBlockGzip(byte[] data) throws Exception {
+        Path compressed = tempDir.resolve("input.txt.gz");
+        try (FileChannel channel = FileChannel.open(compressed, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            for (ByteBuffer block : BlockGzip.compress(data, Deflater.DEFAULT_COMPRESSION)) {
+                while (block.hasRemaining()) {
+                    channel.write(block);
+                }
+            }
+        }
+        return compressed;
+    }
+}
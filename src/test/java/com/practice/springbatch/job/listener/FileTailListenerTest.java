@@ -0,0 +1,163 @@
+package com.practice.springbatch.job.listener;
+
+import com.practice.springbatch.job.explore.LastCompletedExecutionFinder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * FileTailListener 의 처리 구간 결정 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class FileTailListenerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path input;
+    private LastCompletedExecutionFinder finder;
+    private FileTailListener listener;
+
+    @BeforeEach
+    public void setup() {
+        input = tempDir.resolve("input.txt");
+        finder = mock(LastCompletedExecutionFinder.class);
+        //compress Job Parameter 로 결과 파일이 바뀌고, multiFile 모드는 입력 파일을 읽지 않는다.
+        listener = new FileTailListener(input, finder, jobParameters -> {
+            if ("multiFile".equals(jobParameters.getString("stepMode"))) {
+                return null;
+            }
+            return Boolean.parseBoolean(jobParameters.getString("compress")) ? "output.txt.gz" : "output.txt";
+        });
+    }
+
+    @Test
+    public void tail_processesOnlyAppendedCompleteLines() throws Exception {
+        //given
+        write("header\na\n");
+        ExecutionContext last = run(false);
+        append("b\nc\npartial");
+        givenLastCompleted(last);
+
+        //when
+        ExecutionContext current = run(true);
+
+        //then
+        assertEquals(9L, current.getLong(FileTailListener.FROM_KEY));
+        assertEquals(13L, current.getLong(FileTailListener.TO_KEY)); //아직 개행 문자가 없는 마지막 줄은 제외
+        assertTrue((Boolean) current.get(FileTailListener.APPEND_KEY));
+    }
+
+    @Test
+    public void tail_reprocessesWhenFileWasTruncated() throws Exception {
+        //given
+        write("header\na\nb\n");
+        ExecutionContext last = run(false);
+        write("header\nx\n");
+        givenLastCompleted(last);
+
+        //when
+        ExecutionContext current = run(true);
+
+        //then
+        assertEquals(0L, current.getLong(FileTailListener.FROM_KEY));
+        assertFalse((Boolean) current.get(FileTailListener.APPEND_KEY));
+    }
+
+    @Test
+    public void tail_reprocessesWhenPrefixChanged() throws Exception {
+        //given
+        write("header\na\n");
+        ExecutionContext last = run(false);
+        write("HEADER\na\nb\n");
+        givenLastCompleted(last);
+
+        //when
+        ExecutionContext current = run(true);
+
+        //then
+        assertEquals(0L, current.getLong(FileTailListener.FROM_KEY));
+        assertEquals(11L, current.getLong(FileTailListener.TO_KEY));
+    }
+
+    @Test
+    public void tail_reprocessesWhenOutputTargetDiffers() throws Exception {
+        //given 직전 성공 실행은 압축하지 않은 결과 파일에 썼다.
+        write("header\na\n");
+        ExecutionContext last = run(false);
+        append("b\n");
+        givenLastCompleted(last);
+
+        //when
+        ExecutionContext current = run(new JobParametersBuilder()
+                .addString("tail", "true")
+                .addString("compress", "true")
+                .toJobParameters());
+
+        //then
+        assertEquals(0L, current.getLong(FileTailListener.FROM_KEY));
+        assertFalse((Boolean) current.get(FileTailListener.APPEND_KEY));
+        assertEquals("output.txt.gz", current.getString(FileTailListener.TARGET_KEY));
+    }
+
+    @Test
+    public void tail_recordsNothingWhenInputIsNotRead() throws Exception {
+        //given
+        write("header\na\n");
+
+        //when
+        ExecutionContext current = run(new JobParametersBuilder()
+                .addString("tail", "true")
+                .addString("stepMode", "multiFile")
+                .toJobParameters());
+
+        //then 다음 tail 실행의 from 으로 사용될 to 를 남기지 않는다.
+        assertTrue(current.isEmpty());
+    }
+
+    //finder 는 주어진 조건을 만족할 때만 직전 성공 실행을 돌려준다.
+    @SuppressWarnings("unchecked")
+    private void givenLastCompleted(ExecutionContext last) {
+        when(finder.find(eq("flatFileJob"), any(Predicate.class)))
+                .thenAnswer(invocation -> Optional.of(last).filter(invocation.getArgument(1)));
+    }
+
+    private ExecutionContext run(boolean tail) {
+        return run(new JobParametersBuilder().addString("tail", String.valueOf(tail)).toJobParameters());
+    }
+
+    private ExecutionContext run(JobParameters jobParameters) {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "flatFileJob"), 1L, jobParameters, null);
+        listener.beforeJob(jobExecution);
+        return jobExecution.getExecutionContext();
+    }
+
+    private void write(String content) throws Exception {
+        Files.write(input, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void append(String content) throws Exception {
+        Files.write(input, content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+}
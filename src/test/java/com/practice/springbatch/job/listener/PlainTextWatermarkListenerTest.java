@@ -0,0 +1,152 @@
+package com.practice.springbatch.job.listener;
+
+import com.practice.springbatch.job.explore.LastCompletedExecutionFinder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PlainTextWatermarkListener 의 id 구간 결정 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PlainTextWatermarkListenerTest {
+
+    private EmbeddedDatabase dataSource;
+    private LastCompletedExecutionFinder finder;
+    private PlainTextWatermarkListener listener;
+
+    @BeforeEach
+    public void setup() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("watermark" + System.nanoTime())
+                .build();
+        new JdbcTemplate(dataSource).execute("CREATE TABLE plain_text (id INT PRIMARY KEY, text VARCHAR(255))");
+        finder = mock(LastCompletedExecutionFinder.class);
+        listener = new PlainTextWatermarkListener(dataSource, finder);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    public void incremental_usesLastCompletedUpperBoundAsLowerBound() {
+        //given
+        givenPlainText(5);
+        when(finder.find("plainTextJob", PlainTextWatermarkListener.TO_KEY)).thenReturn(Optional.of(upperBound(3)));
+
+        //when
+        ExecutionContext current = run(incremental().toJobParameters());
+
+        //then
+        assertEquals(3, current.getInt(PlainTextWatermarkListener.FROM_KEY));
+        assertEquals(5, current.getInt(PlainTextWatermarkListener.TO_KEY));
+    }
+
+    @Test
+    public void incremental_processesAllWhenNoPreviousExecution() {
+        //given
+        givenPlainText(5);
+        when(finder.find("plainTextJob", PlainTextWatermarkListener.TO_KEY)).thenReturn(Optional.empty());
+
+        //when
+        ExecutionContext current = run(incremental().toJobParameters());
+
+        //then 하한이 없으면 처음부터 처리한다.
+        assertFalse(current.containsKey(PlainTextWatermarkListener.FROM_KEY));
+        assertEquals(5, current.getInt(PlainTextWatermarkListener.TO_KEY));
+    }
+
+    @Test
+    public void full_ignoresPreviousExecution() {
+        //given
+        givenPlainText(5);
+
+        //when
+        ExecutionContext current = run(new JobParameters());
+
+        //then
+        assertFalse(current.containsKey(PlainTextWatermarkListener.FROM_KEY));
+        assertEquals(5, current.getInt(PlainTextWatermarkListener.TO_KEY));
+        verify(finder, never()).find("plainTextJob", PlainTextWatermarkListener.TO_KEY);
+    }
+
+    @Test
+    public void watermarkLag_lowersUpperBoundButNotBelowLowerBound() {
+        //given
+        givenPlainText(10);
+        when(finder.find("plainTextJob", PlainTextWatermarkListener.TO_KEY)).thenReturn(Optional.of(upperBound(4)));
+
+        //when
+        ExecutionContext lagged = run(incremental().addLong("watermarkLag", 3L).toJobParameters());
+        ExecutionContext clamped = run(incremental().addLong("watermarkLag", 8L).toJobParameters());
+
+        //then
+        assertEquals(7, lagged.getInt(PlainTextWatermarkListener.TO_KEY));
+        assertEquals(4, clamped.getInt(PlainTextWatermarkListener.TO_KEY)); //처리할 행이 없는 빈 구간
+    }
+
+    @Test
+    public void restart_keepsPreviousWindow() {
+        //given 이전 실행에서 (2, 4] 구간을 정했다.
+        givenPlainText(10);
+        JobExecution jobExecution = jobExecution(incremental().toJobParameters());
+        jobExecution.getExecutionContext().putInt(PlainTextWatermarkListener.FROM_KEY, 2);
+        jobExecution.getExecutionContext().putInt(PlainTextWatermarkListener.TO_KEY, 4);
+
+        //when
+        listener.beforeJob(jobExecution);
+
+        //then
+        assertEquals(2, jobExecution.getExecutionContext().getInt(PlainTextWatermarkListener.FROM_KEY));
+        assertEquals(4, jobExecution.getExecutionContext().getInt(PlainTextWatermarkListener.TO_KEY));
+    }
+
+    private ExecutionContext run(JobParameters jobParameters) {
+        JobExecution jobExecution = jobExecution(jobParameters);
+        listener.beforeJob(jobExecution);
+        return jobExecution.getExecutionContext();
+    }
+
+    private JobExecution jobExecution(JobParameters jobParameters) {
+        return new JobExecution(new JobInstance(1L, "plainTextJob"), 1L, jobParameters, null);
+    }
+
+    private JobParametersBuilder incremental() {
+        return new JobParametersBuilder().addString("incremental", "true");
+    }
+
+    private ExecutionContext upperBound(int to) {
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putInt(PlainTextWatermarkListener.TO_KEY, to);
+        return executionContext;
+    }
+
+    private void givenPlainText(int count) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int id = 1; id <= count; id++) {
+            jdbcTemplate.update("INSERT INTO plain_text (id, text) VALUES (?, ?)", id, "text" + id);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.practice.springbatch.job.listener;
+
+import com.practice.springbatch.config.PoolWaitMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 여러 StepExecution 이 PoolWaitMetricsListener 하나를 함께 쓸 때 Step 별 증가분 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PoolWaitMetricsListenerTest {
+
+    @Test
+    public void afterStep_writesDeltaPerStepExecution() {
+        //given worker Step 두 개가 서로 다른 시점에 시작한다.
+        PoolWaitMetrics poolWaitMetrics = mock(PoolWaitMetrics.class);
+        when(poolWaitMetrics.snapshot()).thenReturn(
+                pool(1, 10, 0), //worker0 시작
+                pool(4, 30, 0), //worker1 시작
+                pool(6, 60, 1), //worker0 종료
+                pool(9, 100, 1)); //worker1 종료
+        PoolWaitMetricsListener listener = new PoolWaitMetricsListener(poolWaitMetrics);
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+        StepExecution worker0 = MetaDataInstanceFactory.createStepExecution(jobExecution, "worker0", 1L);
+        StepExecution worker1 = MetaDataInstanceFactory.createStepExecution(jobExecution, "worker1", 2L);
+
+        //when
+        listener.beforeStep(worker0);
+        listener.beforeStep(worker1);
+        listener.afterStep(worker0);
+        listener.afterStep(worker1);
+
+        //then
+        assertEquals(5, worker0.getExecutionContext().getLong("dataSourcePool.dataSource.acquireCount"));
+        assertEquals(50, worker0.getExecutionContext().getLong("dataSourcePool.dataSource.acquireWaitMillis"));
+        assertEquals(1, worker0.getExecutionContext().getLong("dataSourcePool.dataSource.timeouts"));
+        assertEquals(5, worker1.getExecutionContext().getLong("dataSourcePool.dataSource.acquireCount"));
+        assertEquals(70, worker1.getExecutionContext().getLong("dataSourcePool.dataSource.acquireWaitMillis"));
+        assertEquals(1, worker1.getExecutionContext().getLong("dataSourcePool.dataSource.timeouts"));
+    }
+
+    @Test
+    public void afterStep_poolCreatedDuringStep_countsFromZero() {
+        //given Step 이 시작된 뒤에 처음 connection 을 얻은 pool
+        PoolWaitMetrics poolWaitMetrics = mock(PoolWaitMetrics.class);
+        when(poolWaitMetrics.snapshot()).thenReturn(Collections.emptyMap(), pool(3, 20, 0));
+        PoolWaitMetricsListener listener = new PoolWaitMetricsListener(poolWaitMetrics);
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+        //when
+        listener.beforeStep(stepExecution);
+        listener.afterStep(stepExecution);
+
+        //then
+        assertEquals(3, stepExecution.getExecutionContext().getLong("dataSourcePool.dataSource.acquireCount"));
+        assertEquals(20, stepExecution.getExecutionContext().getLong("dataSourcePool.dataSource.acquireWaitMillis"));
+    }
+
+    private Map<String, PoolWaitMetrics.Snapshot> pool(long acquireCount, long acquireMillis, long timeouts) {
+        return Collections.singletonMap("dataSource", new PoolWaitMetrics.Snapshot(acquireCount,
+                TimeUnit.MILLISECONDS.toNanos(acquireMillis), TimeUnit.MILLISECONDS.toNanos(acquireMillis), timeouts, 0, 2, 0));
+    }
+}
@@ -0,0 +1,74 @@
+package com.practice.springbatch.job.mapper;
+
+import com.practice.springbatch.dto.AmountDto;
+import com.practice.springbatch.dto.PlayerDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.file.FlatFileParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * AnnotatedLineMapper 의 한 줄 매핑 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class AnnotatedLineMapperTest {
+
+    @Test
+    public void mapLine_player() throws Exception {
+        //given
+        AnnotatedLineMapper<PlayerDto> mapper = new AnnotatedLineMapper<>(PlayerDto.class);
+
+        //when
+        PlayerDto player = mapper.mapLine("AbduKa00,Abdul-Jabbar,Karim,rb,1974,1996", 2);
+
+        //then
+        assertEquals("AbduKa00", player.getID());
+        assertEquals("Abdul-Jabbar", player.getLastName());
+        assertEquals("Karim", player.getFirstName());
+        assertEquals("rb", player.getPosition());
+        assertEquals(1974, player.getBirthYear());
+        assertEquals(1996, player.getDebutYear());
+    }
+
+    @Test
+    public void mapLine_amountWithTabAndSpaces() throws Exception {
+        //given
+        AnnotatedLineMapper<AmountDto> mapper = new AnnotatedLineMapper<>(AmountDto.class);
+
+        //when
+        AmountDto amount = mapper.mapLine("3\t abc \t -700", 1);
+
+        //then
+        assertEquals(3, amount.getIndex());
+        assertEquals("abc", amount.getName());
+        assertEquals(-700, amount.getAmount());
+    }
+
+    @Test
+    public void mapLine_failsWithLineNumberWhenNumberIsInvalid() {
+        //given
+        AnnotatedLineMapper<PlayerDto> mapper = new AnnotatedLineMapper<>(PlayerDto.class);
+
+        //when
+        FlatFileParseException e = assertThrows(FlatFileParseException.class,
+                () -> mapper.mapLine("AbduKa00,Abdul-Jabbar,Karim,rb,19x4,1996", 7));
+
+        //then
+        assertEquals(7, e.getLineNumber());
+        assertEquals("AbduKa00,Abdul-Jabbar,Karim,rb,19x4,1996", e.getInput());
+    }
+
+    @Test
+    public void mapLine_failsWhenColumnsAreMissing() {
+        //given
+        AnnotatedLineMapper<AmountDto> mapper = new AnnotatedLineMapper<>(AmountDto.class);
+
+        //when
+        FlatFileParseException e = assertThrows(FlatFileParseException.class, () -> mapper.mapLine("1\tabc", 3));
+
+        //then
+        assertEquals(3, e.getLineNumber());
+    }
+}
@@ -0,0 +1,85 @@
+package com.practice.springbatch.job.parallel;
+
+import com.practice.springbatch.dto.AmountDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * MappedAmountItemReader 파싱 및 재시작 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class MappedAmountItemReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void read() throws Exception {
+        //given
+        Path input = givenInput("1\tapple\t100\r\n2\t바나나\t-20\n\n3\tcherry\t3");
+        MappedAmountItemReader reader = givenReader(input);
+        reader.open(new ExecutionContext());
+
+        //when
+        AmountDto first = reader.read();
+        AmountDto second = reader.read();
+        AmountDto third = reader.read();
+
+        //then
+        assertAmount(first, 1, "apple", 100);
+        assertAmount(second, 2, "바나나", -20);
+        assertAmount(third, 3, "cherry", 3);
+        assertNull(reader.read());
+        reader.close();
+    }
+
+    @Test
+    public void restartFromSavedOffset() throws Exception {
+        //given
+        Path input = givenInput("1\ta\t10\n2\tb\t20\n3\tc\t30\n");
+        ExecutionContext executionContext = new ExecutionContext();
+
+        MappedAmountItemReader reader = givenReader(input);
+        reader.open(executionContext);
+        reader.read();
+        reader.update(executionContext);
+        reader.close();
+
+        //when
+        MappedAmountItemReader restarted = givenReader(input);
+        restarted.open(executionContext);
+
+        //then
+        assertAmount(restarted.read(), 2, "b", 20);
+        assertAmount(restarted.read(), 3, "c", 30);
+        assertNull(restarted.read());
+        restarted.close();
+    }
+
+    private Path givenInput(String content) throws Exception {
+        Path input = tempDir.resolve("input.txt");
+        Files.write(input, content.getBytes(StandardCharsets.UTF_8));
+        return input;
+    }
+
+    private MappedAmountItemReader givenReader(Path input) {
+        MappedAmountItemReader reader = new MappedAmountItemReader(input);
+        reader.setName("amountFileItemReader");
+        return reader;
+    }
+
+    private void assertAmount(AmountDto amount, int index, String name, int value) {
+        assertEquals(index, amount.getIndex());
+        assertEquals(name, amount.getName());
+        assertEquals(value, amount.getAmount());
+    }
+}
@@ -0,0 +1,209 @@
+package com.practice.springbatch.job.parallel;
+
+import com.practice.springbatch.BatchTestConfig;
+import com.practice.springbatch.job.executor.BatchTaskExecutorConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MultiThreadStepJobConfig 의 stepMode 별 통합 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest
+@SpringBatchTest
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@ContextConfiguration(classes = {
+        MultiThreadStepJobConfig.class, BatchTestConfig.class, BatchTaskExecutorConfig.class
+})
+public class MultiThreadStepJobConfigTest {
+
+    private static final int ITEM_COUNT = 100;
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    //입력, 결과 파일은 작업 디렉토리의 data/ 대신 임시 디렉토리에 둔다.
+    @TempDir
+    Path tempDir;
+
+    private Path inputFile;
+    private Path outputFile;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        inputFile = tempDir.resolve("input.txt");
+        outputFile = tempDir.resolve("output.txt");
+        Files.write(inputFile, givenLines(1, ITEM_COUNT), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void success_multiThread() throws Exception {
+        //given
+        //when stepMode 가 없으면 chunk 들을 여러 쓰레드가 나누어 처리한다.
+        JobExecution execution = jobLauncherTestUtils.launchJob(jobParameters().toJobParameters());
+
+        //then
+        assertEquals(execution.getExitStatus(), ExitStatus.COMPLETED);
+        StepExecution stepExecution = stepExecution(execution, "multiThreadStep");
+        assertEquals(ITEM_COUNT, stepExecution.getReadCount());
+        assertEquals(ITEM_COUNT, stepExecution.getWriteCount());
+
+        //chunk 의 commit 순서는 쓰레드에 따라 다르지만 모든 줄이 한 번씩 쓰여진다.
+        List<String[]> output = readOutput();
+        assertEquals(IntStream.rangeClosed(1, ITEM_COUNT).boxed().collect(Collectors.toList()),
+                indexes(output).stream().sorted().collect(Collectors.toList()));
+        assertEquals(expectedTotal(1, ITEM_COUNT), total(output));
+    }
+
+    @Test
+    public void success_partitioned() throws Exception {
+        //given
+        //when
+        JobExecution execution = jobLauncherTestUtils.launchJob(jobParameters()
+                .addString("stepMode", "partitioned")
+                .addLong("gridSize", 4L)
+                .toJobParameters());
+
+        //then
+        assertEquals(execution.getExitStatus(), ExitStatus.COMPLETED);
+        assertEquals(ITEM_COUNT, workerReadCount(execution, "amountPartitionWorkerStep"));
+
+        //파티션 파일들이 파티션 번호 순서대로 합쳐져 입력 순서와 같다.
+        List<String[]> output = readOutput();
+        assertEquals(IntStream.rangeClosed(1, ITEM_COUNT).boxed().collect(Collectors.toList()), indexes(output));
+        assertEquals(expectedTotal(1, ITEM_COUNT), total(output));
+        assertTrue(partitionFiles().isEmpty());
+    }
+
+    @Test
+    public void success_pipelined() throws Exception {
+        //given
+        //when
+        JobExecution execution = jobLauncherTestUtils.launchJob(jobParameters()
+                .addString("stepMode", "pipelined")
+                .toJobParameters());
+
+        //then
+        assertEquals(execution.getExitStatus(), ExitStatus.COMPLETED);
+
+        //처리는 병렬로 되지만 쓰는 순서는 읽은 순서와 같다.
+        List<String[]> output = readOutput();
+        assertEquals(IntStream.rangeClosed(1, ITEM_COUNT).boxed().collect(Collectors.toList()), indexes(output));
+        assertEquals(expectedTotal(1, ITEM_COUNT), total(output));
+
+        StepExecution stepExecution = stepExecution(execution, "amountPipelineStep");
+        assertEquals(ITEM_COUNT, stepExecution.getReadCount());
+        assertEquals(ITEM_COUNT, stepExecution.getWriteCount());
+        assertEquals(0, stepExecution.getFilterCount());
+    }
+
+    @Test
+    public void success_multiFile() throws Exception {
+        //given 크기가 다른 세 개의 입력 파일
+        Path inputDir = Files.createDirectories(tempDir.resolve("amounts"));
+        Files.write(inputDir.resolve("amount-a.txt"), givenLines(1, 10), StandardCharsets.UTF_8);
+        Files.write(inputDir.resolve("amount-b.txt"), givenLines(11, 60), StandardCharsets.UTF_8);
+        Files.write(inputDir.resolve("amount-c.txt"), givenLines(61, 75), StandardCharsets.UTF_8);
+
+        //when
+        JobExecution execution = jobLauncherTestUtils.launchJob(jobParameters()
+                .addString("stepMode", "multiFile")
+                .addString("inputDir", inputDir.toString())
+                .addLong("gridSize", 2L)
+                .toJobParameters());
+
+        //then
+        assertEquals(execution.getExitStatus(), ExitStatus.COMPLETED);
+        assertEquals(75, workerReadCount(execution, "amountMultiFileWorkerStep"));
+
+        //파티션 마다 맡은 파일 순서는 다르지만 모든 줄이 한 번씩 합쳐진다.
+        List<String[]> output = readOutput();
+        assertEquals(IntStream.rangeClosed(1, 75).boxed().collect(Collectors.toList()),
+                indexes(output).stream().sorted().collect(Collectors.toList()));
+        assertEquals(expectedTotal(1, 75), total(output));
+        assertTrue(partitionFiles().isEmpty());
+    }
+
+    private JobParametersBuilder jobParameters() {
+        return new JobParametersBuilder()
+                .addString("inputPath", inputFile.toString())
+                .addString("outputPath", outputFile.toString());
+    }
+
+    private StepExecution stepExecution(JobExecution execution, String stepName) {
+        return execution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().equals(stepName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private int workerReadCount(JobExecution execution, String workerStepName) {
+        return execution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().startsWith(workerStepName + ":"))
+                .mapToInt(StepExecution::getReadCount)
+                .sum();
+    }
+
+    private List<String> givenLines(int from, int to) {
+        List<String> lines = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            lines.add(i + "\tname" + i + "\t" + i);
+        }
+        return lines;
+    }
+
+    private List<String[]> readOutput() throws IOException {
+        return Files.readAllLines(outputFile, StandardCharsets.UTF_8).stream()
+                .map(line -> line.split(","))
+                .collect(Collectors.toList());
+    }
+
+    private List<Integer> indexes(List<String[]> output) {
+        return output.stream().map(fields -> Integer.parseInt(fields[0])).collect(Collectors.toList());
+    }
+
+    private long total(List<String[]> output) {
+        return output.stream().mapToLong(fields -> Long.parseLong(fields[2])).sum();
+    }
+
+    //amountFileItemProcessor 가 amount 를 100 배로 만든다.
+    private long expectedTotal(int from, int to) {
+        return LongStream.rangeClosed(from, to).sum() * 100;
+    }
+
+    private List<Path> partitionFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("output-partition"))
+                    .collect(Collectors.toList());
+        }
+    }
+}
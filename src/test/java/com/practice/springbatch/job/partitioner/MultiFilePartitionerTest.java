@@ -0,0 +1,72 @@
+package com.practice.springbatch.job.partitioner;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MultiFilePartitioner 의 크기 기준 분배 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class MultiFilePartitionerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void partition_balancesBySizeAndSplitsLargeFiles() throws Exception {
+        //given
+        givenFile("large.txt", 30, "x\n"); //60 byte
+        givenFile("small1.txt", 5, "x\n"); //10 byte
+        givenFile("small2.txt", 5, "x\n"); //10 byte
+        givenFile("ignored.csv", 5, "x\n");
+        MultiFilePartitioner partitioner = new MultiFilePartitioner(tempDir, "*.txt");
+
+        //when
+        Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+        //then
+        assertEquals(2, partitions.size());
+        List<FileSegment> all = new ArrayList<>();
+        for (ExecutionContext context : partitions.values()) {
+            List<FileSegment> segments = FileSegment.parse(context.getString(MultiFilePartitioner.SEGMENTS_KEY));
+            long bytes = segments.stream().mapToLong(FileSegment::length).sum();
+            assertEquals(40, bytes); //(60 + 10 + 10) / 2
+            all.addAll(segments);
+        }
+        assertEquals(80, all.stream().mapToLong(FileSegment::length).sum());
+        assertTrue(all.stream().noneMatch(segment -> segment.getPath().toString().endsWith(".csv")));
+    }
+
+    @Test
+    public void partition_skipsEmptyPartitions() throws Exception {
+        //given
+        givenFile("only.txt", 1, "x\n");
+        MultiFilePartitioner partitioner = new MultiFilePartitioner(tempDir, "*.txt");
+
+        //when
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        //then
+        assertEquals(1, partitions.size());
+    }
+
+    private void givenFile(String name, int lines, String line) throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            content.append(line);
+        }
+        Files.write(tempDir.resolve(name), content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
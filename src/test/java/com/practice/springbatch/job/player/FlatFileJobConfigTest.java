@@ -5,8 +5,11 @@ import com.practice.springbatch.core.service.PlayerSalaryService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.test.AssertFile;
 import org.springframework.batch.test.JobLauncherTestUtils;
 import org.springframework.batch.test.context.SpringBatchTest;
@@ -17,6 +20,16 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -35,6 +48,9 @@ public class FlatFileJobConfigTest {
     @Autowired
     private JobLauncherTestUtils jobLauncherTestUtils;
 
+    @TempDir
+    Path tempDir;
+
     @Test
     public void success() throws Exception {
         //given
@@ -45,5 +61,74 @@ public class FlatFileJobConfigTest {
         assertEquals(execution.getExitStatus(), ExitStatus.COMPLETED);
         AssertFile.assertFileEquals(new FileSystemResource("player-salary-list.txt"),
                 new FileSystemResource("succeed-player-salary-list.txt"));
+
+        //chunk 단위로 가공해도 쓴 item 만 writeCount 에 기록된다.
+        StepExecution stepExecution = execution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().equals("flatFileStep"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(stepExecution.getReadCount(), stepExecution.getWriteCount());
+        assertEquals(0, stepExecution.getFilterCount());
+    }
+
+    @Test
+    public void success_multiFile() throws Exception {
+        //given player-list.txt 의 Player 들을 두 파일에 나누어 둔다.
+        List<String> lines = Files.readAllLines(Paths.get("player-list.txt"), StandardCharsets.UTF_8);
+        String header = lines.get(0);
+        List<String> players = lines.subList(1, lines.size()).stream()
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.toList());
+        givenPlayerFile("players-a.txt", header, players.subList(0, 2));
+        givenPlayerFile("players-b.txt", header, players.subList(2, players.size()));
+
+        //when
+        JobExecution execution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("stepMode", "multiFile")
+                .addString("inputDir", tempDir.toString())
+                .addLong("gridSize", 2L)
+                .toJobParameters());
+
+        //then 파티션 파일들은 player-salary-list.txt 하나로 합쳐지고 지워진다.
+        assertEquals(execution.getExitStatus(), ExitStatus.COMPLETED);
+        List<String> ids = Files.readAllLines(Paths.get("player-salary-list.txt"), StandardCharsets.UTF_8).stream()
+                .map(line -> line.split("\t")[0])
+                .collect(Collectors.toList());
+        assertEquals(players.size(), ids.size());
+        assertEquals(players.stream().map(line -> line.split(",")[0]).sorted().collect(Collectors.toList()),
+                ids.stream().sorted().collect(Collectors.toList()));
+        assertTrue(partitionFiles().isEmpty());
+    }
+
+    @Test
+    public void fail_multiFileWithColumnarOutput() throws Exception {
+        //given
+        givenPlayerFile("players-a.txt", "ID,lastName,firstName,position,birthYear,debutYear", new ArrayList<>());
+
+        //when
+        JobExecution execution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("stepMode", "multiFile")
+                .addString("outputFormat", "columnar")
+                .addString("inputDir", tempDir.toString())
+                .toJobParameters());
+
+        //then 이어 붙여서 합칠 수 없는 columnar 파일은 multiFile 모드에서 쓰지 않는다.
+        assertEquals(ExitStatus.FAILED.getExitCode(), execution.getExitStatus().getExitCode());
+        assertTrue(partitionFiles().isEmpty());
+    }
+
+    private void givenPlayerFile(String name, String header, List<String> players) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(header);
+        lines.addAll(players);
+        Files.write(tempDir.resolve(name), lines, StandardCharsets.UTF_8);
+    }
+
+    //repository 최상위에 남은 파티션 별 결과 파일(player-salary-list-partition{N}.*)
+    private List<Path> partitionFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get("."))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("player-salary-list-partition"))
+                    .collect(Collectors.toList());
+        }
     }
 }
@@ -0,0 +1,102 @@
+package com.practice.springbatch.job.policy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AdaptiveChunkCompletionPolicy 의 chunk 크기 계산 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class AdaptiveChunkCompletionPolicyTest {
+
+    private AdaptiveChunkCompletionPolicy policy;
+
+    @BeforeEach
+    public void setup() {
+        policy = new AdaptiveChunkCompletionPolicy(5, 1000);
+        policy.setTargetCommitMillis(100);
+    }
+
+    @Test
+    public void nextChunkSize_growsWhenCommitIsFast() {
+        //given 10개를 10ms 에 처리 (목표 100ms)
+        //when
+        int next = policy.nextChunkSize(10, 0, TimeUnit.MILLISECONDS.toNanos(10));
+
+        //then 한 번에 최대 2배까지만 늘어난다.
+        assertEquals(20, next);
+    }
+
+    @Test
+    public void nextChunkSize_shrinksWhenCommitIsSlow() {
+        //given 100개를 150ms 에 처리 (목표 100ms)
+        //when
+        int next = policy.nextChunkSize(100, 0, TimeUnit.MILLISECONDS.toNanos(150));
+
+        //then
+        assertEquals(67, next);
+    }
+
+    @Test
+    public void nextChunkSize_limitedByHeapBudget() {
+        //given item 당 1KB, heap 예산 32KB
+        policy.setHeapBudgetBytes(32 * 1024);
+
+        //when
+        int next = policy.nextChunkSize(20, 20 * 1024, TimeUnit.MILLISECONDS.toNanos(1));
+
+        //then
+        assertEquals(32, next);
+    }
+
+    @Test
+    public void nextChunkSize_staysWithinBounds() {
+        assertEquals(5, policy.nextChunkSize(5, 0, TimeUnit.SECONDS.toNanos(10)));
+        assertEquals(1000, policy.nextChunkSize(800, 0, 1));
+    }
+
+    @Test
+    public void afterStep_keepsStatisticsPerStepExecution() {
+        //given 같은 policy 를 두 partition 이 함께 사용
+        StepExecution first = MetaDataInstanceFactory.createStepExecution("workerStep:partition0", 1L);
+        StepExecution second = MetaDataInstanceFactory.createStepExecution("workerStep:partition1", 2L);
+        policy.beforeStep(first);
+        policy.beforeStep(second);
+
+        //when first 만 chunk 를 처리
+        runChunk(first, 5);
+        policy.afterStep(first);
+        policy.afterStep(second);
+
+        //then
+        assertTrue(first.getExecutionContext().containsKey(AdaptiveChunkCompletionPolicy.AVERAGE_SIZE_KEY));
+        assertFalse(second.getExecutionContext().containsKey(AdaptiveChunkCompletionPolicy.AVERAGE_SIZE_KEY));
+    }
+
+    private void runChunk(StepExecution stepExecution, int items) {
+        StepSynchronizationManager.register(stepExecution);
+        try {
+            ChunkContext chunkContext = new ChunkContext(StepSynchronizationManager.getContext());
+            policy.beforeChunk(chunkContext);
+            RepeatContext context = policy.start(null);
+            for (int i = 0; i < items && !policy.isComplete(context); i++) {
+                policy.update(context);
+            }
+            policy.afterChunk(chunkContext);
+        } finally {
+            StepSynchronizationManager.close();
+        }
+    }
+}
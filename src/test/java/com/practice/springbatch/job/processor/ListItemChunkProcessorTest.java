@@ -0,0 +1,78 @@
+package com.practice.springbatch.job.processor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.step.item.Chunk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ListItemChunkProcessor 의 chunk 가공과 filter / write count Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class ListItemChunkProcessorTest {
+
+    @Test
+    public void process_countsNullResultsAsFiltered() throws Exception {
+        //given 짝수는 filter 된다.
+        List<String> written = new ArrayList<>();
+        List<Integer> calls = new ArrayList<>();
+        ListItemChunkProcessor<Integer, String> processor = new ListItemChunkProcessor<>(items -> {
+            calls.add(items.size());
+            return items.stream().map(item -> item % 2 == 0 ? null : "item" + item).collect(Collectors.toList());
+        }, written::addAll);
+        StepContribution contribution = givenContribution();
+
+        //when
+        processor.process(contribution, new Chunk<>(Arrays.asList(1, 2, 3, 4, 5)));
+
+        //then chunk 전체를 한 번에 가공한다.
+        assertEquals(Arrays.asList(5), calls);
+        assertEquals(Arrays.asList("item1", "item3", "item5"), written);
+        assertEquals(3, contribution.getWriteCount());
+        assertEquals(2, contribution.getFilterCount());
+    }
+
+    @Test
+    public void process_countsChunkWhenAllFiltered() throws Exception {
+        //given
+        List<String> written = new ArrayList<>();
+        ListItemChunkProcessor<Integer, String> processor = new ListItemChunkProcessor<>(
+                items -> Arrays.asList(new String[items.size()]), written::addAll);
+        StepContribution contribution = givenContribution();
+
+        //when
+        processor.process(contribution, new Chunk<>(Arrays.asList(1, 2)));
+
+        //then
+        assertTrue(written.isEmpty());
+        assertEquals(0, contribution.getWriteCount());
+        assertEquals(2, contribution.getFilterCount());
+    }
+
+    @Test
+    public void process_failsWhenResultSizeDiffers() {
+        //given
+        ListItemChunkProcessor<Integer, String> processor = new ListItemChunkProcessor<>(
+                items -> Arrays.asList("item"), items -> { });
+
+        //when
+        //then
+        assertThrows(IllegalStateException.class,
+                () -> processor.process(givenContribution(), new Chunk<>(Arrays.asList(1, 2))));
+    }
+
+    private StepContribution givenContribution() {
+        return new StepExecution("step", new JobExecution(1L)).createStepContribution();
+    }
+}
@@ -0,0 +1,124 @@
+package com.practice.springbatch.job.reader;
+
+import com.practice.springbatch.job.processor.FutureResultItemProcessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * AsyncProcessingItemReader, FutureResultItemProcessor 의 순서 / filter / in-flight 제한 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class AsyncProcessingItemReaderTest {
+
+    private final FutureResultItemProcessor<String> resultProcessor = new FutureResultItemProcessor<>();
+
+    @Test
+    public void read_keepsReadOrderAndPassesFilteredResults() throws Exception {
+        //given 앞의 item 일수록 늦게 끝나고, 3의 배수는 filter 된다.
+        ItemProcessor<Integer, String> processor = item -> {
+            Thread.sleep((6 - item) * 10L);
+            return item % 3 == 0 ? null : "item" + item;
+        };
+        AsyncProcessingItemReader<Integer, String> reader = givenReader(processor, 10, 1, 2, 3, 4, 5);
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Future<String>> futures = new ArrayList<>();
+        for (Future<String> future = reader.read(); future != null; future = reader.read()) {
+            futures.add(future);
+        }
+        List<String> results = new ArrayList<>();
+        for (Future<String> future : futures) {
+            results.add(resultProcessor.process(future));
+        }
+
+        //then
+        assertEquals(Arrays.asList("item1", "item2", null, "item4", "item5"), results);
+        reader.close();
+    }
+
+    @Test
+    public void read_waitsWhenMaxInFlightIsReached() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncProcessingItemReader<Integer, String> reader = givenReader(item -> {
+            release.await();
+            return "item" + item;
+        }, 2, 1, 2, 3);
+        reader.open(new ExecutionContext());
+        reader.read();
+        reader.read();
+
+        //when 처리 중인 item 이 2개이므로 세 번째 read 는 기다린다.
+        CompletableFuture<Future<String>> third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return reader.read();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        //then
+        Thread.sleep(200);
+        assertFalse(third.isDone());
+        release.countDown();
+        assertEquals("item3", resultProcessor.process(third.get(5, TimeUnit.SECONDS)));
+        assertNull(reader.read());
+        reader.close();
+    }
+
+    @Test
+    public void process_rethrowsProcessorException() throws Exception {
+        //given
+        AsyncProcessingItemReader<Integer, String> reader = givenReader(item -> {
+            throw new IllegalArgumentException("처리 실패 " + item);
+        }, 10, 1);
+        reader.open(new ExecutionContext());
+
+        //when
+        Future<String> future = reader.read();
+
+        //then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> resultProcessor.process(future));
+        assertEquals("처리 실패 1", exception.getMessage());
+        reader.close();
+    }
+
+    private AsyncProcessingItemReader<Integer, String> givenReader(ItemProcessor<Integer, String> processor,
+                                                                   int maxInFlight, Integer... items) {
+        return new AsyncProcessingItemReader<>(new ListStreamReader<>(Arrays.asList(items)), processor,
+                new SimpleAsyncTaskExecutor("async-processing-"), maxInFlight);
+    }
+
+    private static class ListStreamReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+        private final Iterator<T> iterator;
+
+        ListStreamReader(List<T> items) {
+            this.iterator = items.iterator();
+        }
+
+        @Override
+        public T read() {
+            return iterator.hasNext() ? iterator.next() : null;
+        }
+    }
+}
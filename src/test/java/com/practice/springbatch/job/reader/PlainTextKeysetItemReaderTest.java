@@ -0,0 +1,122 @@
+package com.practice.springbatch.job.reader;
+
+import com.practice.springbatch.core.domain.PlainText;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * PlainTextKeysetItemReader 의 id DESC keyset 페이징 / 재시작 / id 범위 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PlainTextKeysetItemReaderTest {
+
+    private EmbeddedDatabase dataSource;
+
+    @BeforeEach
+    public void setup() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("keyset" + System.nanoTime())
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE plain_text (id INT PRIMARY KEY, text VARCHAR(255))");
+        for (int id = 1; id <= 7; id++) {
+            jdbcTemplate.update("INSERT INTO plain_text (id, text) VALUES (?, ?)", id, "text" + id);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    public void read_pagesByIdDescending() throws Exception {
+        //given 페이지 크기가 행 수의 약수가 아니어서 마지막 페이지가 덜 찬다.
+        PlainTextKeysetItemReader reader = givenReader(3);
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Integer> ids = readIds(reader);
+
+        //then
+        assertEquals(Arrays.asList(7, 6, 5, 4, 3, 2, 1), ids);
+    }
+
+    @Test
+    public void read_pageSizeEqualToRowCount() throws Exception {
+        //given 마지막 페이지가 꽉 차면 빈 페이지를 한 번 더 조회하고 끝난다.
+        PlainTextKeysetItemReader reader = givenReader(7);
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Integer> ids = readIds(reader);
+
+        //then
+        assertEquals(Arrays.asList(7, 6, 5, 4, 3, 2, 1), ids);
+    }
+
+    @Test
+    public void open_restartsAfterSavedLastId() throws Exception {
+        //given 첫 번째 실행에서 3개를 읽고 상태를 저장했다.
+        ExecutionContext executionContext = new ExecutionContext();
+        PlainTextKeysetItemReader first = givenReader(2);
+        first.open(executionContext);
+        first.read();
+        first.read();
+        first.read();
+        first.update(executionContext);
+        first.close();
+
+        //when
+        PlainTextKeysetItemReader restarted = givenReader(2);
+        restarted.open(executionContext);
+        List<Integer> ids = readIds(restarted);
+
+        //then 마지막으로 읽은 id(5) 다음부터 읽는다.
+        assertEquals(5, executionContext.getInt("plainTextReader.lastId"));
+        assertEquals(Arrays.asList(4, 3, 2, 1), ids);
+    }
+
+    @Test
+    public void read_staysWithinMinAndMaxId() throws Exception {
+        //given 양 끝을 포함하는 id 2 ~ 5
+        PlainTextKeysetItemReader reader = givenReader(2);
+        reader.setMinId(2);
+        reader.setMaxId(5);
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Integer> ids = readIds(reader);
+
+        //then
+        assertEquals(Arrays.asList(5, 4, 3, 2), ids);
+    }
+
+    private PlainTextKeysetItemReader givenReader(int pageSize) {
+        PlainTextKeysetItemReader reader = new PlainTextKeysetItemReader(dataSource, pageSize);
+        reader.setName("plainTextReader");
+        return reader;
+    }
+
+    private List<Integer> readIds(PlainTextKeysetItemReader reader) {
+        List<Integer> ids = new ArrayList<>();
+        for (PlainText item = reader.read(); item != null; item = reader.read()) {
+            ids.add(item.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,252 @@
+package com.practice.springbatch.job.reader;
+
+import com.practice.springbatch.dto.PlayerSalaryDto;
+import com.practice.springbatch.job.file.ColumnarFile;
+import com.practice.springbatch.job.file.ColumnarFile.RowGroup;
+import com.practice.springbatch.job.file.PlayerSalaryColumn;
+import com.practice.springbatch.job.writer.PlayerSalaryColumnarItemWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * PlayerSalaryColumnarItemWriter 로 쓴 파일을 PlayerSalaryColumnarItemReader 로 읽는 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PlayerSalaryColumnarItemReaderTest {
+
+    private static final String[] POSITIONS = {"QB", "RB", "WR", "TE"};
+
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void read_allColumns() throws Exception {
+        //given
+        Path output = tempDir.resolve("salary.psc");
+        List<PlayerSalaryDto> items = givenItems(250);
+        givenWritten(output, items, new ExecutionContext());
+
+        //when
+        List<PlayerSalaryDto> result = readAll(givenReader(output));
+
+        //then
+        assertEquals(items, result);
+    }
+
+    @Test
+    public void read_projectedColumnsAndSkippedRowGroups() throws Exception {
+        //given
+        Path output = tempDir.resolve("salary.psc");
+        givenWritten(output, givenItems(250), new ExecutionContext());
+        PlayerSalaryColumnarItemReader reader = givenReader(output);
+        reader.setColumns(PlayerSalaryColumn.ID, PlayerSalaryColumn.SALARY);
+        reader.addRange(PlayerSalaryColumn.SALARY, 10_150, 10_159);
+
+        //when
+        List<PlayerSalaryDto> result = readAll(reader);
+
+        //then
+        assertEquals(10, result.size());
+        assertEquals("player150", result.get(0).getID());
+        assertEquals(10_150, result.get(0).getSalary());
+        assertNull(result.get(0).getLastName()); //읽지 않은 컬럼은 채우지 않는다.
+        assertNull(result.get(0).getPosition());
+    }
+
+    @Test
+    public void write_rowGroupsSpanCommits() throws Exception {
+        //given
+        Path output = tempDir.resolve("salary.psc");
+        List<PlayerSalaryDto> items = givenItems(250);
+        ExecutionContext executionContext = new ExecutionContext();
+        PlayerSalaryColumnarItemWriter writer = givenWriter(output);
+        writer.open(executionContext);
+
+        //when 30 개씩 commit
+        for (int from = 0; from < items.size(); from += 30) {
+            writer.write(items.subList(from, Math.min(from + 30, items.size())));
+            writer.update(executionContext);
+        }
+        writer.close();
+
+        //then commit 마다 row group 을 끊지 않는다.
+        assertEquals(Arrays.asList(100, 100, 50), rowCounts(output));
+        assertEquals(items, readAll(givenReader(output)));
+        assertTrue(journals().isEmpty());
+    }
+
+    @Test
+    public void write_restartRestoresCommittedItemsFromJournal() throws Exception {
+        //given
+        Path output = tempDir.resolve("salary.psc");
+        List<PlayerSalaryDto> items = givenItems(160);
+        ExecutionContext executionContext = new ExecutionContext();
+
+        PlayerSalaryColumnarItemWriter writer = givenWriter(output);
+        writer.open(executionContext);
+        writer.write(items.subList(0, 60));
+        writer.update(executionContext);
+        writer.write(items.subList(60, 90));
+        writer.update(executionContext); //90 개까지 commit, row group 으로 쓰지 않은 90 개는 journal 에 있다.
+        writer.write(items.subList(90, 120)); //row group 을 쓰고 commit 전에 close 없이 종료
+
+        //when
+        PlayerSalaryColumnarItemWriter restarted = givenWriter(output);
+        restarted.open(executionContext);
+        restarted.write(items.subList(90, 160));
+        restarted.close();
+
+        //then
+        assertEquals(Arrays.asList(100, 60), rowCounts(output));
+        assertEquals(items, readAll(givenReader(output)));
+        assertTrue(journals().isEmpty());
+    }
+
+    @Test
+    public void write_restartDropsUncommittedRowGroups() throws Exception {
+        //given
+        Path output = tempDir.resolve("salary.psc");
+        List<PlayerSalaryDto> items = givenItems(30);
+        ExecutionContext executionContext = new ExecutionContext();
+
+        PlayerSalaryColumnarItemWriter writer = givenWriter(output);
+        writer.open(executionContext);
+        writer.write(items.subList(0, 10));
+        writer.update(executionContext); //10 개까지 commit
+        writer.write(items.subList(10, 20)); //commit 전에 실패
+        writer.close(); //journal 을 지우고 20 개를 row group 으로 쓴다.
+
+        //when
+        PlayerSalaryColumnarItemWriter restarted = givenWriter(output);
+        restarted.open(executionContext);
+        restarted.write(items.subList(10, 30));
+        restarted.close();
+
+        //then
+        assertEquals(items, readAll(givenReader(output)));
+    }
+
+    @Test
+    public void write_rollbackDiscardsChunkAndRowGroups() throws Exception {
+        //given 60 개까지 commit
+        Path output = tempDir.resolve("salary.psc");
+        List<PlayerSalaryDto> items = givenItems(130);
+        ExecutionContext executionContext = new ExecutionContext();
+        PlayerSalaryColumnarItemWriter writer = givenWriter(output);
+        writer.open(executionContext);
+        commit(writer, items.subList(0, 60), executionContext);
+
+        //when row group 을 쓴 chunk 가 rollback 된 뒤 같은 chunk 를 다시 commit
+        transactionTemplate.executeWithoutResult(status -> {
+            write(writer, items.subList(60, 120));
+            writer.update(new ExecutionContext(executionContext));
+            status.setRollbackOnly();
+        });
+        commit(writer, items.subList(60, 120), executionContext);
+
+        //then close 없이 종료되어도 재시작하면 commit 된 item 만 한 번씩 남는다.
+        PlayerSalaryColumnarItemWriter restarted = givenWriter(output);
+        restarted.open(executionContext);
+        restarted.write(items.subList(120, 130));
+        restarted.close();
+        assertEquals(Arrays.asList(100, 30), rowCounts(output));
+        assertEquals(items, readAll(givenReader(output)));
+        assertTrue(journals().isEmpty());
+    }
+
+    private void commit(PlayerSalaryColumnarItemWriter writer, List<PlayerSalaryDto> chunk, ExecutionContext executionContext) {
+        transactionTemplate.executeWithoutResult(status -> {
+            write(writer, chunk);
+            writer.update(executionContext);
+        });
+    }
+
+    private void write(PlayerSalaryColumnarItemWriter writer, List<PlayerSalaryDto> chunk) {
+        try {
+            writer.write(chunk);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<PlayerSalaryDto> givenItems(int count) {
+        List<PlayerSalaryDto> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PlayerSalaryDto item = new PlayerSalaryDto();
+            item.setID("player" + i);
+            item.setLastName("last" + (i % 7));
+            item.setFirstName("first" + i);
+            item.setPosition(i % 11 == 0 ? null : POSITIONS[i % POSITIONS.length]);
+            item.setBirthYear(1980 + i % 20);
+            item.setDebutYear(2000 + i % 20);
+            item.setSalary(10_000 + i);
+            items.add(item);
+        }
+        return items;
+    }
+
+    private void givenWritten(Path output, List<PlayerSalaryDto> items, ExecutionContext executionContext) throws Exception {
+        PlayerSalaryColumnarItemWriter writer = givenWriter(output);
+        writer.open(executionContext);
+        writer.write(items);
+        writer.close();
+    }
+
+    private PlayerSalaryColumnarItemWriter givenWriter(Path output) {
+        PlayerSalaryColumnarItemWriter writer = new PlayerSalaryColumnarItemWriter(output);
+        writer.setName("writer");
+        writer.setRowGroupSize(100);
+        return writer;
+    }
+
+    private List<Integer> rowCounts(Path output) throws Exception {
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.READ)) {
+            return ColumnarFile.readFooter(channel, output).stream()
+                    .map(RowGroup::getRowCount)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private List<Path> journals() throws Exception {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(file -> file.getFileName().toString().contains(".pending"))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private PlayerSalaryColumnarItemReader givenReader(Path output) {
+        PlayerSalaryColumnarItemReader reader = new PlayerSalaryColumnarItemReader(output);
+        reader.setName("reader");
+        return reader;
+    }
+
+    private List<PlayerSalaryDto> readAll(PlayerSalaryColumnarItemReader reader) throws Exception {
+        reader.open(new ExecutionContext());
+        List<PlayerSalaryDto> items = new ArrayList<>();
+        for (PlayerSalaryDto item = reader.read(); item != null; item = reader.read()) {
+            items.add(item);
+        }
+        reader.close();
+        return items;
+    }
+}
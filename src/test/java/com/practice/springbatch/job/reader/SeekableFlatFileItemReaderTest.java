@@ -0,0 +1,102 @@
+package com.practice.springbatch.job.reader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * SeekableFlatFileItemReader 의 줄 읽기 및 재시작 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class SeekableFlatFileItemReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void read_skipsBomHeaderAndEmptyLines() throws Exception {
+        //given
+        Path input = givenInput("﻿header\r\nfirst\r\n\n두번째\nlast");
+        SeekableFlatFileItemReader<String> reader = givenReader(input);
+        reader.open(new ExecutionContext());
+
+        //when
+        String first = reader.read();
+        String second = reader.read();
+        String last = reader.read();
+
+        //then
+        assertEquals("first:2", first);
+        assertEquals("두번째:4", second);
+        assertEquals("last:5", last);
+        assertNull(reader.read());
+        reader.close();
+    }
+
+    @Test
+    public void restartFromSavedOffset() throws Exception {
+        //given
+        Path input = givenInput("header\na\nb\nc\n");
+        ExecutionContext executionContext = new ExecutionContext();
+
+        SeekableFlatFileItemReader<String> reader = givenReader(input);
+        reader.open(executionContext);
+        reader.read();
+        reader.update(executionContext);
+        reader.close();
+
+        //when
+        SeekableFlatFileItemReader<String> restarted = givenReader(input);
+        restarted.open(executionContext);
+
+        //then
+        assertEquals(9L, executionContext.getLong("reader.offset")); //"header\n" + "a\n"
+        assertEquals("b:3", restarted.read()); //header 를 다시 건너뛰지 않고 저장된 위치부터 읽는다.
+        assertEquals("c:4", restarted.read());
+        assertNull(restarted.read());
+        restarted.close();
+    }
+
+    @Test
+    public void restart_failsWhenCharsetChanged() throws Exception {
+        //given
+        Path input = givenInput("header\na\n");
+        ExecutionContext executionContext = new ExecutionContext();
+        SeekableFlatFileItemReader<String> reader = givenReader(input);
+        reader.open(executionContext);
+        reader.update(executionContext);
+        reader.close();
+
+        //when
+        SeekableFlatFileItemReader<String> restarted = givenReader(input);
+        restarted.setCharset(Charset.forName("EUC-KR"));
+
+        //then
+        assertThrows(ItemStreamException.class, () -> restarted.open(executionContext));
+    }
+
+    private Path givenInput(String content) throws Exception {
+        Path input = tempDir.resolve("input.txt");
+        Files.write(input, content.getBytes(StandardCharsets.UTF_8));
+        return input;
+    }
+
+    private SeekableFlatFileItemReader<String> givenReader(Path input) {
+        SeekableFlatFileItemReader<String> reader =
+                new SeekableFlatFileItemReader<>(input, (line, lineNumber) -> line + ":" + lineNumber);
+        reader.setName("reader");
+        reader.setLinesToSkip(1);
+        return reader;
+    }
+}
@@ -0,0 +1,89 @@
+package com.practice.springbatch.job.tasklet;
+
+import com.practice.springbatch.job.partitioner.FileByteRangePartitioner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PartitionFileMergeTasklet 이 합칠 파티션을 찾는 범위 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class PartitionFileMergeTaskletTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void execute_mergesCurrentExecutionWorkersNotYetStored() throws Exception {
+        //given JobExplorer 에는 현재 실행의 Worker Step 이 아직 없다. (EphemeralJobRepository)
+        JobInstance jobInstance = new JobInstance(1L, "multiThreadStepJob");
+        JobExecution current = new JobExecution(jobInstance, 2L, new JobParameters(), null);
+        givenWorker(current, 0, "first\n");
+        givenWorker(current, 1, "second\n");
+        JobExplorer jobExplorer = mock(JobExplorer.class);
+        when(jobExplorer.getJobExecutions(jobInstance))
+                .thenReturn(Collections.singletonList(new JobExecution(jobInstance, 2L, new JobParameters(), null)));
+
+        //when
+        Path target = execute(jobExplorer, current);
+
+        //then
+        assertEquals(Arrays.asList("first", "second"), Files.readAllLines(target, StandardCharsets.UTF_8));
+        assertFalse(Files.exists(partitionPath(0)));
+        assertFalse(Files.exists(partitionPath(1)));
+    }
+
+    @Test
+    public void execute_mergesPreviousExecutionWorkersOnRestart() throws Exception {
+        //given 이전 실행에서 Worker Step 이 끝나고 merge Step 만 실패했다.
+        JobInstance jobInstance = new JobInstance(1L, "multiThreadStepJob");
+        JobExecution previous = new JobExecution(jobInstance, 1L, new JobParameters(), null);
+        givenWorker(previous, 0, "first\n");
+        JobExecution current = new JobExecution(jobInstance, 2L, new JobParameters(), null);
+        JobExplorer jobExplorer = mock(JobExplorer.class);
+        when(jobExplorer.getJobExecutions(jobInstance)).thenReturn(Arrays.asList(current, previous));
+
+        //when
+        Path target = execute(jobExplorer, current);
+
+        //then
+        assertEquals(Collections.singletonList("first"), Files.readAllLines(target, StandardCharsets.UTF_8));
+    }
+
+    private Path execute(JobExplorer jobExplorer, JobExecution current) throws Exception {
+        Path target = tempDir.resolve("output.txt");
+        PartitionFileMergeTasklet tasklet = new PartitionFileMergeTasklet(jobExplorer, target, this::partitionPath, "workerStep");
+        StepExecution mergeStep = current.createStepExecution("mergeStep");
+        tasklet.execute(mergeStep.createStepContribution(), new ChunkContext(new StepContext(mergeStep)));
+        return target;
+    }
+
+    private void givenWorker(JobExecution jobExecution, int partitionIndex, String content) throws Exception {
+        StepExecution worker = jobExecution.createStepExecution("workerStep:partition" + partitionIndex);
+        worker.getExecutionContext().putInt(FileByteRangePartitioner.PARTITION_INDEX_KEY, partitionIndex);
+        Files.write(partitionPath(partitionIndex), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path partitionPath(int partitionIndex) {
+        return tempDir.resolve("output-partition" + partitionIndex + ".txt");
+    }
+}
@@ -0,0 +1,206 @@
+package com.practice.springbatch.job.writer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.WriteFailedException;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AsyncFileItemWriter 의 commit 시점 쓰기, 순서, 재시작, 오류 전달 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class AsyncFileItemWriterTest {
+
+    private static final int CHUNK_SIZE = 10;
+
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+
+    @TempDir
+    Path tempDir;
+
+    private AsyncFileItemWriter<String> writer;
+
+    @AfterEach
+    public void tearDown() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void write_keepsChunksTogetherUnderConcurrentChunks() throws Exception {
+        //given 8개의 쓰레드가 chunk 를 25개씩 쓴다.
+        Path path = tempDir.resolve("output.txt");
+        writer = givenWriter(path);
+        writer.setQueueCapacity(2); //queue 가 차서 넣는 쪽이 기다리는 경우도 만든다.
+        writer.open(new ExecutionContext());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            int threadIndex = thread;
+            futures.add(executor.submit(() -> {
+                for (int chunk = 0; chunk < 25; chunk++) {
+                    List<String> items = chunk("t" + threadIndex + "-c" + chunk);
+                    transactionTemplate.executeWithoutResult(status -> write(items));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        writer.close();
+
+        //then chunk 의 줄들은 섞이지 않고, 쓰레드마다 commit 한 순서대로 쓰여진다.
+        List<String> lines = readLines(path);
+        assertEquals(8 * 25 * CHUNK_SIZE, lines.size());
+        Map<String, Integer> lastChunk = new HashMap<>();
+        for (int start = 0; start < lines.size(); start += CHUNK_SIZE) {
+            String prefix = lines.get(start).substring(0, lines.get(start).lastIndexOf('-'));
+            assertEquals(chunk(prefix), lines.subList(start, start + CHUNK_SIZE));
+
+            String thread = prefix.substring(0, prefix.indexOf('-'));
+            int chunkIndex = Integer.parseInt(prefix.substring(prefix.indexOf("-c") + 2));
+            assertEquals(lastChunk.getOrDefault(thread, -1) + 1, chunkIndex);
+            lastChunk.put(thread, chunkIndex);
+        }
+    }
+
+    @Test
+    public void write_flushesBeforeCommitAndDiscardsRollback() throws Exception {
+        //given
+        Path path = tempDir.resolve("output.txt");
+        writer = givenWriter(path);
+        writer.open(new ExecutionContext());
+
+        //when commit 전에는 파일에 쓰지 않는다.
+        List<Long> sizesBeforeCommit = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            write(chunk("committed"));
+            sizesBeforeCommit.add(size(path));
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            write(chunk("rolledBack"));
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertEquals(Arrays.asList(0L), sizesBeforeCommit);
+        assertEquals(chunk("committed"), readLines(path));
+    }
+
+    @Test
+    public void open_truncatesToSavedPositionOnRestart() throws Exception {
+        //given 첫 번째 chunk 까지 commit 하고 위치를 저장했다.
+        Path path = tempDir.resolve("output.txt");
+        ExecutionContext executionContext = new ExecutionContext();
+        writer = givenWriter(path);
+        writer.open(executionContext);
+        transactionTemplate.executeWithoutResult(status -> {
+            write(chunk("first"));
+            writer.update(executionContext);
+        });
+
+        //두 번째 chunk 는 파일에 쓰여졌지만 위치를 저장하기 전에 실패했다.
+        transactionTemplate.executeWithoutResult(status -> write(chunk("second")));
+        writer.close();
+        assertEquals(CHUNK_SIZE * 2, readLines(path).size());
+
+        //when
+        writer = givenWriter(path);
+        writer.open(executionContext);
+        transactionTemplate.executeWithoutResult(status -> write(chunk("third")));
+        writer.close();
+
+        //then 저장된 위치 이후는 버리고 이어서 쓴다.
+        List<String> expected = new ArrayList<>(chunk("first"));
+        expected.addAll(chunk("third"));
+        assertEquals(expected, readLines(path));
+    }
+
+    @Test
+    public void write_rethrowsWriterThreadFailure() {
+        //given 쓰기 쓰레드가 사용하는 channel 을 닫아 쓰기가 실패하게 한다.
+        writer = givenWriter(tempDir.resolve("output.txt"));
+        writer.open(new ExecutionContext());
+        closeChannel(writer);
+
+        //when
+        WriteFailedException exception = assertThrows(WriteFailedException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> write(chunk("failed"))));
+
+        //then 쓰기 쓰레드의 IOException 이 chunk 쓰레드로 전달된다.
+        assertTrue(exception.getCause() instanceof ClosedChannelException);
+        assertTrue(exception.getMessage().contains("output.txt"));
+    }
+
+    private AsyncFileItemWriter<String> givenWriter(Path path) {
+        AsyncFileItemWriter<String> asyncWriter = new AsyncFileItemWriter<>(path, item -> item);
+        asyncWriter.setLineSeparator("\n");
+        return asyncWriter;
+    }
+
+    private void write(List<String> items) {
+        try {
+            writer.write(items);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<String> chunk(String prefix) {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            items.add(prefix + "-" + i);
+        }
+        return items;
+    }
+
+    private void closeChannel(AsyncFileItemWriter<String> asyncWriter) {
+        try {
+            ((FileChannel) ReflectionTestUtils.getField(asyncWriter, "channel")).close();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<String> readLines(Path path) throws IOException {
+        return Files.readAllLines(path, StandardCharsets.UTF_8);
+    }
+}
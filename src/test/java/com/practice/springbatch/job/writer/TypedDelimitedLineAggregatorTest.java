@@ -0,0 +1,72 @@
+package com.practice.springbatch.job.writer;
+
+import com.practice.springbatch.dto.AmountDto;
+import com.practice.springbatch.dto.PlayerDto;
+import com.practice.springbatch.dto.PlayerSalaryDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.file.transform.BeanWrapperFieldExtractor;
+import org.springframework.batch.item.file.transform.DelimitedLineAggregator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * TypedDelimitedLineAggregator 가 BeanWrapperFieldExtractor + DelimitedLineAggregator 와 같은 줄을 만드는지 Test
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class TypedDelimitedLineAggregatorTest {
+
+    @Test
+    public void aggregate_sameAsBeanWrapper_playerSalary() {
+        //given
+        PlayerDto player = new PlayerDto();
+        player.setID("AbduKa00");
+        player.setLastName("Abdul-Jabbar");
+        player.setFirstName("Karim");
+        PlayerSalaryDto item = PlayerSalaryDto.of(player, 49000000);
+
+        String[] names = {"ID", "firstName", "lastName", "salary"};
+        TypedDelimitedLineAggregator<PlayerSalaryDto> aggregator = TypedDelimitedLineAggregator.of(PlayerSalaryDto.class, "\t", names);
+
+        //when
+        String line = aggregator.aggregate(item);
+
+        //then
+        assertEquals(beanWrapperLine(item, "\t", names), line);
+        assertEquals("AbduKa00\tKarim\tAbdul-Jabbar\t49000000", line);
+    }
+
+    @Test
+    public void append_sameAsBeanWrapper_amountWithNull() {
+        //given name 이 null 인 item
+        AmountDto item = new AmountDto();
+        item.setIndex(7);
+        item.setAmount(-300);
+
+        String[] names = {"index", "name", "amount"};
+        TypedDelimitedLineAggregator<AmountDto> aggregator = TypedDelimitedLineAggregator.of(AmountDto.class, ",", names);
+
+        //when
+        StringBuilder out = new StringBuilder("prefix|");
+        aggregator.append(item, out);
+
+        //then
+        assertEquals("prefix|" + beanWrapperLine(item, ",", names), out.toString());
+    }
+
+    @Test
+    public void of_failsWhenPropertyNotFound() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TypedDelimitedLineAggregator.of(AmountDto.class, ",", "index", "unknown"));
+    }
+
+    private static <T> String beanWrapperLine(T item, String delimiter, String[] names) {
+        BeanWrapperFieldExtractor<T> fieldExtractor = new BeanWrapperFieldExtractor<>();
+        fieldExtractor.setNames(names);
+        DelimitedLineAggregator<T> lineAggregator = new DelimitedLineAggregator<>();
+        lineAggregator.setDelimiter(delimiter);
+        lineAggregator.setFieldExtractor(fieldExtractor);
+        return lineAggregator.aggregate(item);
+    }
+}